@@ -0,0 +1,402 @@
+package main;
+
+import main.attributes.Ability;
+import main.attributes.AbilityType;
+import main.attributes.Level;
+import main.attributes.Mana;
+import main.attributes.UncappedHealthPower;
+import main.legends.Hero;
+import main.legends.MonsterTemplate;
+import main.legends.MonsterType;
+import main.legends.Paladin;
+import main.legends.Sorcerer;
+import main.legends.Warrior;
+import main.market_and_gear.Armor;
+import main.market_and_gear.FireSpell;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.IceSpell;
+import main.market_and_gear.LightningSpell;
+import main.market_and_gear.Potion;
+import main.market_and_gear.Spell;
+import main.market_and_gear.Weapon;
+import main.utils.Coffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Class CatalogSnapshot saves a GameCatalog to a binary file, and loads it back much faster
+ * than the data files can be parsed.
+ *
+ * The file starts with a header: a magic number, the format version, a CRC32 checksum of
+ * everything after the header, and the number of Heroes, MonsterTemplates and GearItems.
+ * Then comes the offset of every record, followed by the records themselves.
+ *
+ * Loading memory-maps the file, checks the header and checksum, and then decodes every
+ * record, since the first game uses all of them anyway. A snapshot that is not
+ * newer than every data file it was compiled from is ignored, as is one with a data file
+ * missing, or with the wrong version or checksum. The GameCatalog is then read from the
+ * data files instead.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public final class CatalogSnapshot {
+    public static final int magic = 0x4C564354; // "LVCT"
+    public static final int version = 1;
+    private static final int headerSize = 4 + 4 + 8 + 4 + 4 + 4;
+
+    // Kinds of record
+    private static final byte paladin = 0;
+    private static final byte sorcerer = 1;
+    private static final byte warrior = 2;
+    private static final byte weapon = 0;
+    private static final byte armor = 1;
+    private static final byte potion = 2;
+    private static final byte iceSpell = 3;
+    private static final byte fireSpell = 4;
+    private static final byte lightningSpell = 5;
+
+    /**
+     * Private constructor: this class only has static methods
+     */
+    private CatalogSnapshot() {
+    }
+
+    /**
+     * Writes the passed in GameCatalog to a snapshot file
+     * @param catalog the catalog to write
+     * @param file the snapshot file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(GameCatalog catalog, File file) throws IOException {
+        List<Hero> heroes = catalog.newHeroes();
+        List<MonsterTemplate> templates = catalog.getMonsterTemplates();
+        List<GearItem> gearItems = catalog.getGearItems();
+        int numRecords = heroes.size() + templates.size() + gearItems.size();
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        int[] offsets = new int[numRecords];
+        int recordsStart = headerSize + 4 * numRecords;
+        int r = 0;
+        for(Hero hero : heroes) {
+            offsets[r++] = recordsStart + records.size();
+            writeHero(records, hero);
+        }
+        for(MonsterTemplate template : templates) {
+            offsets[r++] = recordsStart + records.size();
+            writeMonster(records, template);
+        }
+        for(GearItem item : gearItems) {
+            offsets[r++] = recordsStart + records.size();
+            writeGearItem(records, item);
+        }
+        records.flush();
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        for(int offset : offsets) {
+            payload.writeInt(offset);
+        }
+        recordBytes.writeTo(payload);
+        payload.flush();
+        CRC32 crc = new CRC32();
+        crc.update(payloadBytes.toByteArray());
+
+        try(DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(magic);
+            out.writeInt(version);
+            out.writeLong(crc.getValue());
+            out.writeInt(heroes.size());
+            out.writeInt(templates.size());
+            out.writeInt(gearItems.size());
+            payloadBytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Loads the GameCatalog from a snapshot file, unless the snapshot can't be used
+     * @param file the snapshot file
+     * @param sources the data files the snapshot was compiled from
+     * @return the GameCatalog, or null if the snapshot is missing, not newer than every one of
+     * the data files, or damaged, or if one of the data files is missing
+     */
+    public static GameCatalog read(File file, List<File> sources) {
+        if(!file.isFile()) {
+            return null;
+        }
+        for(File source : sources) {
+            if(!source.isFile() || source.lastModified() >= file.lastModified()) {
+                return null; // out of date, or the data files have moved
+            }
+        }
+
+        ByteBuffer buffer;
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        if(buffer.capacity() < headerSize || buffer.getInt(0) != magic || buffer.getInt(4) != version) {
+            System.err.println("Ignoring " + file + ": not a version " + version + " catalog snapshot");
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(headerSize);
+        crc.update(payload);
+        if(crc.getValue() != buffer.getLong(8)) {
+            System.err.println("Ignoring " + file + ": checksum mismatch");
+            return null;
+        }
+
+        int numHeroes = buffer.getInt(16);
+        int numTemplates = buffer.getInt(20);
+        int numGearItems = buffer.getInt(24);
+        List<Hero> heroes = readRecords(buffer, 0, numHeroes, CatalogSnapshot::readHero);
+        List<MonsterTemplate> templates = readRecords(buffer, numHeroes, numTemplates, CatalogSnapshot::readMonster);
+        List<GearItem> gearItems = readRecords(buffer, numHeroes + numTemplates, numGearItems, CatalogSnapshot::readGearItem);
+        return new GameCatalog(heroes, templates, gearItems);
+    }
+
+    /**
+     * Helper function which writes a Hero record
+     * @param out where to write
+     * @param hero the Hero, as read from the data files
+     * @throws IOException if the record can't be written
+     */
+    private static void writeHero(DataOutputStream out, Hero hero) throws IOException {
+        if(hero instanceof Paladin) {
+            out.writeByte(paladin);
+        } else if(hero instanceof Sorcerer) {
+            out.writeByte(sorcerer);
+        } else if(hero instanceof Warrior) {
+            out.writeByte(warrior);
+        } else {
+            throw new IOException("Unknown hero type: " + hero.getClass().getSimpleName());
+        }
+        writeString(out, hero.getName());
+        out.writeDouble(hero.getMana().getFullAmount());
+        out.writeDouble(hero.getStrength().getAbilityValue());
+        out.writeDouble(hero.getAgility().getAbilityValue());
+        out.writeDouble(hero.getDexterity().getAbilityValue());
+        out.writeInt(hero.getCoffer().getNumCoins());
+        out.writeInt(hero.getExperience().getExperience());
+    }
+
+    /**
+     * Helper function which decodes a Hero record, the same way LegendList.readHeroFile() builds a Hero
+     * @param buffer the mapped snapshot, positioned at the record
+     * @return the Hero
+     */
+    private static Hero readHero(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        String name = readString(buffer);
+        Mana mana = new Mana(buffer.getDouble());
+        Ability strength = new Ability(AbilityType.STRENGTH, buffer.getDouble());
+        Ability agility = new Ability(AbilityType.AGILITY, buffer.getDouble());
+        Ability dexterity = new Ability(AbilityType.DEXTERITY, buffer.getDouble());
+        Coffer coffer = new Coffer(buffer.getInt());
+        int startingExperience = buffer.getInt();
+        Level level = new Level(1); // Heroes all start at level 1
+        UncappedHealthPower hp = new UncappedHealthPower(100 * level.getLevel());
+
+        Hero hero;
+        switch (kind) {
+            case paladin:
+                hero = new Paladin(name, level, hp, mana, coffer, strength, agility, dexterity);
+                break;
+            case sorcerer:
+                hero = new Sorcerer(name, level, hp, mana, coffer, strength, agility, dexterity);
+                break;
+            default:
+                hero = new Warrior(name, level, hp, mana, coffer, strength, agility, dexterity);
+                break;
+        }
+        hero.setStartingExperience(startingExperience);
+        return hero;
+    }
+
+    /**
+     * Helper function which writes a MonsterTemplate record
+     * @param out where to write
+     * @param template the template
+     * @throws IOException if the record can't be written
+     */
+    private static void writeMonster(DataOutputStream out, MonsterTemplate template) throws IOException {
+        out.writeByte(template.getType().ordinal());
+        writeString(out, template.getName());
+        out.writeInt(template.getLevel());
+        out.writeDouble(template.getStrength());
+        out.writeDouble(template.getDefense());
+        out.writeDouble(template.getAgility());
+    }
+
+    /**
+     * Helper function which decodes a MonsterTemplate record
+     * @param buffer the mapped snapshot, positioned at the record
+     * @return the MonsterTemplate
+     */
+    private static MonsterTemplate readMonster(ByteBuffer buffer) {
+        MonsterType type = MonsterType.values()[buffer.get()];
+        String name = readString(buffer);
+        int level = buffer.getInt();
+        double strength = buffer.getDouble();
+        double defense = buffer.getDouble();
+        double agility = buffer.getDouble();
+        return new MonsterTemplate(type, name, level, strength, defense, agility);
+    }
+
+    /**
+     * Helper function which writes a GearItem record
+     * @param out where to write
+     * @param item the GearItem
+     * @throws IOException if the record can't be written
+     */
+    private static void writeGearItem(DataOutputStream out, GearItem item) throws IOException {
+        byte kind;
+        if(item instanceof Weapon) {
+            kind = weapon;
+        } else if(item instanceof Armor) {
+            kind = armor;
+        } else if(item instanceof Potion) {
+            kind = potion;
+        } else if(item instanceof IceSpell) {
+            kind = iceSpell;
+        } else if(item instanceof FireSpell) {
+            kind = fireSpell;
+        } else if(item instanceof LightningSpell) {
+            kind = lightningSpell;
+        } else {
+            throw new IOException("Unknown GearItem type: " + item.getClass().getSimpleName());
+        }
+        out.writeByte(kind);
+        writeString(out, item.getName());
+        out.writeInt(item.getPrice());
+        out.writeInt(item.getMinLevel().getLevel());
+        switch (kind) {
+            case weapon:
+                out.writeDouble(((Weapon)item).getDamage());
+                out.writeInt(((Weapon)item).getNumHands());
+                break;
+            case armor:
+                out.writeDouble(((Armor)item).getDefense());
+                break;
+            case potion:
+                Potion potionItem = (Potion)item;
+                out.writeDouble(potionItem.getIncrementAmount());
+                out.writeInt(potionItem.getAbilities().size());
+                for(Ability ability : potionItem.getAbilities()) {
+                    out.writeByte(ability.getType().ordinal());
+                }
+                break;
+            default:
+                Spell spell = (Spell)item;
+                out.writeDouble(spell.getDamage());
+                out.writeDouble(spell.getMana().getManaAmount());
+                break;
+        }
+    }
+
+    /**
+     * Helper function which decodes a GearItem record
+     * @param buffer the mapped snapshot, positioned at the record
+     * @return the GearItem
+     */
+    private static GearItem readGearItem(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        String name = readString(buffer);
+        int price = buffer.getInt();
+        Level minLevel = new Level(buffer.getInt());
+        switch (kind) {
+            case weapon:
+                double damage = buffer.getDouble();
+                return new Weapon(name, price, minLevel, damage, buffer.getInt());
+            case armor:
+                return new Armor(name, price, minLevel, buffer.getDouble());
+            case potion:
+                double incrementAmount = buffer.getDouble();
+                int numAbilities = buffer.getInt();
+                List<Ability> abilities = new ArrayList<>(numAbilities);
+                for(int i = 0; i < numAbilities; i++) {
+                    abilities.add(new Ability(AbilityType.values()[buffer.get()], 0));
+                }
+                return new Potion(name, price, minLevel, abilities, incrementAmount);
+            default:
+                double spellDamage = buffer.getDouble();
+                Mana mana = new Mana(buffer.getDouble());
+                if(kind == iceSpell) {
+                    return new IceSpell(name, price, minLevel, mana, spellDamage);
+                } else if(kind == fireSpell) {
+                    return new FireSpell(name, price, minLevel, mana, spellDamage);
+                }
+                return new LightningSpell(name, price, minLevel, mana, spellDamage);
+        }
+    }
+
+    /**
+     * Helper function which writes a String as its length, then its UTF-8 bytes
+     * @param out where to write
+     * @param text the String
+     * @throws IOException if the String can't be written
+     */
+    private static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Helper function which decodes a String written by writeString()
+     * @param buffer the mapped snapshot, positioned at the String
+     * @return the String
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Interface for decoding one kind of record, see readRecords()
+     * @param <T> the type of record
+     */
+    private interface RecordReader<T> {
+        T read(ByteBuffer buffer);
+    }
+
+    /**
+     * Helper function which decodes the records of one kind in a snapshot
+     * @param buffer the mapped snapshot, which is not moved
+     * @param first the index of the first record in the offset table
+     * @param size the number of records
+     * @param reader decodes a record
+     * @param <T> the type of record
+     * @return the records, in the order they were written
+     */
+    private static <T> List<T> readRecords(ByteBuffer buffer, int first, int size, RecordReader<T> reader) {
+        List<T> records = new ArrayList<>(size);
+        ByteBuffer bytes = buffer.duplicate();
+        for(int i = 0; i < size; i++) {
+            bytes.position(buffer.getInt(headerSize + 4 * (first + i)));
+            records.add(reader.read(bytes));
+        }
+        return records;
+    }
+}
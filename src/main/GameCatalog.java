@@ -0,0 +1,267 @@
+package main;
+
+import main.legends.Hero;
+import main.legends.Legend;
+import main.legends.LegendCatalog;
+import main.legends.LegendList;
+import main.legends.MonsterTemplate;
+import main.legends.MonsterType;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.MarketInventory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Class GameCatalog holds everything read from the data files: the Heroes, the
+ * MonsterTemplates and the GearItems. It is read once, the first time it is needed,
+ * and never changes afterwards, so it is shared by every game in the process.
+ *
+ * The twelve data files are read at the same time, one task each, and the results are
+ * put together in a fixed order once every file has been read. Loading the catalog
+ * therefore takes about as long as reading the slowest file, rather than all of them.
+ *
+ * The Heroes in the catalog are never played, since Heroes change as a game is played:
+ * each LegendList clones the Heroes it chooses. The LegendCatalog of every Hero and of a
+ * Monster for each MonsterTemplate is therefore built once, here, and shared by every
+ * LegendList.
+ *
+ * If the data files have been compiled into a snapshot (see CatalogSnapshot and the
+ * --compile-catalog argument of Main), and none of them has changed since, the catalog is
+ * loaded from the snapshot instead of being parsed.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public final class GameCatalog {
+    public static final String snapshotFile = "data/catalog.bin";
+    private static final String paladinsFile = "data/Paladins.txt";
+    private static final String sorcerersFile = "data/Sorcerers.txt";
+    private static final String warriorsFile = "data/Warriors.txt";
+    private static final String dragonsFile = "data/Dragons.txt";
+    private static final String exoskeletonsFile = "data/Exoskeletons.txt";
+    private static final String spiritsFile = "data/Spirits.txt";
+    private static final String weaponryFile = "data/Weaponry.txt";
+    private static final String armoryFile = "data/Armory.txt";
+    private static final String potionsFile = "data/Potions.txt";
+    private static final String iceSpellsFile = "data/IceSpells.txt";
+    private static final String fireSpellsFile = "data/FireSpells.txt";
+    private static final String lightningSpellsFile = "data/LightningSpells.txt";
+
+    private static GameCatalog instance = null;
+    private final List<Hero> heroes;
+    private final List<MonsterTemplate> monsterTemplates;
+    private final List<GearItem> gearItems;
+    private final LegendCatalog legendCatalog;
+
+    /**
+     * @return the Singleton instance of this class, loading it on first call
+     */
+    public static synchronized GameCatalog getInstance() {
+        if (instance == null) {
+            instance = load();
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the catalog from the snapshot (see CatalogSnapshot) if there is an up to date one,
+     * otherwise from the data files
+     * @return the loaded GameCatalog
+     */
+    public static GameCatalog load() {
+        GameCatalog catalog = CatalogSnapshot.read(new File(snapshotFile), sourceFiles());
+        return catalog != null ? catalog : loadText();
+    }
+
+    /**
+     * Reads every data file, each in its own task, and waits until all of them have been read.
+     * A file that can't be read is reported and skipped.
+     * @return the loaded GameCatalog
+     */
+    public static GameCatalog loadText() {
+        List<IOException> failures = new ArrayList<>();
+        GameCatalog catalog = readText(failures);
+        for (IOException failure : failures) {
+            failure.printStackTrace();
+        }
+        return catalog;
+    }
+
+    /**
+     * Reads every data file like loadText(), but fails rather than skip a file, for
+     * compiling a snapshot that later runs would trust
+     * @return the loaded GameCatalog
+     * @throws IOException if any of the data files can't be read
+     */
+    public static GameCatalog loadTextOrThrow() throws IOException {
+        List<IOException> failures = new ArrayList<>();
+        GameCatalog catalog = readText(failures);
+        if (!failures.isEmpty()) {
+            IOException failure = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                failure.addSuppressed(failures.get(i));
+            }
+            throw failure;
+        }
+        return catalog;
+    }
+
+    /**
+     * Helper function which reads every data file, each in its own task, and waits until
+     * all of them have been read
+     * @param failures filled in with why each file that couldn't be read was skipped
+     * @return the loaded GameCatalog
+     */
+    private static GameCatalog readText(List<IOException> failures) {
+        CompletableFuture<List<Hero>> paladins = readAsync(() -> LegendList.readHeroFile(new File(paladinsFile), "Paladins"));
+        CompletableFuture<List<Hero>> sorcerers = readAsync(() -> LegendList.readHeroFile(new File(sorcerersFile), "Sorcerers"));
+        CompletableFuture<List<Hero>> warriors = readAsync(() -> LegendList.readHeroFile(new File(warriorsFile), "Warriors"));
+        CompletableFuture<List<MonsterTemplate>> dragons = readAsync(() -> LegendList.readMonsterFile(new File(dragonsFile), MonsterType.DRAGON));
+        CompletableFuture<List<MonsterTemplate>> exoskeletons = readAsync(() -> LegendList.readMonsterFile(new File(exoskeletonsFile), MonsterType.EXOSKELETON));
+        CompletableFuture<List<MonsterTemplate>> spirits = readAsync(() -> LegendList.readMonsterFile(new File(spiritsFile), MonsterType.SPIRIT));
+        CompletableFuture<List<GearItem>> weaponry = readAsync(() -> MarketInventory.readWeaponry(new File(weaponryFile)));
+        CompletableFuture<List<GearItem>> armory = readAsync(() -> MarketInventory.readArmory(new File(armoryFile)));
+        CompletableFuture<List<GearItem>> potions = readAsync(() -> MarketInventory.readPotions(new File(potionsFile)));
+        CompletableFuture<List<GearItem>> iceSpells = readAsync(() -> MarketInventory.readIceSpells(new File(iceSpellsFile)));
+        CompletableFuture<List<GearItem>> fireSpells = readAsync(() -> MarketInventory.readFireSpells(new File(fireSpellsFile)));
+        CompletableFuture<List<GearItem>> lightningSpells = readAsync(() -> MarketInventory.readLightningSpells(new File(lightningSpellsFile)));
+
+        List<Hero> heroes = new ArrayList<>();
+        addAll(heroes, failures, paladins, sorcerers, warriors);
+        List<MonsterTemplate> templates = new ArrayList<>();
+        addAll(templates, failures, dragons, exoskeletons, spirits);
+        List<GearItem> gearItems = new ArrayList<>();
+        addAll(gearItems, failures, weaponry, armory, potions, iceSpells, fireSpells, lightningSpells);
+        return new GameCatalog(heroes, templates, gearItems);
+    }
+
+    /**
+     * @return every data file the catalog is read from
+     */
+    public static List<File> sourceFiles() {
+        List<File> files = new ArrayList<>();
+        for (String name : Arrays.asList(paladinsFile, sorcerersFile, warriorsFile, dragonsFile, exoskeletonsFile,
+                spiritsFile, weaponryFile, armoryFile, potionsFile, iceSpellsFile, fireSpellsFile, lightningSpellsFile)) {
+            files.add(new File(name));
+        }
+        return files;
+    }
+
+    /**
+     * Standard constructor. The Lists are kept rather than copied, so they must not be
+     * changed afterwards.
+     * @param heroes every Hero
+     * @param monsterTemplates every MonsterTemplate
+     * @param gearItems every GearItem
+     */
+    public GameCatalog(List<Hero> heroes, List<MonsterTemplate> monsterTemplates, List<GearItem> gearItems) {
+        this.heroes = Collections.unmodifiableList(heroes);
+        this.monsterTemplates = Collections.unmodifiableList(monsterTemplates);
+        this.gearItems = Collections.unmodifiableList(gearItems);
+
+        // Every Hero, then a catalog Monster for each MonsterTemplate
+        List<Legend> legends = new ArrayList<>(heroes);
+        for (MonsterTemplate template : monsterTemplates) {
+            legends.add(template.spawn());
+        }
+        this.legendCatalog = new LegendCatalog(legends);
+    }
+
+    /**
+     * Returns copies of every Hero in the catalog, for a new LegendList
+     * @return the copied Heroes, in the order they appear in the data files
+     */
+    public List<Hero> newHeroes() {
+        List<Hero> copies = new ArrayList<>(heroes.size());
+        for (Hero hero : heroes) {
+            try {
+                copies.add((Hero)hero.clone());
+            } catch (CloneNotSupportedException e) {
+                e.printStackTrace();
+                // Shouldn't happen
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * @return the catalog of every Hero, and of a Monster for each MonsterTemplate, shared by
+     * every LegendList. Its Legends must never be played.
+     */
+    public LegendCatalog getLegendCatalog() {
+        return legendCatalog;
+    }
+
+    /**
+     * @return the templates of every Monster, in the order they appear in the data files
+     */
+    public List<MonsterTemplate> getMonsterTemplates() {
+        return monsterTemplates;
+    }
+
+    /**
+     * @return every GearItem, in the order they appear in the data files
+     */
+    public List<GearItem> getGearItems() {
+        return gearItems;
+    }
+
+    /**
+     * Interface for reading one data file, see readAsync()
+     * @param <T> the type of what is read
+     */
+    private interface FileRead<T> {
+        List<T> read() throws IOException;
+    }
+
+    /**
+     * Helper function which starts reading a data file in its own task
+     * @param read reads the file
+     * @param <T> the type of what is read
+     * @return the future List of what is read
+     */
+    private static <T> CompletableFuture<List<T>> readAsync(FileRead<T> read) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read.read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Helper function which waits for each of the passed in files to be read, and adds what
+     * was read to the List, in order. A file that can't be read is skipped.
+     * @param output the List to add to
+     * @param failures filled in with why each file that couldn't be read was skipped
+     * @param reads the files being read
+     * @param <T> the type of what is read
+     */
+    @SafeVarargs
+    private static <T> void addAll(List<T> output, List<IOException> failures, CompletableFuture<List<T>>... reads) {
+        for (CompletableFuture<List<T>> read : reads) {
+            try {
+                output.addAll(read.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException) {
+                    failures.add(((UncheckedIOException)cause).getCause());
+                } else {
+                    failures.add(new IOException(cause));
+                }
+            }
+        }
+    }
+}
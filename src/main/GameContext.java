@@ -0,0 +1,169 @@
+package main;
+
+import main.games.GameResult;
+import main.legends.Legend;
+import main.legends.LegendList;
+import main.market_and_gear.MarketInventory;
+import main.utils.RandomSource;
+import main.world.PrebuiltWorldBuilder;
+import main.world.TerrainGrid;
+import main.world.ValorWorld;
+import main.world.ValorWorldBuilder;
+import main.world.World;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Class GameContext holds everything that belongs to a single game: the World, the
+ * roster of Heroes and Monsters playing in it, the Market catalog, and the source of
+ * randomness. Game classes are handed a GameContext rather than reaching for Runner,
+ * LegendList or MarketInventory singletons, so that any number of independent games
+ * can be played in one process.
+ *
+ * Heroes and Monsters change as a game is played, so each game needs its own roster.
+ * The Market catalog is never modified, so it is shared between every game.
+ *
+ * A game's RandomSource must only be used by one thread at a time. ValorGame makes it
+ * the calling thread's default while the game is played, so that every random decision
+ * within the game (including those of classes that are not handed a GameContext) draws from it.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class GameContext {
+    public static final int valorWorldSize = 8;
+    private final LegendList roster;
+    private final MarketInventory marketInventory;
+    private final RandomSource random;
+    private final GameResult result;
+    private World world;
+
+    /**
+     * Standard constructor. The World must be set with setWorld() before the game is played,
+     * since building a World itself requires the GameContext.
+     * @param roster the Heroes and Monsters playing in this game
+     * @param marketInventory the catalog of every GearItem
+     * @param random the source of randomness for this game
+     */
+    public GameContext(LegendList roster, MarketInventory marketInventory, RandomSource random) {
+        if(roster == null || marketInventory == null || random == null) {
+            throw new IllegalArgumentException("roster, marketInventory and random can't be null!");
+        }
+        this.roster = roster;
+        this.marketInventory = marketInventory;
+        this.random = random;
+        this.result = new GameResult();
+    }
+
+    /**
+     * Builds the context for a game of Legends of Valor, including its ValorWorld,
+     * and places the roster's chosen Heroes in their Nexus.
+     * @param roster the Heroes and Monsters playing in this game
+     * @param random the source of randomness for this game
+     * @return the GameContext for the new game
+     */
+    public static GameContext newValorGame(LegendList roster, RandomSource random) {
+        return newValorGame(roster, random, random);
+    }
+
+    /**
+     * Builds the context for a game of Legends of Valor, whose map is generated by a separate
+     * RandomSource. Games built with equally seeded map sources are played on the same map.
+     * @param roster the Heroes and Monsters playing in this game
+     * @param mapRandom the source of randomness for generating the map
+     * @param random the source of randomness for this game
+     * @return the GameContext for the new game
+     */
+    public static GameContext newValorGame(LegendList roster, RandomSource mapRandom, RandomSource random) {
+        return newValorGame(roster, newValorTerrain(mapRandom), random);
+    }
+
+    /**
+     * Builds the context for a game of Legends of Valor, on a map that has already been generated
+     * by newValorTerrain(), and places the roster's chosen Heroes in their Nexus.
+     * @param roster the Heroes and Monsters playing in this game
+     * @param terrain the map of the game
+     * @param random the source of randomness for this game
+     * @return the GameContext for the new game
+     */
+    public static GameContext newValorGame(LegendList roster, TerrainGrid terrain, RandomSource random) {
+        GameContext context = new GameContext(roster, MarketInventory.getInstance(), random);
+        context.setWorld(new ValorWorld(new PrebuiltWorldBuilder(terrain), context));
+        context.getWorld().placeHeroes(roster.getChosenHeroes());
+        return context;
+    }
+
+    /**
+     * Generates the map of a game of Legends of Valor. It doesn't depend on the roster, so it
+     * can be generated before the Heroes are chosen.
+     * @param mapRandom the source of randomness for generating the map
+     * @return the map
+     */
+    public static TerrainGrid newValorTerrain(RandomSource mapRandom) {
+        ValorWorldBuilder.ValorWorldDistribution distribution = new ValorWorldBuilder.ValorWorldDistribution();
+        return new ValorWorldBuilder(valorWorldSize, valorWorldSize, distribution, mapRandom).run();
+    }
+
+    /**
+     * Forks this game of Legends of Valor: returns a copy in which every Legend has been cloned,
+     * and the World holds the clones where the originals stand. Playing the fork leaves this
+     * game untouched, so a fork can be played on another thread while this game carries on.
+     * The Market catalog is shared, since it is never modified.
+     * @param random the source of randomness for the fork
+     * @return the forked GameContext
+     */
+    public GameContext fork(RandomSource random) {
+        Map<Legend, Legend> copies = new IdentityHashMap<>();
+        GameContext forked = new GameContext(roster.copy(copies), marketInventory, random);
+        forked.result.set(result);
+        forked.setWorld(new ValorWorld((ValorWorld)world, forked, copies));
+        return forked;
+    }
+
+    /**
+     * @return the World this game is played in
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Sets the World this game is played in
+     * @param world the World
+     */
+    public void setWorld(World world) {
+        this.world = world;
+    }
+
+    /**
+     * @return the Heroes and Monsters playing in this game
+     */
+    public LegendList getRoster() {
+        return roster;
+    }
+
+    /**
+     * @return the catalog of every GearItem, shared between games
+     */
+    public MarketInventory getMarketInventory() {
+        return marketInventory;
+    }
+
+    /**
+     * @return the outcome of this game, filled in as it is played
+     */
+    public GameResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return the source of randomness for this game
+     */
+    public RandomSource getRandom() {
+        return random;
+    }
+}
@@ -1,8 +1,38 @@
 package main;
 
+import main.games.BatchSimulator;
+import main.games.MctsHeroController;
+import main.games.RandomHeroController;
+import main.games.SearchStatistics;
+import main.games.SimulationReport;
+import main.games.TurnOrder;
+import main.utils.Output;
+import main.utils.RenderMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Class Main
  *
+ * Run with no arguments to play at the terminal. The following arguments are recognized:
+ * --incremental          only redraw the parts of the World that changed each turn
+ * --simulate N           instead of playing, simulate N games and report the results
+ * --threads T            number of games to simulate at the same time (default: number of cores)
+ * --seed S               seed of the simulated games
+ * --map-seed M           play every simulated game on the map generated from M
+ * --heroes a,b,c         names of the Heroes on the simulated team
+ * --random-heroes        simulated Heroes choose their actions at random
+ * --mcts MS              simulated Heroes are played by Monte Carlo tree search, MS milliseconds per decision
+ * --search-threads T     number of threads each search runs on (default: 1 when simulating, else number of cores)
+ * --auto-play            Monte Carlo tree search plays the Heroes of the game at the terminal
+ * --initiative           simulated Legends take their turns in order of Agility, rather than alternating
+ * --compile-catalog      compile the data files into data/catalog.bin, which then loads faster, and exit
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/8/20
@@ -10,7 +40,200 @@ package main;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class Main {
+    public static final List<String> defaultSimulatedHeroes = Arrays.asList("Gaerdal_Ironhand", "Sehanine_Monnbow", "Muamman_Duathall");
+
     public static void main(String[] args) {
-        Runner.getInstance().run();
+        int numGames = -1;
+        int numThreads = Runtime.getRuntime().availableProcessors();
+        Long seed = null;
+        Long mapSeed = null;
+        List<String> heroes = defaultSimulatedHeroes;
+        boolean randomHeroes = false;
+        int mctsMillis = -1;
+        Integer searchThreads = null;
+        boolean autoPlay = false;
+        boolean initiative = false;
+        boolean compileCatalog = false;
+        try {
+            // Options that take a value skip over it with i++
+            for(int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--incremental":
+                        // Only redraw the parts of the World that changed each turn
+                        Output.setRenderMode(RenderMode.INCREMENTAL);
+                        break;
+                    case "--simulate":
+                        numGames = intArgument(args, i++);
+                        break;
+                    case "--threads":
+                        numThreads = intArgument(args, i++);
+                        break;
+                    case "--seed":
+                        seed = longArgument(args, i++);
+                        break;
+                    case "--map-seed":
+                        mapSeed = longArgument(args, i++);
+                        break;
+                    case "--heroes":
+                        heroes = Arrays.asList(argument(args, i++).split(","));
+                        break;
+                    case "--random-heroes":
+                        randomHeroes = true;
+                        break;
+                    case "--mcts":
+                        mctsMillis = intArgument(args, i++);
+                        break;
+                    case "--search-threads":
+                        searchThreads = intArgument(args, i++);
+                        break;
+                    case "--auto-play":
+                        autoPlay = true;
+                        break;
+                    case "--initiative":
+                        initiative = true;
+                        break;
+                    case "--compile-catalog":
+                        compileCatalog = true;
+                        break;
+                    default:
+                        System.out.println("Ignoring unknown argument " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            printUsage();
+            return;
+        }
+
+        if(compileCatalog) {
+            try {
+                // A snapshot missing a data file would be trusted by every later run, so don't write one
+                CatalogSnapshot.write(GameCatalog.loadTextOrThrow(), new File(GameCatalog.snapshotFile));
+                System.out.println("Wrote " + GameCatalog.snapshotFile);
+            } catch (IOException e) {
+                System.out.println("Could not compile " + GameCatalog.snapshotFile + ": " + e.getMessage());
+            }
+            return;
+        }
+
+        if(numGames < 0) {
+            // Load everything but the roster in the background, while the user chooses their Heroes
+            Runner.preload();
+            if(autoPlay) {
+                Runner runner = Runner.getInstance();
+                MctsHeroController controller = new MctsHeroController(runner.getContext(),
+                        searchThreads == null ? Runtime.getRuntime().availableProcessors() : searchThreads);
+                if(mctsMillis >= 0) {
+                    controller.setTimeBudgetMillis(mctsMillis);
+                }
+                runner.run(controller);
+                controller.getStatistics().toLines().forEach(System.out::println);
+            } else {
+                Runner.getInstance().run();
+            }
+            return;
+        }
+
+        // Load the catalog before any game needs it
+        GameCatalog.getInstance();
+
+        BatchSimulator simulator = new BatchSimulator(numGames, numThreads, heroes);
+        if(seed != null) {
+            simulator.setSeed(seed);
+        }
+        if(mapSeed != null) {
+            simulator.setMapSeed(mapSeed);
+        }
+        if(initiative) {
+            simulator.setTurnOrder(TurnOrder.INITIATIVE);
+        }
+        if(randomHeroes) {
+            simulator.setHeroControllerFactory(context -> new RandomHeroController(context.getRandom()));
+        }
+        List<MctsHeroController> searchers = Collections.synchronizedList(new ArrayList<>());
+        if(mctsMillis >= 0) {
+            int numSearchThreads = searchThreads == null ? 1 : searchThreads;
+            int timeBudget = mctsMillis;
+            simulator.setHeroControllerFactory(context -> {
+                MctsHeroController controller = new MctsHeroController(context, numSearchThreads);
+                controller.setTimeBudgetMillis(timeBudget);
+                searchers.add(controller);
+                return controller;
+            });
+        }
+        SimulationReport report = simulator.run();
+        report.toLines().forEach(System.out::println);
+        if(!searchers.isEmpty()) {
+            SearchStatistics statistics = new SearchStatistics();
+            for(MctsHeroController controller : searchers) {
+                statistics.merge(controller.getStatistics());
+            }
+            statistics.toLines().forEach(System.out::println);
+        }
+    }
+
+    /**
+     * Helper function which returns the value of the option at the passed in index
+     * @param args the command line arguments
+     * @param i the index of the option
+     * @return the argument after the option
+     * @throws IllegalArgumentException if the option is the last argument
+     */
+    private static String argument(String[] args, int i) {
+        if(i + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i]);
+        }
+        return args[i + 1];
+    }
+
+    /**
+     * Helper function which returns the value of the option at the passed in index, as an int
+     * @param args the command line arguments
+     * @param i the index of the option
+     * @return the argument after the option
+     * @throws IllegalArgumentException if the option is the last argument, or its value is not an int
+     */
+    private static int intArgument(String[] args, int i) {
+        String value = argument(args, i);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number after " + args[i] + ", not " + value);
+        }
+    }
+
+    /**
+     * Helper function which returns the value of the option at the passed in index, as a long
+     * @param args the command line arguments
+     * @param i the index of the option
+     * @return the argument after the option
+     * @throws IllegalArgumentException if the option is the last argument, or its value is not a long
+     */
+    private static long longArgument(String[] args, int i) {
+        String value = argument(args, i);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number after " + args[i] + ", not " + value);
+        }
+    }
+
+    /**
+     * Helper function which prints the arguments that are recognized
+     */
+    private static void printUsage() {
+        System.out.println("Usage: java main.Main [options]");
+        System.out.println("  --incremental          only redraw the parts of the World that changed each turn");
+        System.out.println("  --simulate N           instead of playing, simulate N games and report the results");
+        System.out.println("  --threads T            number of games to simulate at the same time");
+        System.out.println("  --seed S               seed of the simulated games");
+        System.out.println("  --map-seed M           play every simulated game on the map generated from M");
+        System.out.println("  --heroes a,b,c         names of the Heroes on the simulated team");
+        System.out.println("  --random-heroes        simulated Heroes choose their actions at random");
+        System.out.println("  --mcts MS              simulated Heroes are played by Monte Carlo tree search, MS milliseconds per decision");
+        System.out.println("  --search-threads T     number of threads each search runs on");
+        System.out.println("  --auto-play            Monte Carlo tree search plays the Heroes of the game at the terminal");
+        System.out.println("  --initiative           simulated Legends take their turns in order of Agility, rather than alternating");
+        System.out.println("  --compile-catalog      compile the data files into data/catalog.bin, which then loads faster, and exit");
     }
 }
@@ -1,19 +1,34 @@
 package main;
 
+import main.games.AdvancingMonsterController;
+import main.games.HeroController;
+import main.games.LegendsOfValorRound;
+import main.games.LegendsOfValorTurn;
+import main.games.TerminalHeroController;
 import main.games.ValorGame;
-import main.legends.Hero;
 import main.legends.Legend;
 import main.legends.LegendList;
-import main.legends.Monster;
+import main.market_and_gear.MarketInventory;
 import main.utils.Output;
+import main.utils.RandomSource;
 import main.world.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Class Runner is the class which actually runs the game, by creating a World and a WorldInteraction.
  * It is extracted from Main primarily to provide access to the World through the getWorld() method.
  *
+ * Runner hosts the single game played at the terminal. Its GameContext is available through
+ * getContext(), but game classes are handed their GameContext directly, so other games can
+ * be played alongside it.
+ *
+ * Everything the game needs that doesn't depend on the chosen Heroes (the data files, the
+ * Market, the map, and the classes played on the first turn) can be loaded with preload()
+ * as soon as the program starts. It is loaded in the background while the user chooses
+ * their Heroes, so the game starts as soon as they have.
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/10/20
@@ -22,7 +37,8 @@ import java.util.List;
  */
 public class Runner {
     private static Runner instance;
-    private World world;
+    private static CompletableFuture<TerrainGrid> preloaded = null;
+    private GameContext context;
     private WorldInteraction worldInteraction;
 
     /**
@@ -36,6 +52,57 @@ public class Runner {
         return instance;
     }
 
+    /**
+     * Starts loading everything the game at the terminal needs, except the roster, in the
+     * background. Does nothing if it has already been started.
+     */
+    public static synchronized void preload() {
+        if(preloaded == null) {
+            RandomSource mapRandom = RandomSource.getDefault().split(); // only used by the background task
+            preloaded = CompletableFuture.supplyAsync(() -> {
+                GameCatalog.getInstance();
+                MarketInventory.getInstance();
+                LegendList.getMonsterTemplates();
+                warmUp(ValorGame.class, LegendsOfValorRound.class, LegendsOfValorTurn.class,
+                        TerminalHeroController.class, AdvancingMonsterController.class,
+                        ValorWorldInteraction.class, IncrementalWorldRenderer.class, FrameBuilder.class);
+                return GameContext.newValorTerrain(mapRandom);
+            });
+        }
+    }
+
+    /**
+     * Helper function which loads and initializes the passed in classes, so that the first turn
+     * doesn't wait for them
+     * @param classes the classes in question
+     */
+    private static void warmUp(Class<?>... classes) {
+        for(Class<?> c : classes) {
+            try {
+                Class.forName(c.getName(), true, c.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                e.printStackTrace();
+                // Shouldn't happen
+            }
+        }
+    }
+
+    /**
+     * Helper function which waits for preload() to finish
+     * @return the map it generated, or null if preload() wasn't called or failed
+     */
+    private static synchronized TerrainGrid awaitPreload() {
+        if(preloaded == null) {
+            return null;
+        }
+        try {
+            return preloaded.join();
+        } catch (CompletionException e) {
+            e.getCause().printStackTrace();
+            return null;
+        }
+    }
+
     /**
      * Private constructor. Builds the World and the World Interaction.
      */
@@ -44,18 +111,22 @@ public class Runner {
     }
 
     private void buildValorWorld(){
-        ValorWorldBuilder.ValorWorldDistribution distribution = new ValorWorldBuilder.ValorWorldDistribution();
-        WorldBuilder builder = new ValorWorldBuilder(8, 8,distribution);
-        world = new ValorWorld(builder);
-        world.placeHeroes(LegendList.getInstance().getChosenHeroes());
-        worldInteraction = new WorldInteraction(world);
+        LegendList roster = LegendList.getInstance(); // prompts the user while preload() runs
+        TerrainGrid terrain = awaitPreload();
+        if(terrain == null) {
+            context = GameContext.newValorGame(roster, RandomSource.getDefault());
+        } else {
+            context = GameContext.newValorGame(roster, terrain, RandomSource.getDefault());
+        }
+        worldInteraction = new WorldInteraction(context.getWorld());
     }
     private void buildRandomWorld(){
 
-        WorldBuilder builder = new RandomWorldBuilder(8, 8, 50, 20, 30);
-        world = new RandomWorld(builder);
-        world.placeHeroes(LegendList.getInstance().getChosenHeroes());
-        worldInteraction = new WorldInteraction(world);
+        context = new GameContext(LegendList.getInstance(), MarketInventory.getInstance(), RandomSource.getDefault());
+        WorldBuilder builder = new RandomWorldBuilder(8, 8, 50, 20, 30, context.getRandom());
+        context.setWorld(new RandomWorld(builder, context));
+        context.getWorld().placeHeroes(context.getRoster().getChosenHeroes());
+        worldInteraction = new WorldInteraction(context.getWorld());
     }
 
     /**
@@ -63,15 +134,28 @@ public class Runner {
      * @return a handle to the World in this Game.
      */
     public World getWorld() {
-        return world;
+        return context.getWorld();
+    }
+
+    /**
+     *
+     * @return the GameContext of the game played at the terminal.
+     */
+    public GameContext getContext() {
+        return context;
     }
 
     public void run() {
+        run(new TerminalHeroController());
+    }
+
+    /**
+     * Plays the game at the terminal, with the Heroes played by the passed in controller
+     * @param heroController decides what each Hero does
+     */
+    public void run(HeroController heroController) {
         Output.printWelcomeInformation();
-        LegendList.getInstance(); // prompts the user to choose their Hero's
-        List<Hero> heroes = LegendList.getInstance().getChosenHeroes();
-        List<Monster> monsters = LegendList.getInstance().getActiveMonsters();
-        new ValorGame(heroes, monsters).play();
+        new ValorGame(context, heroController, new AdvancingMonsterController()).play();
     }
 
 }
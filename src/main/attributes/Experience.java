@@ -84,6 +84,7 @@ public class Experience {
             for(Ability ability : hero.getSpecialAbilities()) {
                 ability.increaseAbilityByPercentage(5);
             }
+            hero.notifyLeveledUp();
             return true;
         }
         return false;
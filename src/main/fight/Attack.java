@@ -1,8 +1,7 @@
 package main.fight;
 
 import main.legends.Legend;
-import main.legends.NonOwnedGearItemException;
-import main.utils.Validations;
+import main.utils.Output;
 
 import java.util.List;
 
@@ -26,14 +25,19 @@ public class Attack extends ExternalMove {
     }
 
     /**
-     * Executes this FightMove
+     * Executes this FightMove, if it can be carried out
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
      */
     @Override
-    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+    public FightResult tryExecute() {
         // Both Legends must be alive
-        Validations.legendIsAlive(this.getExecutor());
+        if(!this.getExecutor().getHealthPower().hasSomeHealth()) {
+            return FightResult.EXECUTOR_FAINTED;
+        }
         for(Legend legend : this.getReceivers()) {
-            Validations.legendIsAlive(legend);
+            if(!legend.getHealthPower().hasSomeHealth()) {
+                return FightResult.RECEIVER_FAINTED;
+            }
         }
 
         // The amount of damage done differs depending on the type of Legend. Split
@@ -41,8 +45,9 @@ public class Attack extends ExternalMove {
         double damagePerReceiver = this.getDamagePerReceiver();
         for(Legend legend : this.getReceivers()) {
             String result = legend.wasAttacked(damagePerReceiver);
-            System.out.println(result);
+            Output.out().println(result);
         }
+        return FightResult.SUCCESS;
     }
 
     /**
@@ -4,8 +4,8 @@ import main.attributes.Ability;
 import main.attributes.Mana;
 import main.legends.Hero;
 import main.legends.Monster;
-import main.legends.NonOwnedGearItemException;
 import main.market_and_gear.Spell;
+import main.utils.Output;
 import main.utils.Validations;
 
 import java.util.ArrayList;
@@ -41,18 +41,25 @@ public class CastSpell extends ExternalMove {
     }
 
     /**
-     * Executes this FightMove
+     * Executes this FightMove, if it can be carried out
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
      */
     @Override
-    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+    public FightResult tryExecute() {
         Hero hero = (Hero)this.getExecutor();
-        Validations.heroIsAlive(hero);
-        Validations.legendIsAlive(monster);
-        Validations.heroOwnsGearItem(hero, this.spell);
+        if(hero.hasFainted()) {
+            return FightResult.EXECUTOR_FAINTED;
+        }
+        if(!monster.getHealthPower().hasSomeHealth()) {
+            return FightResult.RECEIVER_FAINTED;
+        }
+        if(!hero.getGearItemList().containsGearItem(spell)) {
+            return FightResult.NOT_OWNED;
+        }
 
         // Hero needs to have enough Mana
         if(!spell.heroHasEnoughMana(hero)) {
-            throw new InvalidFightMoveException("Hero does not have enough Mana to cast this spell!");
+            return FightResult.NOT_ENOUGH_MANA;
         }
 
         // The amount of damage includes the Dexterity Ability of the Hero
@@ -69,9 +76,10 @@ public class CastSpell extends ExternalMove {
         Mana mana = spell.getMana();
         hero.getMana().decreaseManaBy(mana.getManaAmount());
 
-        System.out.println(this.getExecutor().getName() + " cast the " + spell.getName() + " spell. Result: ");
-        System.out.println("Attack: " + result);
-        System.out.println(monster.getName() + "'s " + toReduce.getType() + " has been reduced by 10%!");
-        System.out.println(hero.getName() + "'s mana has been reduced by " + spell.getMana().getManaAmount());
+        Output.out().println(this.getExecutor().getName() + " cast the " + spell.getName() + " spell. Result: ");
+        Output.out().println("Attack: " + result);
+        Output.out().println(monster.getName() + "'s " + toReduce.getType() + " has been reduced by 10%!");
+        Output.out().println(hero.getName() + "'s mana has been reduced by " + spell.getMana().getManaAmount());
+        return FightResult.SUCCESS;
     }
 }
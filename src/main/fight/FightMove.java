@@ -50,8 +50,24 @@ public abstract class FightMove {
         return executor;
     }
 
+    /**
+     * Executes this FightMove, if it can be carried out. Otherwise, nothing changes.
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
+     */
+    public abstract FightResult tryExecute();
+
     /**
      * Executes this FightMove
+     * @throws InvalidFightMoveException if the FightMove could not be carried out
+     * @throws NonOwnedGearItemException if the Hero does not own the GearItem used
      */
-    public abstract void execute() throws InvalidFightMoveException, NonOwnedGearItemException;
+    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+        FightResult result = tryExecute();
+        if(result == FightResult.NOT_OWNED) {
+            throw new NonOwnedGearItemException(result.getMessage());
+        }
+        if(!result.succeeded()) {
+            throw new InvalidFightMoveException(result.getMessage());
+        }
+    }
 }
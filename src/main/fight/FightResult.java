@@ -0,0 +1,43 @@
+package main.fight;
+
+/**
+ * Enum FightResult is the outcome of executing a FightMove. A FightMove that cannot be
+ * carried out (for example, casting a Spell without enough Mana) leaves the game unchanged,
+ * and reports why through one of these results instead of throwing an exception.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum FightResult {
+    SUCCESS("Success!"),
+    EXECUTOR_FAINTED("Legend has fainted!"),
+    RECEIVER_FAINTED("Legend has fainted!"),
+    NOT_OWNED("Attempted to activate GearItem that is not owned!"),
+    NOT_ENOUGH_MANA("Hero does not have enough Mana to cast this spell!"),
+    POTION_USED("This Potion was already used!"),
+    ALREADY_ARMOR("Hero is already wearing this Armor!"),
+    ALREADY_WEAPON("Hero is already wielding this Weapon!");
+
+    private final String message;
+
+    FightResult(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return true if the FightMove was carried out, false otherwise
+     */
+    public boolean succeeded() {
+        return this == SUCCESS;
+    }
+
+    /**
+     * @return a description of the result
+     */
+    public String getMessage() {
+        return message;
+    }
+}
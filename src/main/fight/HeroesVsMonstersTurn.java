@@ -154,13 +154,8 @@ public class HeroesVsMonstersTurn implements TurnExecutor  {
             List<Hero> attackedHeroes = pairing.getHeroesForMonster((Monster)current);
             List<Legend> asLegends = new ArrayList<>(attackedHeroes);
             FightMove attack = new Attack(current, asLegends);
-            try {
-                displayMonstersStatus();
-                attack.execute();
-            } catch (InvalidFightMoveException e) {
-                e.printStackTrace();
-                // Shouldn't happen
-            }
+            displayMonstersStatus();
+            attack.tryExecute();
         } else {
             // If current is a Hero, prompt the user for their desired move, then execute it.
             List<Monster> facedMonsters = pairing.getMonstersForHero((Hero)current);
@@ -168,10 +163,8 @@ public class HeroesVsMonstersTurn implements TurnExecutor  {
             while(!madeSuccessfulMove) {
                 displayHeroStatus();
                 move = new GetUserFightMove((Hero)current, facedMonsters).run();
-                try {
-                    move.execute();
-                    madeSuccessfulMove = true;
-                } catch (InvalidFightMoveException e) {
+                madeSuccessfulMove = move.tryExecute().succeeded();
+                if(!madeSuccessfulMove) {
                     System.out.println("Error! Something went wrong with the previous move. Please try again");
                 }
             }
@@ -2,9 +2,7 @@ package main.fight;
 
 import main.legends.Hero;
 import main.legends.Legend;
-import main.legends.NonOwnedGearItemException;
 import main.market_and_gear.Armor;
-import main.utils.Validations;
 
 /**
  * Class SwitchArmor is a type of Internal FightMove where the Hero switches
@@ -31,17 +29,22 @@ public class SwitchArmor extends InternalMove {
 
 
     /**
-     * Executes this FightMove
+     * Executes this FightMove, if it can be carried out
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
      */
     @Override
-    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+    public FightResult tryExecute() {
         Hero hero = (Hero)this.getExecutor();
-        Validations.heroIsAlive(hero);
-        Validations.heroOwnsGearItem(hero, toPutOn);
+        if(hero.hasFainted()) {
+            return FightResult.EXECUTOR_FAINTED;
+        }
+        if(!hero.getGearItemList().containsGearItem(toPutOn)) {
+            return FightResult.NOT_OWNED;
+        }
 
         // This Armor should not be currently active (otherwise it's not being put on!)
         if(hero.getActiveGearItems().getArmor().equals(toPutOn)) {
-            throw new InvalidFightMoveException("Hero is already wearing this Armor!");
+            return FightResult.ALREADY_ARMOR;
         }
 
         Armor previous = hero.getActiveGearItems().getArmor();
@@ -52,5 +55,6 @@ public class SwitchArmor extends InternalMove {
         } else {
             System.out.println(this.getExecutor().getName() + " has switched armor from " + previous.getName() + " to " + toPutOn.getName());
         }
+        return FightResult.SUCCESS;
     }
 }
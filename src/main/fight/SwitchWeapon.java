@@ -2,9 +2,7 @@ package main.fight;
 
 import main.legends.Hero;
 import main.legends.Legend;
-import main.legends.NonOwnedGearItemException;
 import main.market_and_gear.Weapon;
-import main.utils.Validations;
 
 /**
  * Class switchWeapon is a type of Internal FightMove where a Hero switches Weapons
@@ -29,17 +27,22 @@ public class SwitchWeapon extends InternalMove {
     }
 
     /**
-     * Executes this FightMove
+     * Executes this FightMove, if it can be carried out
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
      */
     @Override
-    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+    public FightResult tryExecute() {
         Hero hero = (Hero)this.getExecutor();
-        Validations.heroIsAlive(hero);
-        Validations.heroOwnsGearItem(hero, toWield);
+        if(hero.hasFainted()) {
+            return FightResult.EXECUTOR_FAINTED;
+        }
+        if(!hero.getGearItemList().containsGearItem(toWield)) {
+            return FightResult.NOT_OWNED;
+        }
 
         // This Weapon should not be currently active
         if(hero.getActiveGearItems().getWeapon().equals(toWield)) {
-            throw new InvalidFightMoveException("Hero is already wielding this Weapon!");
+            return FightResult.ALREADY_WEAPON;
         }
 
         Weapon previous = hero.getActiveGearItems().getWeapon();
@@ -50,5 +53,6 @@ public class SwitchWeapon extends InternalMove {
         } else {
             System.out.println(this.getExecutor().getName() + " has switched weapons from " + previous.getName() + " to " + toWield.getName());
         }
+        return FightResult.SUCCESS;
     }
 }
@@ -3,9 +3,8 @@ package main.fight;
 import main.attributes.Ability;
 import main.legends.Hero;
 import main.legends.Legend;
-import main.legends.NonOwnedGearItemException;
 import main.market_and_gear.Potion;
-import main.utils.Validations;
+import main.utils.Output;
 
 /**
  * Class UsePotion is a type of Internal FightMove where a Hero uses a Potion
@@ -31,14 +30,21 @@ public class UsePotion extends InternalMove {
     }
 
     /**
-     * Executes this FightMove
+     * Executes this FightMove, if it can be carried out
+     * @return SUCCESS if the FightMove was carried out, or else the reason it could not be
      */
     @Override
-    public void execute() throws InvalidFightMoveException, NonOwnedGearItemException {
+    public FightResult tryExecute() {
         Hero hero = (Hero)this.getExecutor();
-        Validations.heroIsAlive(hero);
-        Validations.heroOwnsGearItem(hero, potion);
-        Validations.potionUnused(potion);
+        if(hero.hasFainted()) {
+            return FightResult.EXECUTOR_FAINTED;
+        }
+        if(!hero.getGearItemList().containsGearItem(potion)) {
+            return FightResult.NOT_OWNED;
+        }
+        if(potion.wasUsed()) {
+            return FightResult.POTION_USED;
+        }
 
         // Boost Hero's abilities
         for(Ability ability : potion.getAbilities()) {
@@ -48,7 +54,8 @@ public class UsePotion extends InternalMove {
 
         potion.markUsed();
 
-        System.out.println(potion.getName() + " has now been used.");
-        System.out.println("The following abilities have been increased by " + potion.getIncrementAmount() + " for " + getExecutor().getName() + ": " + potion.getAbilitiesAsString());
+        Output.out().println(potion.getName() + " has now been used.");
+        Output.out().println("The following abilities have been increased by " + potion.getIncrementAmount() + " for " + getExecutor().getName() + ": " + potion.getAbilitiesAsString());
+        return FightResult.SUCCESS;
     }
 }
@@ -0,0 +1,200 @@
+package main.games;
+
+import main.GameContext;
+import main.fight.Attack;
+import main.fight.CastSpell;
+import main.fight.FightMove;
+import main.fight.UsePotion;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.Potion;
+import main.market_and_gear.Spell;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Abstract Class ActionHeroController is a HeroController that decides each Hero's turn
+ * as a whole, by picking a single action out of every action open to the Hero: attacking
+ * a Monster in range, casting a Spell on it, using a Potion, moving, teleporting or passing.
+ *
+ * LegendsOfValorTurn asks its questions one at a time (first whether to attack, then how,
+ * or else where to move), so this class picks the action on the first question of a turn
+ * and answers the remaining questions from it. Subclasses only implement chooseAction().
+ *
+ * The actions open to the Hero are listed by LegalActions, which also defines their encoding.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public abstract class ActionHeroController implements HeroController {
+    private static final int noAction = -1;
+
+    private final GameContext context;
+    private final LegalActions legalActions;
+    private Hero pendingHero;
+    private int pending;
+    private boolean rejected;
+
+    /**
+     * Standard constructor
+     * @param context the game whose Heroes this controller plays
+     */
+    public ActionHeroController(GameContext context) {
+        this.context = context;
+        this.legalActions = new LegalActions();
+        this.pending = noAction;
+    }
+
+    /**
+     * Decides what the passed in Hero does this turn
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is in
+     * @param actions every action open to the Hero, see LegalActions
+     * @param numActions the number of actions (the array may be longer)
+     * @return one of the actions
+     */
+    protected abstract int chooseAction(Hero hero, ValorWorld world, int[] actions, int numActions);
+
+    /**
+     * @return the game whose Heroes this controller plays
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
+    /**
+     * Heroes controlled by this class never enter the Market
+     * @param hero the Hero in question
+     * @return false
+     */
+    @Override
+    public boolean enterMarket(Hero hero) {
+        return false;
+    }
+
+    /**
+     * Picks the Hero's action for this turn, and attacks if it is a fight action
+     * @param hero the Hero whose turn it is
+     * @param monstersInRange the Monsters the Hero could attack
+     * @return the Monster the action is aimed at, or null to move instead
+     */
+    @Override
+    public Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange) {
+        int action = decide(hero);
+        switch (LegalActions.kindOf(action)) {
+            case LegalActions.attack:
+                return monstersInRange.get(LegalActions.firstOf(action));
+            case LegalActions.castSpell:
+                return monstersInRange.get(LegalActions.secondOf(action));
+            case LegalActions.usePotion:
+                return monstersInRange.get(0);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Carries out the fight action picked by chooseMonsterToAttack()
+     * @param hero the Hero whose turn it is
+     * @param monster the Monster chosen by chooseMonsterToAttack()
+     * @return the FightMove to execute
+     */
+    @Override
+    public FightMove chooseFightMove(Hero hero, Monster monster) {
+        int action = takePending(hero);
+        switch (LegalActions.kindOf(action)) {
+            case LegalActions.castSpell:
+                List<GearItem> spells = hero.getGearItemList().getUsableSpells(hero);
+                return new CastSpell((Spell)spells.get(LegalActions.firstOf(action)), hero, monster);
+            case LegalActions.usePotion:
+                List<GearItem> potions = hero.getGearItemList().getUsablePotions();
+                return new UsePotion(hero, (Potion)potions.get(LegalActions.firstOf(action)));
+            default:
+                return new Attack(hero, Collections.singletonList(monster));
+        }
+    }
+
+    /**
+     * Carries out the move picked earlier this turn, or picks the Hero's action now if
+     * there was no Monster in range. Passes if the previous move was rejected.
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is moving in
+     * @return the Direction to move, or null to pass
+     */
+    @Override
+    public Direction chooseDirection(Hero hero, ValorWorld world) {
+        if(rejected) {
+            rejected = false;
+            pending = noAction;
+            return null;
+        }
+        int action = pendingHero == hero && pending != noAction ? pending : decide(hero);
+        switch (LegalActions.kindOf(action)) {
+            case LegalActions.move:
+                pending = noAction;
+                return Direction.values()[LegalActions.firstOf(action)];
+            case LegalActions.teleport:
+                // Teleporting to a new Lane, the Lane is still needed by chooseTeleportLane()
+                return Direction.TELEPORT;
+            case LegalActions.teleportBack:
+                pending = noAction;
+                return Direction.TELEPORT;
+            default:
+                pending = noAction;
+                return null;
+        }
+    }
+
+    /**
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is teleporting in
+     * @return the Lane of the teleport action picked this turn
+     */
+    @Override
+    public int chooseTeleportLane(Hero hero, ValorWorld world) {
+        return LegalActions.firstOf(takePending(hero));
+    }
+
+    /**
+     * The action picked could not be carried out, so the Hero passes instead
+     * @param hero the Hero whose turn it is
+     * @param direction the Direction that was rejected
+     */
+    @Override
+    public void moveRejected(Hero hero, Direction direction) {
+        rejected = true;
+    }
+
+    /**
+     * Helper function which picks the Hero's action for this turn, and remembers it
+     * for the questions that follow
+     * @param hero the Hero whose turn it is
+     * @return the action picked
+     */
+    private int decide(Hero hero) {
+        ValorWorld world = (ValorWorld)context.getWorld();
+        int numActions = legalActions.generate(hero, world);
+        pending = chooseAction(hero, world, legalActions.getActions(), numActions);
+        pendingHero = hero;
+        rejected = false;
+        return pending;
+    }
+
+    /**
+     * Helper function which returns the action picked this turn, and forgets it
+     * @param hero the Hero whose turn it is
+     * @return the pending action, or an attack on the first Monster if there is none
+     */
+    private int takePending(Hero hero) {
+        int action = pendingHero == hero && pending != noAction ? pending : LegalActions.encode(LegalActions.attack, 0, 0);
+        pending = noAction;
+        return action;
+    }
+}
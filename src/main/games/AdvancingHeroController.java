@@ -0,0 +1,104 @@
+package main.games;
+
+import main.fight.Attack;
+import main.fight.FightMove;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class AdvancingHeroController plays the Heroes programmatically, with a simple
+ * strategy: never visit the Market, attack the first Monster in range with the
+ * equipped weapon, and otherwise push up towards the Monsters' Nexus. A Hero that
+ * is blocked from moving up steps sideways instead, and passes if it cannot move at all.
+ *
+ * Every decision is made without any console input, so games played by this
+ * controller run as fast as the game logic allows.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class AdvancingHeroController implements HeroController {
+    /**
+     * Heroes controlled by this class never enter the Market
+     * @param hero the Hero in question
+     * @return false
+     */
+    @Override
+    public boolean enterMarket(Hero hero) {
+        return false;
+    }
+
+    /**
+     * Attacks the first Monster in range
+     * @param hero the Hero whose turn it is
+     * @param monstersInRange the Monsters the Hero could attack
+     * @return the first Monster in range
+     */
+    @Override
+    public Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange) {
+        return monstersInRange.get(0);
+    }
+
+    /**
+     * Always attacks directly
+     * @param hero the Hero whose turn it is
+     * @param monster the Monster chosen by chooseMonsterToAttack()
+     * @return an Attack against the Monster
+     */
+    @Override
+    public FightMove chooseFightMove(Hero hero, Monster monster) {
+        return new Attack(hero, Collections.singletonList(monster));
+    }
+
+    /**
+     * Moves up if possible, otherwise sideways, otherwise passes
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is moving in
+     * @return the Direction to move, or null if the Hero cannot move
+     */
+    @Override
+    public Direction chooseDirection(Hero hero, ValorWorld world) {
+        Direction[] preferences = {Direction.UP, Direction.LEFT, Direction.RIGHT};
+        for(Direction direction : preferences) {
+            if(world.canMove(hero, direction)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Heroes controlled by this class never teleport, so this is never asked.
+     * Answers with the first Lane the Hero may teleport to.
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is teleporting in
+     * @return the index of the first valid Lane, or -1 if there is none
+     */
+    @Override
+    public int chooseTeleportLane(Hero hero, ValorWorld world) {
+        for(int lane = 0; lane < world.getNumLanes(); lane++) {
+            if(world.isValidLane(hero, lane)) {
+                return lane;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Nothing to do: chooseDirection() only returns Directions the World allows
+     * @param hero the Hero whose turn it is
+     * @param direction the Direction that was rejected
+     */
+    @Override
+    public void moveRejected(Hero hero, Direction direction) {
+        // Shouldn't happen
+    }
+}
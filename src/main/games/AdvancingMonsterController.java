@@ -0,0 +1,40 @@
+package main.games;
+
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+/**
+ * Class AdvancingMonsterController is the standard behavior of Monsters in Legends of Valor:
+ * if there is a Hero in range, attack it. Otherwise, move forward (forward for Monsters is down).
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class AdvancingMonsterController implements MonsterController {
+    /**
+     * Attacks the first Hero in range
+     * @param monster the Monster whose turn it is
+     * @param world the World the Monster is in
+     * @return the first Hero in range, or null if there is none
+     */
+    @Override
+    public Hero chooseHeroToAttack(Monster monster, ValorWorld world) {
+        return world.firstHeroInRange(monster, ValorWorld.attackRange);
+    }
+
+    /**
+     * Monsters always move down
+     * @param monster the Monster whose turn it is
+     * @param world the World the Monster is in
+     * @return Direction.DOWN
+     */
+    @Override
+    public Direction chooseDirection(Monster monster, ValorWorld world) {
+        return Direction.DOWN;
+    }
+}
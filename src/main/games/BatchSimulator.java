@@ -0,0 +1,200 @@
+package main.games;
+
+import main.GameContext;
+import main.legends.LegendList;
+import main.utils.Output;
+import main.utils.RandomSource;
+import main.utils.Validations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Class BatchSimulator plays many games of Legends of Valor without anyone watching,
+ * to answer questions such as "how often does this team of Heroes win on this map?"
+ *
+ * Games are played concurrently on a ForkJoinPool. Every game has its own GameContext,
+ * and so its own roster and RandomSource, so games share nothing but the read-only
+ * Market catalog and scale with the number of cores. The seed of each game is drawn
+ * up front from the batch seed, so a batch plays out the same way no matter how many
+ * threads it runs on.
+ *
+ * The game prints its progress through Output.out(), so the threads playing a batch are
+ * quiet (see Output.setQuiet()): nothing they print is shown and the World is not drawn.
+ * Games played on other threads at the same time are unaffected.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class BatchSimulator {
+    public static final int defaultRoundLimit = 1000;
+    private static final int gamesPerTask = 4; // below this many games, a task plays its games rather than splitting
+    private final int numGames;
+    private final int numThreads;
+    private long seed;
+    private Long mapSeed;
+    private List<String> heroNames;
+    private int roundLimit;
+    private TurnOrder turnOrder;
+    private Function<GameContext, HeroController> heroControllerFactory;
+
+    /**
+     * Standard constructor. By default, Heroes are played by an AdvancingHeroController,
+     * and every game is played on a different map.
+     * Throws an IllegalArgumentException if numGames is negative, or numThreads is not positive
+     * @param numGames the number of games to play
+     * @param numThreads the number of games to play at the same time
+     * @param heroNames the names of the Heroes on the team
+     */
+    public BatchSimulator(int numGames, int numThreads, List<String> heroNames) {
+        Validations.nonNegative(numGames, "numGames");
+        if(numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive!");
+        }
+        this.numGames = numGames;
+        this.numThreads = numThreads;
+        this.heroNames = new ArrayList<>(heroNames);
+        this.seed = System.nanoTime();
+        this.mapSeed = null;
+        this.roundLimit = defaultRoundLimit;
+        this.turnOrder = TurnOrder.ALTERNATING;
+        this.heroControllerFactory = context -> new AdvancingHeroController();
+    }
+
+    /**
+     * Sets the seed every game's randomness is derived from
+     * @param seed the batch seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Plays every game on the same map, generated from the passed in seed
+     * @param mapSeed the seed of the map
+     */
+    public void setMapSeed(long mapSeed) {
+        this.mapSeed = mapSeed;
+    }
+
+    /**
+     * Sets the maximum number of rounds in a game, after which it counts as unfinished
+     * @param roundLimit the maximum number of rounds
+     */
+    public void setRoundLimit(int roundLimit) {
+        Validations.nonNegative(roundLimit, "roundLimit");
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * Sets how the turns of each round are ordered in every game
+     * @param turnOrder how the turns of a round are ordered
+     */
+    public void setTurnOrder(TurnOrder turnOrder) {
+        this.turnOrder = turnOrder;
+    }
+
+    /**
+     * Sets how the Heroes are played. The factory is called once per game.
+     * @param heroControllerFactory creates the HeroController for a game
+     */
+    public void setHeroControllerFactory(Function<GameContext, HeroController> heroControllerFactory) {
+        this.heroControllerFactory = heroControllerFactory;
+    }
+
+    /**
+     * Plays every game, and aggregates the results
+     * @return the aggregated results of every game
+     */
+    public SimulationReport run() {
+        long[] seeds = new long[numGames];
+        RandomSource random = new RandomSource(seed);
+        for(int i = 0; i < numGames; i++) {
+            seeds[i] = random.nextLong();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(numThreads);
+        long start = System.nanoTime();
+        SimulationReport report;
+        try {
+            report = pool.invoke(new PlayGames(seeds, 0, numGames));
+        } finally {
+            pool.shutdown();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Plays a single game
+     * @param gameSeed the seed of the game
+     * @return the outcome of the game
+     */
+    private GameResult playGame(long gameSeed) {
+        RandomSource random = new RandomSource(gameSeed);
+        RandomSource mapRandom = mapSeed == null ? random.split() : new RandomSource(mapSeed);
+        GameContext context = GameContext.newValorGame(new LegendList(heroNames), mapRandom, random);
+        ValorGame game = new ValorGame(context, heroControllerFactory.apply(context), new AdvancingMonsterController());
+        game.setRoundLimit(roundLimit);
+        game.setTurnOrder(turnOrder);
+        game.play();
+        return game.getResult();
+    }
+
+    /**
+     * Private class which plays a range of the games, splitting the range in half
+     * for other threads to pick up until it is small enough to play directly.
+     */
+    private class PlayGames extends RecursiveTask<SimulationReport> {
+        private static final long serialVersionUID = 1L;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        /**
+         * Standard constructor
+         * @param seeds the seed of every game in the batch
+         * @param from the first game to play
+         * @param to one past the last game to play
+         */
+        public PlayGames(long[] seeds, int from, int to) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the games in this range
+         * @return the aggregated results of the games in this range
+         */
+        @Override
+        protected SimulationReport compute() {
+            if(to - from <= gamesPerTask) {
+                SimulationReport report = new SimulationReport();
+                boolean wasQuiet = Output.isQuiet();
+                Output.setQuiet(true);
+                try {
+                    for(int i = from; i < to; i++) {
+                        report.add(playGame(seeds[i]));
+                    }
+                } finally {
+                    Output.setQuiet(wasQuiet);
+                }
+                return report;
+            }
+
+            int middle = (from + to) >>> 1;
+            PlayGames left = new PlayGames(seeds, from, middle);
+            left.fork();
+            SimulationReport report = new PlayGames(seeds, middle, to).compute();
+            report.merge(left.join());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package main.games;
+
+/**
+ * Class GameResult records the outcome of a single game of Legends of Valor: who won,
+ * how many rounds it took, and how many Monsters the Heroes killed and coins they earned
+ * along the way. It is filled in as the game is played, and is kept in the game's GameContext.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class GameResult {
+    /**
+     * Enum Winner lists the ways a game can end. NONE means the game was stopped
+     * at its round limit before either side won.
+     */
+    public enum Winner {
+        HEROES,
+        MONSTERS,
+        NONE
+    }
+
+    private Winner winner;
+    private int rounds;
+    private int kills;
+    private int coinsEarned;
+
+    /**
+     * Standard constructor, for a game that has not started yet
+     */
+    public GameResult() {
+        winner = Winner.NONE;
+        rounds = 0;
+        kills = 0;
+        coinsEarned = 0;
+    }
+
+    /**
+     * Copy constructor
+     * @param other the GameResult to copy
+     */
+    public GameResult(GameResult other) {
+        set(other);
+    }
+
+    /**
+     * Overwrites this GameResult with the passed in one
+     * @param other the GameResult to copy
+     */
+    public void set(GameResult other) {
+        this.winner = other.winner;
+        this.rounds = other.rounds;
+        this.kills = other.kills;
+        this.coinsEarned = other.coinsEarned;
+    }
+
+    /**
+     * @return which side won the game, or NONE if neither has (yet)
+     */
+    public Winner getWinner() {
+        return winner;
+    }
+
+    /**
+     * Sets which side won the game
+     * @param winner the winning side
+     */
+    public void setWinner(Winner winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * @return the number of rounds played
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Sets the number of rounds played
+     * @param rounds the number of rounds played so far
+     */
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    /**
+     * @return the number of Monsters killed by Heroes
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * @return the number of coins Heroes earned by killing Monsters
+     */
+    public int getCoinsEarned() {
+        return coinsEarned;
+    }
+
+    /**
+     * Records that a Hero killed a Monster
+     * @param coins the number of coins the Hero earned for the kill
+     */
+    public void recordKill(int coins) {
+        kills++;
+        coinsEarned += coins;
+    }
+}
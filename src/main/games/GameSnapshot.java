@@ -0,0 +1,248 @@
+package main.games;
+
+import main.GameContext;
+import main.attributes.Ability;
+import main.legends.Hero;
+import main.legends.LegendList;
+import main.legends.Monster;
+import main.legends.MonsterArena;
+import main.market_and_gear.Armor;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.Potion;
+import main.market_and_gear.Weapon;
+import main.world.ValorWorld;
+
+import java.util.List;
+
+/**
+ * Class GameSnapshot captures the state of a game of Legends of Valor at some point, so
+ * that the game can later be put back exactly as it was. This is what lets a lookahead AI
+ * try out a move, see where it leads, and then undo it.
+ *
+ * Nothing is cloned: a snapshot records the numbers that change as a game is played
+ * (Ability values, Levels, Experience, coins, positions, and so on) in flat arrays, next
+ * to references to the Legends and GearItems they belong to. Restoring a snapshot writes
+ * those numbers back into the same objects. Both are proportional to the number of
+ * Legends in the game, so thousands of snapshots can be taken and restored per second.
+ *
+ * A snapshot can only be restored to the game it was taken from. To explore a game on
+ * another thread, first fork it (see GameContext.fork()), then take snapshots of the fork.
+ *
+ * The game's RandomSource is not part of a snapshot: searching code usually wants a
+ * different roll of the dice each time it restores a snapshot, not the same one.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class GameSnapshot {
+    private static final int fullAmountsPerLegend = 2; // HealthPower, then Mana (Heroes only)
+
+    // Every chosen Hero, then every active Monster. Catalog Monsters never change, and
+    // Monsters spawned after the snapshot are simply dropped on restore.
+    private final Hero[] heroes;
+    private final Monster[] monsters;
+    private final int[] abilityOffsets; // where each Legend's Abilities start in abilityValues
+    private final double[] abilityValues;
+    private final double[] fullAmounts;
+    private final int[] levels;
+
+    // Per chosen Hero
+    private final int[] experience;
+    private final int[] coins;
+    private final boolean[] fainted;
+    private final GearItem[][] gearItems;
+    private final boolean[][] potionsUsed; // parallel to gearItems, only meaningful for Potions
+    private final Weapon[] weapons;
+    private final Armor[] armor;
+    private final GearItem[][] activePotions;
+    private final GearItem[][] activeSpells;
+
+    private final int[] spawnCounts;
+    private final ValorWorld.State world;
+    private final GameResult result;
+    private final int roundNum;
+    private final boolean firstRound;
+
+    /**
+     * Takes a snapshot of the passed in game
+     * @param context the game to take a snapshot of, which must be played in a ValorWorld
+     * @param roundNum the number of the last round played
+     * @param firstRound whether or not the first round is still to be finished
+     */
+    public GameSnapshot(GameContext context, int roundNum, boolean firstRound) {
+        LegendList roster = context.getRoster();
+        List<Hero> chosenHeroes = roster.getChosenHeroes();
+        heroes = chosenHeroes.toArray(new Hero[0]);
+        monsters = roster.getActiveMonsters().toArray(new Monster[0]);
+
+        int numLegends = heroes.length + monsters.length;
+        abilityOffsets = new int[numLegends + 1];
+        for(int i = 0; i < numLegends; i++) {
+            abilityOffsets[i + 1] = abilityOffsets[i] + abilitiesOf(i).size();
+        }
+        abilityValues = new double[abilityOffsets[numLegends]];
+        fullAmounts = new double[numLegends * fullAmountsPerLegend];
+        levels = new int[numLegends];
+        for(int i = 0; i < numLegends; i++) {
+            List<Ability> abilities = abilitiesOf(i);
+            for(int a = 0; a < abilities.size(); a++) {
+                abilityValues[abilityOffsets[i] + a] = abilities.get(a).getAbilityValue();
+            }
+        }
+        for(int i = 0; i < heroes.length; i++) {
+            fullAmounts[i * fullAmountsPerLegend] = heroes[i].getHealthPower().getFullAmount();
+            fullAmounts[i * fullAmountsPerLegend + 1] = heroes[i].getMana().getFullAmount();
+            levels[i] = heroes[i].getLevel().getLevel();
+        }
+        for(int m = 0; m < monsters.length; m++) {
+            int i = heroes.length + m;
+            fullAmounts[i * fullAmountsPerLegend] = monsters[m].getHealthPower().getFullAmount();
+            levels[i] = monsters[m].getLevel().getLevel();
+        }
+
+        experience = new int[heroes.length];
+        coins = new int[heroes.length];
+        fainted = new boolean[heroes.length];
+        gearItems = new GearItem[heroes.length][];
+        potionsUsed = new boolean[heroes.length][];
+        weapons = new Weapon[heroes.length];
+        armor = new Armor[heroes.length];
+        activePotions = new GearItem[heroes.length][];
+        activeSpells = new GearItem[heroes.length][];
+        for(int i = 0; i < heroes.length; i++) {
+            Hero hero = heroes[i];
+            experience[i] = hero.getExperience().getExperience();
+            coins[i] = hero.getCoffer().getNumCoins();
+            fainted[i] = hero.hasFainted();
+            gearItems[i] = hero.getGearItemList().getGearItems().toArray(new GearItem[0]);
+            potionsUsed[i] = new boolean[gearItems[i].length];
+            for(int g = 0; g < gearItems[i].length; g++) {
+                if(gearItems[i][g] instanceof Potion) {
+                    potionsUsed[i][g] = ((Potion)gearItems[i][g]).wasUsed();
+                }
+            }
+            weapons[i] = hero.getActiveGearItems().getWeapon();
+            armor[i] = hero.getActiveGearItems().getArmor();
+            activePotions[i] = hero.getActiveGearItems().getPotions().toArray(new GearItem[0]);
+            activeSpells[i] = hero.getActiveGearItems().getSpells().toArray(new GearItem[0]);
+        }
+
+        spawnCounts = roster.getSpawnCounts();
+        world = ((ValorWorld)context.getWorld()).saveState();
+        result = new GameResult(context.getResult());
+        this.roundNum = roundNum;
+        this.firstRound = firstRound;
+    }
+
+    /**
+     * Puts the passed in game back to the state it was in when this snapshot was taken.
+     * Lists held by the game (such as the roster's active Monsters) are refilled in place,
+     * so anything iterating over them keeps seeing the game's current state.
+     * @param context the game this snapshot was taken from
+     */
+    public void restoreTo(GameContext context) {
+        int numLegends = heroes.length + monsters.length;
+        for(int i = 0; i < numLegends; i++) {
+            List<Ability> abilities = abilitiesOf(i);
+            for(int a = 0; a < abilities.size(); a++) {
+                abilities.get(a).setAbilityValue(abilityValues[abilityOffsets[i] + a]);
+            }
+        }
+        for(int i = 0; i < heroes.length; i++) {
+            Hero hero = heroes[i];
+            hero.getHealthPower().setFullAmount(fullAmounts[i * fullAmountsPerLegend]);
+            hero.getMana().setFullAmount(fullAmounts[i * fullAmountsPerLegend + 1]);
+            hero.getLevel().setLevel(levels[i]);
+            hero.getExperience().setExperience(experience[i]);
+            hero.getCoffer().setNumCoins(coins[i]);
+            hero.setFainted(fainted[i]);
+            restoreGearItems(hero, i);
+        }
+        for(int m = 0; m < monsters.length; m++) {
+            int i = heroes.length + m;
+            monsters[m].getHealthPower().setFullAmount(fullAmounts[i * fullAmountsPerLegend]);
+            monsters[m].getLevel().setLevel(levels[i]);
+        }
+
+        MonsterArena active = context.getRoster().getActiveMonsters();
+        active.clear();
+        for(Monster monster : monsters) {
+            active.spawn(monster);
+        }
+        context.getRoster().setSpawnCounts(spawnCounts);
+        context.getRoster().refreshMaxHeroLevel();
+        ((ValorWorld)context.getWorld()).restoreState(world);
+        context.getResult().set(result);
+    }
+
+    /**
+     * Helper function which puts back the passed in Hero's GearItems
+     * @param hero the Hero in question
+     * @param i the index of the Hero in this snapshot
+     */
+    private void restoreGearItems(Hero hero, int i) {
+        List<GearItem> items = hero.getGearItemList().getGearItems();
+        items.clear();
+        for(int g = 0; g < gearItems[i].length; g++) {
+            GearItem item = gearItems[i][g];
+            items.add(item);
+            if(item instanceof Potion) {
+                ((Potion)item).setUsed(potionsUsed[i][g]);
+            }
+        }
+
+        if(weapons[i] == null) {
+            hero.getActiveGearItems().deactivateWeapon();
+        } else {
+            hero.getActiveGearItems().activateWeapon(weapons[i]);
+        }
+        if(armor[i] == null) {
+            hero.getActiveGearItems().removeArmor();
+        } else {
+            hero.getActiveGearItems().putOnArmor(armor[i]);
+        }
+        refill(hero.getActiveGearItems().getPotions(), activePotions[i]);
+        refill(hero.getActiveGearItems().getSpells(), activeSpells[i]);
+    }
+
+    /**
+     * Helper function which replaces the contents of a List with the passed in items
+     * @param list the List to refill
+     * @param items the items to put in the List
+     */
+    private static void refill(List<GearItem> list, GearItem[] items) {
+        list.clear();
+        for(GearItem item : items) {
+            list.add(item);
+        }
+    }
+
+    /**
+     * Helper function which finds the Abilities of the i-th Legend in this snapshot
+     * @param i the index of the Legend: Heroes first, then Monsters
+     * @return the Legend's Abilities
+     */
+    private List<Ability> abilitiesOf(int i) {
+        if(i < heroes.length) {
+            return heroes[i].getAbilities();
+        }
+        return monsters[i - heroes.length].getAbilities();
+    }
+
+    /**
+     * @return the number of the last round played when this snapshot was taken
+     */
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    /**
+     * @return whether or not the first round was still to be finished when this snapshot was taken
+     */
+    public boolean isFirstRound() {
+        return firstRound;
+    }
+}
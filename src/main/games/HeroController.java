@@ -0,0 +1,78 @@
+package main.games;
+
+import main.fight.FightMove;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.List;
+
+/**
+ * Interface HeroController represents whoever is making the decisions for the Heroes
+ * in a game of Legends of Valor. LegendsOfValorTurn asks the HeroController what each
+ * Hero should do, and then carries out the decision.
+ *
+ * The TerminalHeroController asks a person at the terminal, exactly as the game always
+ * has. Other implementations decide programmatically, which allows a full game to be
+ * played without any console input at all.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public interface HeroController {
+    /**
+     * Decides whether or not the passed in Hero enters the Market. Asked at the start of the
+     * Hero's turn in the first round, if they are in their Nexus, and after a move that brings
+     * the Hero into their Nexus from outside of it. Asked at most once per turn.
+     * @param hero the Hero in question
+     * @return true if the Hero should enter the Market, false otherwise
+     */
+    boolean enterMarket(Hero hero);
+
+    /**
+     * Decides which Monster, if any, the passed in Hero attacks.
+     * Only asked when there is at least one Monster in range.
+     * @param hero the Hero whose turn it is
+     * @param monstersInRange the Monsters the Hero could attack
+     * @return one of monstersInRange, or null if the Hero should move instead
+     */
+    Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange);
+
+    /**
+     * Decides how the passed in Hero acts against the Monster it chose to attack.
+     * The Hero does not need to attack directly: it may cast a Spell or use a Potion instead.
+     * @param hero the Hero whose turn it is
+     * @param monster the Monster chosen by chooseMonsterToAttack()
+     * @return the FightMove to execute
+     */
+    FightMove chooseFightMove(Hero hero, Monster monster);
+
+    /**
+     * Decides which Direction the passed in Hero moves in
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is moving in
+     * @return the Direction to move, or null if the Hero should pass
+     */
+    Direction chooseDirection(Hero hero, ValorWorld world);
+
+    /**
+     * Decides which Lane the passed in Hero teleports to. Only asked when the Hero
+     * teleports to a new Lane, rather than back to the Lane it teleported from.
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is teleporting in
+     * @return the index of the Lane to teleport to
+     */
+    int chooseTeleportLane(Hero hero, ValorWorld world);
+
+    /**
+     * Informs this controller that the Direction it chose could not be taken.
+     * The Hero's turn continues, and chooseDirection() is asked again.
+     * @param hero the Hero whose turn it is
+     * @param direction the Direction that was rejected
+     */
+    void moveRejected(Hero hero, Direction direction);
+}
@@ -0,0 +1,207 @@
+package main.games;
+
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.Arrays;
+
+/**
+ * Class LegalActions lists every action open to a Legend on its turn in Legends of Valor:
+ * attacking a Legend in range, casting a Spell on it, using a Potion, moving, teleporting
+ * or passing. Generating the actions only reads the World and the Legend: nothing is
+ * prompted, nothing is thrown, and nothing in the game changes.
+ *
+ * Actions are encoded as ints: the kind of action, and up to two small arguments such as
+ * the index of the Legend in range, or of the Spell among the Hero's usable Spells.
+ * Legends in range are indexed in the order of ValorWorld.forEachMonsterInRange()
+ * (or forEachHeroInRange() for a Monster), and Spells and Potions in the order of
+ * GearItemList.getUsableSpells() and getUsablePotions().
+ *
+ * The actions are written to a buffer that is reused by every call to generate(),
+ * so a single instance can list the actions of every turn of a game without allocating.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class LegalActions {
+    public static final int attack = 1; // first: Legend in range
+    public static final int castSpell = 2; // first: usable Spell, second: Monster in range
+    public static final int usePotion = 3; // first: usable Potion
+    public static final int move = 4; // first: Direction ordinal
+    public static final int teleport = 5; // first: Lane
+    public static final int teleportBack = 6;
+    public static final int pass = 7;
+    private static final Direction[] heroMoves = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT, Direction.BACK};
+
+    private int[] actions;
+    private int size;
+
+    /**
+     * Standard constructor, for an empty list of actions
+     */
+    public LegalActions() {
+        this.actions = new int[16];
+        this.size = 0;
+    }
+
+    /**
+     * Encodes an action
+     * @param kind the kind of action, e.g. attack or move
+     * @param first the first argument, between 0 and 255
+     * @param second the second argument, between 0 and 255
+     * @return the encoded action
+     */
+    public static int encode(int kind, int first, int second) {
+        return (kind << 16) | (first << 8) | second;
+    }
+
+    /**
+     * @param action an encoded action
+     * @return the kind of the action
+     */
+    public static int kindOf(int action) {
+        return action >>> 16;
+    }
+
+    /**
+     * @param action an encoded action
+     * @return the first argument of the action
+     */
+    public static int firstOf(int action) {
+        return (action >>> 8) & 0xFF;
+    }
+
+    /**
+     * @param action an encoded action
+     * @return the second argument of the action
+     */
+    public static int secondOf(int action) {
+        return action & 0xFF;
+    }
+
+    /**
+     * Lists every action open to the passed in Hero, replacing the previous list.
+     * There is always at least one: if the Hero can do nothing else, they pass.
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is in
+     * @return the number of actions
+     */
+    public int generate(Hero hero, ValorWorld world) {
+        size = 0;
+        int numMonsters = world.countMonstersInRange(hero, ValorWorld.attackRange);
+        if(numMonsters > 0) {
+            for(int m = 0; m < numMonsters; m++) {
+                add(encode(attack, m, 0));
+            }
+            int numSpells = hero.getGearItemList().countUsableSpells(hero);
+            for(int s = 0; s < numSpells; s++) {
+                for(int m = 0; m < numMonsters; m++) {
+                    add(encode(castSpell, s, m));
+                }
+            }
+            int numPotions = hero.getGearItemList().countUsablePotions();
+            for(int p = 0; p < numPotions; p++) {
+                add(encode(usePotion, p, 0));
+            }
+        }
+
+        for(Direction direction : heroMoves) {
+            if(world.canMove(hero, direction)) {
+                add(encode(move, direction.ordinal(), 0));
+            }
+        }
+        if(!world.hasTeleported(hero)) {
+            for(int lane = 0; lane < world.getNumLanes(); lane++) {
+                if(world.isValidLane(hero, lane)) {
+                    add(encode(teleport, lane, 0));
+                }
+            }
+        } else if(world.canTeleport(hero)) {
+            add(encode(teleportBack, 0, 0));
+        }
+
+        if(size == 0) {
+            add(encode(pass, 0, 0));
+        }
+        return size;
+    }
+
+    /**
+     * Lists every action open to the passed in Monster, replacing the previous list:
+     * attacking each Hero in range, moving down, or else passing
+     * @param monster the Monster whose turn it is
+     * @param world the World the Monster is in
+     * @return the number of actions
+     */
+    public int generate(Monster monster, ValorWorld world) {
+        size = 0;
+        int numHeroes = world.countHeroesInRange(monster, ValorWorld.attackRange);
+        for(int h = 0; h < numHeroes; h++) {
+            add(encode(attack, h, 0));
+        }
+        if(world.canMove(monster, Direction.DOWN)) {
+            add(encode(move, Direction.DOWN.ordinal(), 0));
+        }
+        if(size == 0) {
+            add(encode(pass, 0, 0));
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of actions listed by the last call to generate()
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of an action, less than size()
+     * @return the action at the index
+     */
+    public int get(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No action at index " + index + "!");
+        }
+        return actions[index];
+    }
+
+    /**
+     * Returns the buffer the actions are listed in. Only the first size() entries are actions,
+     * and the buffer is overwritten by the next call to generate().
+     * @return the buffer of actions
+     */
+    public int[] getActions() {
+        return actions;
+    }
+
+    /**
+     * Indicates whether or not the passed in action was listed by the last call to generate()
+     * @param action the action in question
+     * @return true if the action is legal, false otherwise
+     */
+    public boolean contains(int action) {
+        for(int i = 0; i < size; i++) {
+            if(actions[i] == action) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Helper function which appends an action to the buffer, growing it if necessary
+     * @param action the action to append
+     */
+    private void add(int action) {
+        if(size == actions.length) {
+            actions = Arrays.copyOf(actions, actions.length * 2);
+        }
+        actions[size++] = action;
+    }
+}
@@ -1,10 +1,12 @@
 package main.games;
 
+import main.GameContext;
 import main.Runner;
 import main.legends.Hero;
 import main.legends.Legend;
-import main.legends.LegendList;
 import main.legends.Monster;
+import main.utils.Output;
+import main.utils.Validations;
 import main.world.ValorWorld;
 
 import java.util.ArrayList;
@@ -20,7 +22,8 @@ import java.util.List;
  * here, we implement all actions within Valor as part of this RoundBasedGame.
  *
  * Each round proceeds as a TurnBasedGame, which switches between actions for
- * Heroes and for Monsters. At the end of the round, surviving Heroes regain
+ * Heroes and for Monsters. The same TurnBasedGame and TurnScheduler are reused
+ * for every round, and Monsters join the scheduler as they are spawned. At the end of the round, surviving Heroes regain
  * 10% of their HP and Mana, and fainted heroes are respawned in their Nexus.
  *
  * Further, when a multiple of 8 rounds has been played, 3 new Monsters are
@@ -38,11 +41,16 @@ public class LegendsOfValorRound implements RoundExecutor {
     public static final int numMonstersToSpawn = 3;
     private final List<Hero> heroes;
     private final List<Monster> monsters;
-    private TurnBasedGame turnBasedGame;
-    private TurnExecutor turnExecutor;
+    private final TurnBasedGame turnBasedGame;
+    private LegendsOfValorTurn turnExecutor;
+    private TurnScheduler scheduler;
     private int roundNum;
     private final int numRoundsToNewMonsters;
     private boolean firstRound;
+    private int roundLimit;
+    private final GameContext context;
+    private final HeroController heroController;
+    private final MonsterController monsterController;
 
     /**
      * Empty constructor
@@ -69,22 +77,108 @@ public class LegendsOfValorRound implements RoundExecutor {
      * @param roundsToNewMonsters number of rounds until new Monsters are spawned.
      */
     public LegendsOfValorRound(List<Hero> heroes, List<Monster> monsters, int roundsToNewMonsters) {
+        this(Runner.getInstance().getContext(), heroes, monsters, roundsToNewMonsters, new TerminalHeroController(), new AdvancingMonsterController());
+    }
+
+    /**
+     * Constructs a LegendsOfValorRound whose Heroes and Monsters are played by the passed in controllers
+     * @param context the game this Round is played in
+     * @param heroes the Heroes that are involved in this game
+     * @param monsters the Monsters that are involved in this game (may change as the game progresses)
+     * @param roundsToNewMonsters number of rounds until new Monsters are spawned.
+     * @param heroController decides what each Hero does
+     * @param monsterController decides what each Monster does
+     */
+    public LegendsOfValorRound(GameContext context, List<Hero> heroes, List<Monster> monsters, int roundsToNewMonsters,
+                               HeroController heroController, MonsterController monsterController) {
+        this.context = context;
         this.heroes = heroes;
         this.monsters = monsters;
         this.firstRound = true;
-        this.turnExecutor = new LegendsOfValorTurn(heroes, monsters, firstRound);
+        this.heroController = heroController;
+        this.monsterController = monsterController;
+        this.scheduler = new TurnScheduler();
+        scheduleLegends();
+        this.turnExecutor = new LegendsOfValorTurn(context, scheduler, firstRound, heroController, monsterController);
         this.turnBasedGame = new TurnBasedGame(turnExecutor);
         this.numRoundsToNewMonsters = roundsToNewMonsters;
+        this.roundLimit = Integer.MAX_VALUE;
         roundNum = 0;
     }
 
+    /**
+     * Stops the game after the passed in number of rounds, even if neither side has won.
+     * Throws an IllegalArgumentException if roundLimit is negative
+     * @param roundLimit the maximum number of rounds to play
+     */
+    public void setRoundLimit(int roundLimit) {
+        Validations.nonNegative(roundLimit, "roundLimit");
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * Sets how the turns of each round are ordered, from the next round on
+     * @param order how the turns of a round are ordered
+     */
+    public void setTurnOrder(TurnOrder order) {
+        if(order != scheduler.getOrder()) {
+            scheduler = new TurnScheduler(order);
+            scheduleLegends();
+            turnExecutor = new LegendsOfValorTurn(context, scheduler, firstRound, heroController, monsterController);
+            turnBasedGame.setExecutor(turnExecutor);
+        }
+    }
+
+    /**
+     * @return the number of the round being played, or of the last round played
+     */
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    /**
+     * @return true if the first round has not finished yet, false otherwise
+     */
+    public boolean isFirstRound() {
+        return firstRound;
+    }
+
+    /**
+     * Moves this game back (or forward) to the passed in round, for example when a
+     * GameSnapshot is restored. The next round played is roundNum + 1.
+     * @param roundNum the number of the last round played
+     * @param firstRound whether or not the first round is still to be finished
+     */
+    public void restoreRound(int roundNum, boolean firstRound) {
+        Validations.nonNegative(roundNum, "roundNum");
+        this.roundNum = roundNum;
+        this.firstRound = firstRound;
+
+        // The Legends in play may have changed, so schedule them afresh
+        scheduler.clear();
+        scheduleLegends();
+    }
+
+    /**
+     * Helper function which adds every Hero and Monster of this game to the scheduler.
+     * Dead Monsters are dropped when the next round starts.
+     */
+    private void scheduleLegends() {
+        for(Hero hero : heroes) {
+            scheduler.add(hero);
+        }
+        for(Monster monster : monsters) {
+            scheduler.add(monster);
+        }
+    }
+
     /**
      * Performs any preprocessing required before the start of a round.
      */
     @Override
     public void setupNextRound() {
-        this.turnExecutor = new LegendsOfValorTurn(heroes, monsters, firstRound);
-        this.turnBasedGame = new TurnBasedGame(turnExecutor);
+        turnExecutor.setFirstRound(firstRound);
+        turnExecutor.reset();
         roundNum++;
     }
 
@@ -103,7 +197,8 @@ public class LegendsOfValorRound implements RoundExecutor {
      */
     @Override
     public void processEndOfRound() {
-        System.out.println("End of round " + roundNum);
+        Output.out().println("End of round " + roundNum);
+        context.getResult().setRounds(roundNum);
         processSurvivingHeroes();
         respawnFaintedHeroes();
         spawnMonstersIfNecessary();
@@ -119,21 +214,21 @@ public class LegendsOfValorRound implements RoundExecutor {
     private void processSurvivingHeroes() {
         for(Hero hero : this.heroes) {
             if(!hero.hasFainted()) {
-                System.out.println(hero.getName() + " is still alive!");
+                Output.out().println(hero.getName() + " is still alive!");
 
                 // Surviving Heroes regain 10% of their health power
                 if(hero.getHealthPower().isFull()) {
-                    System.out.println(hero.getName() + "'s health power is full.");
+                    Output.out().println(hero.getName() + "'s health power is full.");
                 } else {
-                    System.out.println(hero.getName() + " has regained 10% of their health power.");
+                    Output.out().println(hero.getName() + " has regained 10% of their health power.");
                     hero.getHealthPower().increaseByPercentageOfFull(10);
                 }
 
                 // And 10% of their Mana
                 if(hero.getMana().isFull()) {
-                    System.out.println(hero.getName() + "'s mana is full.");
+                    Output.out().println(hero.getName() + "'s mana is full.");
                 } else {
-                    System.out.println(hero.getName() + " has regained 10% of their mana.");
+                    Output.out().println(hero.getName() + " has regained 10% of their mana.");
                     hero.getMana().increaseByPercentageOfFull(10);
                 }
             }
@@ -145,23 +240,27 @@ public class LegendsOfValorRound implements RoundExecutor {
      * respective Nexus.
      */
     private void respawnFaintedHeroes() {
-        ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
+        ValorWorld world = (ValorWorld)context.getWorld();
         for(Hero hero : heroes) {
             if(hero.hasFainted()) {
-                System.out.println(hero.getName() + " has fainted, and will be respawned in their Nexus.");
+                Output.out().println(hero.getName() + " has fainted, and will be respawned in their Nexus.");
                 world.respawnHero(hero);
             }
         }
     }
 
     /**
-     * Removes any dead Monsters
+     * Removes any dead Monsters, both from the World and from play.
+     * Monsters killed by a Hero are already removed when they die, so this is a safety net.
      */
     private void removeDeadMonsters() {
-        for(Monster monster : monsters) {
+        ValorWorld world = (ValorWorld)context.getWorld();
+        // Backwards, since removing a Monster from play moves the last Monster into its place
+        for(int i = monsters.size() - 1; i >= 0; i--) {
+            Monster monster = monsters.get(i);
             if(!monster.isAlive()) {
-                ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
                 world.removeDeadMonster(monster);
+                monsters.remove(i);
             }
         }
     }
@@ -172,13 +271,14 @@ public class LegendsOfValorRound implements RoundExecutor {
      */
     private void spawnMonstersIfNecessary() {
         if(roundNum != 0 && roundNum % numRoundsToNewMonsters == 0) {
-            System.out.println("Spawning new Monsters!");
-            ValorWorld world = (ValorWorld) Runner.getInstance().getWorld();
-            System.out.println("New Monsters have been spawned in their Nexus!");
+            Output.out().println("Spawning new Monsters!");
+            ValorWorld world = (ValorWorld) context.getWorld();
+            Output.out().println("New Monsters have been spawned in their Nexus!");
             for(int i = 0; i < LegendsOfValorRound.numMonstersToSpawn; i++) {
-                Monster monster = LegendList.getInstance().spawnNewMonster();
+                Monster monster = context.getRoster().spawnNewMonster();
                 if(monster != null) {
                     world.addNewlySpawnedMonster(monster);
+                    scheduler.add(monster);
                 }
             }
         }
@@ -195,16 +295,18 @@ public class LegendsOfValorRound implements RoundExecutor {
      */
     @Override
     public boolean finishedGame() {
-        ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
+        ValorWorld world = (ValorWorld)context.getWorld();
         if(world.heroInMonstersNexus()) {
-            System.out.println("A Hero has made it to the Monsters nexus and so the Heroes win! Congratulations!");
+            Output.out().println("A Hero has made it to the Monsters nexus and so the Heroes win! Congratulations!");
+            context.getResult().setWinner(GameResult.Winner.HEROES);
             return true;
         }
 
         if(world.monsterInHeroesNexus()) {
-            System.out.println("Oh no! A Monster has made it the Heros nexus, and so the Monsters win!");
+            Output.out().println("Oh no! A Monster has made it the Heros nexus, and so the Monsters win!");
+            context.getResult().setWinner(GameResult.Winner.MONSTERS);
             return true;
         }
-        return false;
+        return roundNum >= roundLimit;
     }
 }
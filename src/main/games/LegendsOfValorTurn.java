@@ -1,19 +1,17 @@
 package main.games;
 
+import main.GameContext;
 import main.Runner;
 import main.attributes.Position;
 import main.fight.Attack;
 import main.fight.FightMove;
-import main.fight.GetUserFightMove;
-import main.fight.InvalidFightMoveException;
+import main.fight.FightResult;
 import main.legends.Hero;
 import main.legends.Legend;
 import main.legends.Monster;
 import main.utils.*;
 import main.world.Direction;
-import main.world.InvalidMoveDirection;
 import main.world.ValorWorld;
-import main.world.World;
 
 import java.util.*;
 
@@ -23,6 +21,9 @@ import java.util.*;
  * a Monster may attack a Hero or move forward, or a Hero may choose some type
  * of Move or fight action against a Monster in range.
  *
+ * The decisions themselves are left to a HeroController and a MonsterController,
+ * so the same turn logic serves a person at the terminal and programmatic players alike.
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/17/20
@@ -32,19 +33,53 @@ import java.util.*;
 public class LegendsOfValorTurn implements TurnExecutor {
     private Legend current;
     private boolean firstTurn;
-    private ListIterator<Hero> heroIterator;
-    private ListIterator<Monster> monsterIterator;
+    private final TurnScheduler scheduler;
     private boolean finished;
     private boolean firstRound;
+    private final GameContext context;
+    private final HeroController heroController;
+    private final MonsterController monsterController;
 
     /**
-     * Standard constructor
+     * Constructs a LegendsOfValorTurn in the game played at the terminal, where the user
+     * controls the Heroes, and the Monsters follow their standard behavior.
      * @param heroes the Heroes playing in this Turn
      * @param monsters the Monsters playing in this Turn
+     * @param firstRound whether or not this Turn is in the first round of the game
      */
     public LegendsOfValorTurn(List<Hero> heroes, List<Monster> monsters, boolean firstRound) {
-        heroIterator = heroes.listIterator();
-        monsterIterator = monsters.listIterator();
+        this(Runner.getInstance().getContext(), heroes, monsters, firstRound, new TerminalHeroController(), new AdvancingMonsterController());
+    }
+
+    /**
+     * Standard constructor
+     * @param context the game this Turn is played in
+     * @param heroes the Heroes playing in this Turn
+     * @param monsters the Monsters playing in this Turn
+     * @param firstRound whether or not this Turn is in the first round of the game
+     * @param heroController decides what each Hero does
+     * @param monsterController decides what each Monster does
+     */
+    public LegendsOfValorTurn(GameContext context, List<Hero> heroes, List<Monster> monsters, boolean firstRound,
+                              HeroController heroController, MonsterController monsterController) {
+        this(context, newScheduler(heroes, monsters), firstRound, heroController, monsterController);
+    }
+
+    /**
+     * Constructs a LegendsOfValorTurn that takes its turn order from the passed in TurnScheduler.
+     * The same LegendsOfValorTurn can then play every round of a game, see reset().
+     * @param context the game this Turn is played in
+     * @param scheduler decides who goes next, already started on this round
+     * @param firstRound whether or not this Turn is in the first round of the game
+     * @param heroController decides what each Hero does
+     * @param monsterController decides what each Monster does
+     */
+    public LegendsOfValorTurn(GameContext context, TurnScheduler scheduler, boolean firstRound,
+                              HeroController heroController, MonsterController monsterController) {
+        this.context = context;
+        this.heroController = heroController;
+        this.monsterController = monsterController;
+        this.scheduler = scheduler;
         current = null; // will be set in setupNextTurn method
         firstTurn = true;
         finished = false;
@@ -52,16 +87,48 @@ public class LegendsOfValorTurn implements TurnExecutor {
     }
 
     /**
-     * Resets this TurnExecutor to the beginning
+     * Helper function which creates a TurnScheduler in the standard order, started on its first round
+     * @param heroes the Heroes playing
+     * @param monsters the Monsters playing
+     * @return the TurnScheduler
+     */
+    private static TurnScheduler newScheduler(List<Hero> heroes, List<Monster> monsters) {
+        TurnScheduler scheduler = new TurnScheduler();
+        for(Hero hero : heroes) {
+            scheduler.add(hero);
+        }
+        for(Monster monster : monsters) {
+            scheduler.add(monster);
+        }
+        scheduler.startRound();
+        return scheduler;
+    }
+
+    /**
+     * Resets this TurnExecutor to the beginning of a new round: every Legend that
+     * can play is scheduled again, including Monsters spawned since the last round.
      */
     @Override
     public void reset() {
-        // Don't use this method for Valor, since Monsters are added along the way, and
-        // we don't want to worry about concurrent modification exceptions.
-        // Instead, the LegendsOfValorRound class should create a new instance of this
-        // class for each round, passing in whichever Heroes and Monsters are
-        // currently in existence.
-        throw new RuntimeException("Don't use this method in Legends of Valor!");
+        scheduler.startRound();
+        current = null;
+        firstTurn = true;
+        finished = false;
+    }
+
+    /**
+     * Sets whether or not the round played next is the first round of the game
+     * @param firstRound whether or not this Turn is in the first round of the game
+     */
+    public void setFirstRound(boolean firstRound) {
+        this.firstRound = firstRound;
+    }
+
+    /**
+     * @return the TurnScheduler deciding who goes next
+     */
+    public TurnScheduler getScheduler() {
+        return scheduler;
     }
 
     /**
@@ -93,103 +160,38 @@ public class LegendsOfValorTurn implements TurnExecutor {
         }
 
         // And draw the World, so the user has a sense of what is going on
-        Output.printSeparator();
-        Output.drawWorld(Runner.getInstance().getWorld());
+        if(Output.getRenderMode() != RenderMode.NONE) {
+            Output.printSeparator();
+            Output.drawWorld(context.getWorld());
+        }
     }
 
     /**
      * Private helper function which sets up the first turn
-     * @throws InvalidNextTurnException if no Heroes have any health power
+     * @throws InvalidNextTurnException if no Legend can take a turn
      */
     private void setupFirstTurn() throws InvalidNextTurnException {
-        boolean found = false;
-        while(heroIterator.hasNext() && !found) {
-            Hero hero = heroIterator.next();
-            if(!hero.hasFainted()) {
-                current = hero;
-                found = true;
-            }
+        current = scheduler.next();
+        if(current == null) {
+            throw new InvalidNextTurnException("No valid Legend for the first move!");
         }
-        if(!found) {
-            throw new InvalidNextTurnException("No valid Hero for the first move!");
-        }
-        firstTurn = false;
     }
 
     /**
      * Private helper function which sets up a turn that is not the first turn.
-     * Checks whether the previous Legend was a Monster or a Hero, and then
-     * marks current as the next opposite Legend (e.g. if a Monster just went,
-     * chooses the next Hero, and vise versa).
+     * The TurnScheduler decides who goes next: in the standard order, if a Hero
+     * went previously a Monster goes next, and vise versa.
      *
      * There is a possibility that there are no valid Monsters in the World,
      * and hence, in such a situation, Heroes should move consecutively. For
      * example, it's plausible that all Monsters have been killed, and only
-     * Heroes remain.
-     *
-     * In the semantics of Legends of Valor, however, the opposite is not possible.
-     * Heroes are respawned in their Nexus as soon as they faint, and hence
-     * there is not actually a possibility that there may be no Heroes on the board.
+     * Heroes remain. Likewise, once every Hero has gone (or fainted), the
+     * remaining Monsters finish the round.
      */
     private void setupLaterTurns() {
-        // Not the first turn. Check to see if a Hero or a Monster went previously.
-        if(monsterShouldGoNext()) {
-            monsterGoesNext();
-        } else {
-            heroGoesNext();
-        }
-    }
-
-    /**
-     * Indicates whether or not the next Turn should be taken by a Monster.
-     * @return true if the last Legend to go was a Hero, false otherwise.
-     */
-    private boolean monsterShouldGoNext() {
-        return currentIsHero();
-    }
-
-    /**
-     * Helper function which handles the situation where a Monster is
-     * supposed to go next. As noted in the above function, there is
-     * a possible scenario where there are actually no living Monsters.
-     */
-    private void monsterGoesNext() {
-        boolean found = false;
-        while(monsterIterator.hasNext() && !found) {
-            Monster monster = monsterIterator.next();
-            if(monster.isAlive()) {
-                current = monster;
-                found = true;
-            }
-        }
-
-        // If there are no living Monsters, then go to the next Hero
-        if(!found) {
-            heroGoesNext();
-        }
-    }
-
-    /**
-     * Private helper function which handles the situation where a Hero is
-     * supposed to go next.
-     */
-    private void heroGoesNext() {
-        boolean found = false;
-        while(heroIterator.hasNext() && !found) {
-            Hero hero = heroIterator.next();
-            if(!hero.hasFainted()) {
-                current = hero;
-                found = true;
-            }
-        }
-
-        if(!found) {
-            // Check if there are Monsters that need to go
-            if(monsterIterator.hasNext()) {
-                current = monsterIterator.next();
-            } else {
-                finished = true;
-            }
+        current = scheduler.next();
+        if(current == null) {
+            finished = true;
         }
     }
 
@@ -210,31 +212,26 @@ public class LegendsOfValorTurn implements TurnExecutor {
 
     /**
      * Helper function which plays the next Monster's turn.
-     * A Monster's turn follows simple logic: if there is a Hero in range, attack it.
-     * Otherwise, move forward (forward for Monsters is down)
+     * The MonsterController decides whether the Monster attacks a Hero in range,
+     * or moves (by default, Monsters attack if they can and otherwise move down)
      */
     private void playNextMonstersTurn() {
         displayCurrentMonsterStatus();
-        ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
-        List<Hero> heroesInRange = world.getHeroesInRange((Monster)current);
-        if(heroesInRange.size() > 0){
-            Hero toAttack = heroesInRange.get(0);
+        ValorWorld world = (ValorWorld)context.getWorld();
+        Monster monster = (Monster)current;
+        Hero toAttack = monsterController.chooseHeroToAttack(monster, world);
+        if(toAttack != null){
             FightMove attack = new Attack(current, Collections.singletonList(toAttack));
-            try {
-                attack.execute();
-            } catch (InvalidFightMoveException e) {
-                e.printStackTrace();
-                // Shouldn't happen
-            }
+            attack.tryExecute();
         } else {
-            // Build a downward move for this Monster
-            try {
-                world.move((Monster)current, Direction.DOWN);
-            } catch (InvalidMoveDirection e) {
-                // Don't do anything - it's possible that a Monster tries
-                // to move down to a Cell that is already occupied by another
-                // Monster. In this case, just ignore it, the Monster doesn't do anything
+            Direction direction = monsterController.chooseDirection(monster, world);
+            if(direction == null) {
+                return;
             }
+            // It's possible that a Monster tries to move down to a Cell that is already
+            // occupied by another Monster. In this case the move is simply blocked,
+            // and the Monster doesn't do anything
+            world.tryMove(monster, direction);
         }
     }
 
@@ -242,77 +239,67 @@ public class LegendsOfValorTurn implements TurnExecutor {
      * Helper function which outputs the status of the current Monster
      */
     private void displayCurrentMonsterStatus() {
+        if(Output.getRenderMode() == RenderMode.NONE) {
+            return;
+        }
         Output.printSeparator();
         Monster monster = (Monster)current;
         String firstTwoLetters = Colors.ANSI_RED + monster.getName().substring(0, 2) + Colors.ANSI_RESET;
-        System.out.println("It is " + monster.getName() + " turn. Identified by (" + firstTwoLetters + ") on the map. Status:");
+        Output.out().println("It is " + monster.getName() + " turn. Identified by (" + firstTwoLetters + ") on the map. Status:");
         Output.printOutputables(Collections.singletonList(monster));
     }
 
     /**
      * Helper function which plays the next Hero's turn.
-     * For a Hero, we prompt the user for their desired action for the relevant Hero,
+     * For a Hero, we ask the HeroController for the desired action for the relevant Hero,
      * and then execute it if possible.
      */
     private void playNextHeroesTurn() {
         displayCurrentHeroStatus();
-        // If it's the first round, prompt the user if they'd like their Hero to enter the Market
+        // If it's the first round, ask if the Hero should enter the Market
         if(firstRound) {
             promptHeroToEnterMarket();
         }
 
-        ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
-        List<Monster> monstersInRange = world.getMonstersInRange((Hero)current);
-        boolean wantsToAttack = false;
-        if(monstersInRange.size() > 0) {
-            String prompt = "There are Monsters in range you can attack. Would you like to attack one?";
-            wantsToAttack = new GetUserYesNoInput().run(prompt);
+        ValorWorld world = (ValorWorld)context.getWorld();
+        Monster toAttack = null;
+        if(world.countMonstersInRange((Hero)current, ValorWorld.attackRange) > 0) {
+            // Only gather the Monsters once we know there is at least one to pick
+            toAttack = heroController.chooseMonsterToAttack((Hero)current, world.getMonstersInRange((Hero)current));
         }
 
-        if(wantsToAttack) {
-            heroAttackMonster(monstersInRange);
+        if(toAttack != null) {
+            heroAttackMonster(toAttack);
         } else {
             moveHero();
         }
     }
 
     /**
-     * Helper function which prompts the Hero if they'd like to enter the Market
+     * Helper function which asks if the Hero would like to enter the Market,
+     * as long as the Hero is in their Nexus
      */
     private void promptHeroToEnterMarket() {
         Hero hero = (Hero)current;
-        String prompt = "Would you like " + hero.getName() + " to enter the Market? You can come back to the Market at any point as well";
-        boolean enter = new GetUserYesNoInput().run(prompt);
-        if(enter) {
-            ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
+        ValorWorld world = (ValorWorld)context.getWorld();
+        if(world.isHeroInNexus(hero) && heroController.enterMarket(hero)) {
             world.enterHeroToMarketIfPossible(hero);
         }
     }
 
     /**
-     * Helper function which walks a user through the process of attacking a Monster
-     * as their turn.
+     * Helper function which carries out the current Hero's action against the chosen Monster
+     * @param toAttack the Monster chosen by the HeroController
      */
-    private void heroAttackMonster(List<Monster> monstersInRange) {
-        String prompt = "Which Monster would you like to attack?";
-        List<String> options = new ArrayList<>();
-        for(Monster monster : monstersInRange) {
-            options.add(monster.toString());
-        }
-        int chosen = new GetUserNumericInput(new Scanner(System.in), prompt, options).run();
-        Monster toAttack = monstersInRange.get(chosen);
-
-        // The user does not actually have to attack this Monster. They can choose
+    private void heroAttackMonster(Monster toAttack) {
+        // The Hero does not actually have to attack this Monster. They can choose
         // to cast a spell or a Potion instead
-        FightMove fightMove = new GetUserFightMove((Hero) current, Collections.singletonList(toAttack)).run();
-        try {
-            fightMove.execute();
-            if(!toAttack.isAlive()) {
-                processDeadMonster(toAttack);
-            }
-        } catch (InvalidFightMoveException e) {
-            e.printStackTrace();
-            // Shouldn't happen
+        FightMove fightMove = heroController.chooseFightMove((Hero)current, toAttack);
+        FightResult result = fightMove.tryExecute();
+        if(!result.succeeded()) {
+            Output.out().println(result.getMessage());
+        } else if(!toAttack.isAlive()) {
+            processDeadMonster(toAttack);
         }
     }
 
@@ -325,51 +312,62 @@ public class LegendsOfValorTurn implements TurnExecutor {
         Hero hero = (Hero)current;
         int gainedCoins = 100 * monster.getLevel().getLevel();
         hero.getCoffer().addCoins(gainedCoins);
+        context.getResult().recordKill(gainedCoins);
+
+        // Take the Monster off the board right away, so no other Hero tries to attack it this round
+        ((ValorWorld)context.getWorld()).removeDeadMonster(monster);
+        context.getRoster().removeDeadMonster(monster);
+        scheduler.remove(monster);
+
         boolean leveledUp = hero.getExperience().increaseExperience(2);
-        System.out.println(hero.getName() + " has killed a Monster! Gains " + gainedCoins + " coins and two experience points.");
+        Output.out().println(hero.getName() + " has killed a Monster! Gains " + gainedCoins + " coins and two experience points.");
         if(leveledUp) {
-            System.out.println(hero.getName() + " leveled up! Now at Level " + hero.getLevel().getLevel());
+            Output.out().println(hero.getName() + " leveled up! Now at Level " + hero.getLevel().getLevel());
         }
     }
 
     /**
      * Helper function which moves a Hero for their turn.
+     * The HeroController is asked again until it chooses a move that succeeds, or passes.
+     * A Hero who moves into their Nexus from outside of it is then asked about the Market.
      */
     private void moveHero() {
         boolean enteredLegalMove = false;
         Hero hero = (Hero)current;
+        ValorWorld world = (ValorWorld)context.getWorld();
+        boolean startedInNexus = world.isHeroInNexus(hero);
         while(!enteredLegalMove) {
-            UserCommand command = new GetUserCommand().run();
-            switch (command) {
-                case UP:
-                    enteredLegalMove = attemptMoveIfPossible(hero, Direction.UP);
-                    break;
-                case DOWN:
-                    enteredLegalMove = attemptMoveIfPossible(hero, Direction.DOWN);
-                    break;
-                case LEFT:
-                    enteredLegalMove = attemptMoveIfPossible(hero, Direction.LEFT);
-                    break;
-                case RIGHT:
-                    enteredLegalMove = attemptMoveIfPossible(hero, Direction.RIGHT);
-                    break;
-                case TELEPORT:
-                    enteredLegalMove = attemptMoveIfPossible(hero, Direction.TELEPORT);
-                    break;
-                case BACK:
-                    enteredLegalMove = attemptMoveIfPossible(hero,Direction.BACK);
-                    break;
-                default:
-                    throw new RuntimeException("Unknown command!");
+            Direction direction = heroController.chooseDirection(hero, world);
+            if(direction == null) {
+                return;
+            }
+            if(direction == Direction.TELEPORT && !world.hasTeleported(hero)) {
+                world.setTeleportLane(heroController.chooseTeleportLane(hero, world));
+            }
+            enteredLegalMove = attemptMoveIfPossible(hero, direction);
+            if(!enteredLegalMove) {
+                heroController.moveRejected(hero, direction);
             }
         }
+
+        // A Hero arriving in their Nexus may visit the Market there. A Hero who started their turn
+        // in the Nexus was already asked (in the first round), or chose to stay out of the Market
+        if(!startedInNexus) {
+            promptHeroToEnterMarket();
+        }
     }
 
+    /**
+     * Helper function which outputs the status of the current Hero
+     */
     private void displayCurrentHeroStatus() {
+        if(Output.getRenderMode() == RenderMode.NONE) {
+            return;
+        }
         Output.printSeparator();
         Hero hero = (Hero)current;
         String firstTwoLetters = Colors.ANSI_GREEN + hero.getName().substring(0, 2) + Colors.ANSI_RESET;
-        System.out.println("It is " + hero.getName() + " turn! Identified by (" + firstTwoLetters + ") on the map. Status:");
+        Output.out().println("It is " + hero.getName() + " turn! Identified by (" + firstTwoLetters + ") on the map. Status:");
         Output.printOutputables(Collections.singletonList(hero));
     }
 
@@ -377,17 +375,10 @@ public class LegendsOfValorTurn implements TurnExecutor {
      * Attempts to move in the Direction indicated
      * @param hero Hero whose move it is
      * @param direction Direction to move the Hero
+     * @return true if the Hero moved, false otherwise
      */
     private boolean attemptMoveIfPossible(Hero hero, Direction direction) {
-        String failure = "Unable to move " + direction + "! Please enter a different move.";
-        World world = Runner.getInstance().getWorld();
-        try {
-            world.move(hero, direction);
-        } catch (InvalidMoveDirection e) {
-            System.out.println(failure);
-            return false;
-        }
-        return true;
+        return context.getWorld().tryMove(hero, direction).succeeded();
     }
 
 
@@ -396,12 +387,8 @@ public class LegendsOfValorTurn implements TurnExecutor {
      */
     @Override
     public void processEndOfTurn() {
-        ValorWorld world = (ValorWorld)Runner.getInstance().getWorld();
-        if(world.heroInMonstersNexus()) {
-            finished = true;
-        }
-
-        if(world.monsterInHeroesNexus()) {
+        ValorWorld world = (ValorWorld)context.getWorld();
+        if(world.isGameOver()) {
             finished = true;
         }
     }
@@ -413,10 +400,6 @@ public class LegendsOfValorTurn implements TurnExecutor {
      */
     @Override
     public boolean finishedAllTurns() {
-        if(finished) {
-            heroIterator = null;
-            monsterIterator = null;
-        }
         return finished;
     }
 }
@@ -0,0 +1,474 @@
+package main.games;
+
+import main.GameContext;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.utils.Output;
+import main.utils.RandomSource;
+import main.utils.Validations;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Class MctsHeroController plays the Heroes by Monte Carlo tree search. Each time a Hero
+ * is to act, the controller tries out the Hero's actions in simulated games (rollouts)
+ * for a fixed time budget, and picks the action that the search spent the most rollouts on.
+ *
+ * The search runs on several threads at once: the thread asking for the action, and the
+ * others on the common ForkJoinPool, so the controller owns no threads that need shutting
+ * down. Each thread forks the game (see GameContext.fork()), grows a search tree of its
+ * own, and restores the fork from a GameSnapshot before every rollout. When the time is up, the visit counts of the Hero's
+ * actions are added up over every thread's tree.
+ *
+ * A rollout plays the chosen Hero's action, then plays whole rounds from the next round on.
+ * Within the tree, Heroes' actions are picked by UCT; past the tree, Heroes attack if they
+ * can and otherwise advance. Monsters play their standard behavior.
+ * A rollout that is won by either side is worth 1 or 0. Rollouts are cut off after a number
+ * of rounds, and are then scored by how far each side has advanced and by Monsters killed.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class MctsHeroController extends ActionHeroController {
+    public static final int defaultTimeBudgetMillis = 100;
+    public static final int defaultRolloutRounds = 20;
+    public static final double defaultExploration = Math.sqrt(2);
+    private static final Direction[] advances = {Direction.UP, Direction.LEFT, Direction.RIGHT}; // in order of preference
+    private final RandomSource random;
+    private final SearchStatistics statistics;
+    private SearchStatistics lastSearch;
+    private int timeBudgetMillis;
+    private int numThreads;
+    private int rolloutRounds;
+    private double exploration;
+
+    /**
+     * Constructs a MctsHeroController which searches on every core
+     * @param context the game whose Heroes this controller plays
+     */
+    public MctsHeroController(GameContext context) {
+        this(context, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Standard constructor
+     * Throws an IllegalArgumentException if numThreads is not positive
+     * @param context the game whose Heroes this controller plays
+     * @param numThreads the number of threads each search runs on
+     */
+    public MctsHeroController(GameContext context, int numThreads) {
+        super(context);
+        if(numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive!");
+        }
+        this.random = context.getRandom().split();
+        this.statistics = new SearchStatistics();
+        this.lastSearch = new SearchStatistics();
+        this.timeBudgetMillis = defaultTimeBudgetMillis;
+        this.numThreads = numThreads;
+        this.rolloutRounds = defaultRolloutRounds;
+        this.exploration = defaultExploration;
+    }
+
+    /**
+     * Sets how long each decision is searched for
+     * @param timeBudgetMillis the time budget of a decision, in milliseconds
+     */
+    public void setTimeBudgetMillis(int timeBudgetMillis) {
+        Validations.nonNegative(timeBudgetMillis, "timeBudgetMillis");
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * Sets the number of rounds after which a rollout is cut off and scored
+     * @param rolloutRounds the maximum number of rounds in a rollout
+     */
+    public void setRolloutRounds(int rolloutRounds) {
+        Validations.nonNegative(rolloutRounds, "rolloutRounds");
+        this.rolloutRounds = rolloutRounds;
+    }
+
+    /**
+     * Sets the UCT exploration constant: higher values try out more actions, lower values
+     * concentrate on the actions that look best so far
+     * @param exploration the exploration constant
+     */
+    public void setExploration(double exploration) {
+        Validations.nonNegative(exploration, "exploration");
+        this.exploration = exploration;
+    }
+
+    /**
+     * @return the statistics of every search this controller has made
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the statistics of the most recent search
+     */
+    public SearchStatistics getLastSearch() {
+        return lastSearch;
+    }
+
+    /**
+     * Searches for the best action of the passed in Hero
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is in
+     * @param actions every action open to the Hero
+     * @param numActions the number of actions
+     * @return the action tried in the most rollouts
+     */
+    @Override
+    protected int chooseAction(Hero hero, ValorWorld world, int[] actions, int numActions) {
+        if(numActions == 1) {
+            return actions[0];
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetMillis * 1000000L;
+        int[] candidates = Arrays.copyOf(actions, numActions);
+        List<Hero> heroes = getContext().getRoster().getChosenHeroes();
+        int heroIndex = 0;
+        while(heroes.get(heroIndex) != hero) {
+            heroIndex++;
+        }
+        int roundNum = getContext().getResult().getRounds();
+        List<Search> searches = new ArrayList<>();
+        for(int i = 0; i < numThreads; i++) {
+            searches.add(new Search(getContext().fork(random.split()), heroIndex, roundNum, deadline));
+        }
+
+        try {
+            // The other searches run on the common pool while this thread runs the first one
+            List<Future<Void>> futures = new ArrayList<>();
+            for(int i = 1; i < searches.size(); i++) {
+                futures.add(ForkJoinPool.commonPool().submit(searches.get(i)));
+            }
+            searches.get(0).call();
+            for(Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            e.printStackTrace();
+            // Shouldn't happen
+        }
+
+        long[] visits = new long[numActions];
+        double[] values = new double[numActions];
+        SearchStatistics search = new SearchStatistics();
+        for(Search thread : searches) {
+            for(int i = 0; i < numActions; i++) {
+                Node child = thread.root.child(candidates[i]);
+                if(child != null) {
+                    visits[i] += child.visits;
+                    values[i] += child.value;
+                }
+            }
+            search.merge(thread.statistics);
+        }
+        search.recordSearch(System.nanoTime() - start);
+        statistics.merge(search);
+        lastSearch = search;
+
+        int best = 0;
+        for(int i = 1; i < numActions; i++) {
+            boolean moreVisits = visits[i] > visits[best];
+            boolean betterTie = visits[i] == visits[best] && values[i] > values[best];
+            if(moreVisits || betterTie) {
+                best = i;
+            }
+        }
+        return candidates[best];
+    }
+
+    /**
+     * Helper function which scores a rollout that was cut off before either side won.
+     * The score is between 0 and 1, and is higher the further the leading Hero has advanced
+     * compared to the leading Monster, and the more Monsters were killed during the rollout.
+     * @param context the forked game the rollout was played in
+     * @param killsBefore the number of Monsters killed before the rollout
+     * @return the score of the rollout
+     */
+    private static double evaluate(GameContext context, int killsBefore) {
+        GameResult result = context.getResult();
+        if(result.getWinner() == GameResult.Winner.HEROES) {
+            return 1.0;
+        }
+        if(result.getWinner() == GameResult.Winner.MONSTERS) {
+            return 0.0;
+        }
+
+        ValorWorld world = (ValorWorld)context.getWorld();
+        double lastRow = GameContext.valorWorldSize - 1;
+        double heroAdvance = 0.0;
+        for(Hero hero : context.getRoster().getChosenHeroes()) {
+            heroAdvance = Math.max(heroAdvance, (lastRow - world.getHeroRow(hero)) / lastRow);
+        }
+        double monsterAdvance = 0.0;
+        for(Monster monster : context.getRoster().getActiveMonsters()) {
+            if(monster.isAlive()) {
+                monsterAdvance = Math.max(monsterAdvance, world.getMonsterRow(monster) / lastRow);
+            }
+        }
+        int kills = Math.min(result.getKills() - killsBefore, 5);
+        double score = 0.5 + 0.4 * (heroAdvance - monsterAdvance) + 0.02 * kills;
+        return Math.max(0.0, Math.min(1.0, score));
+    }
+
+    /**
+     * Private class which is a node of a search tree. Trees are open loop: a node stands for
+     * the sequence of Hero actions leading to it, rather than for a single state of the game,
+     * since the same actions can lead to different states depending on the dice.
+     */
+    private static class Node {
+        private final int action;
+        private final List<Node> children;
+        private int visits;
+        private double value;
+
+        /**
+         * Standard constructor
+         * @param action the action leading to this node
+         */
+        public Node(int action) {
+            this.action = action;
+            this.children = new ArrayList<>();
+        }
+
+        /**
+         * @param action an action
+         * @return the child of this node for the action, or null if it has not been expanded
+         */
+        public Node child(int action) {
+            for(Node child : children) {
+                if(child.action == action) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Private class which is the search run by a single thread, on a fork of the game
+     */
+    private class Search implements Callable<Void> {
+        private final GameContext fork;
+        private final Hero hero;
+        private final int roundNum;
+        private final long deadline;
+        private final Node root;
+        private final TreePolicy policy;
+        private final MonsterController monsterController;
+        private final SearchStatistics statistics;
+
+        /**
+         * Standard constructor
+         * @param fork the fork of the game to search
+         * @param heroIndex the index of the Hero to act among the chosen Heroes
+         * @param roundNum the number of the last round played
+         * @param deadline when to stop searching, in System.nanoTime()
+         */
+        public Search(GameContext fork, int heroIndex, int roundNum, long deadline) {
+            this.fork = fork;
+            this.hero = fork.getRoster().getChosenHeroes().get(heroIndex);
+            this.roundNum = roundNum;
+            this.deadline = deadline;
+            this.root = new Node(-1);
+            this.statistics = new SearchStatistics();
+            this.policy = new TreePolicy(fork, statistics);
+            this.monsterController = new AdvancingMonsterController();
+        }
+
+        /**
+         * Plays rollouts until the deadline, and always at least one. Rollouts print their
+         * progress just like a real game, so the thread is quiet while they are played.
+         * @return nothing
+         */
+        @Override
+        public Void call() {
+            GameSnapshot start = new GameSnapshot(fork, roundNum, false);
+            int killsBefore = fork.getResult().getKills();
+            RandomSource previous = RandomSource.getDefault();
+            boolean wasQuiet = Output.isQuiet();
+            RandomSource.setDefault(fork.getRandom());
+            Output.setQuiet(true);
+            try {
+                do {
+                    start.restoreTo(fork);
+                    policy.begin(root);
+
+                    // First the Hero's own turn, then whole rounds from the next round on
+                    LegendsOfValorTurn turn = new LegendsOfValorTurn(fork, Collections.singletonList(hero),
+                            Collections.<Monster>emptyList(), false, policy, monsterController);
+                    new TurnBasedGame(turn).play();
+                    ValorGame game = new ValorGame(fork, policy, monsterController, roundNum, false);
+                    game.setRoundLimit(roundNum + rolloutRounds);
+                    game.play();
+
+                    policy.backpropagate(evaluate(fork, killsBefore));
+                    statistics.recordRollout(fork.getResult().getRounds() - roundNum, fork.getResult().getWinner());
+                } while(System.nanoTime() < deadline);
+            } finally {
+                RandomSource.setDefault(previous);
+                Output.setQuiet(wasQuiet);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Private class which picks the Heroes' actions during a rollout: by UCT while the
+     * rollout is within the search tree, expanding the tree by one node per rollout, and
+     * by the default policy past the tree.
+     */
+    private class TreePolicy extends ActionHeroController {
+        private final RandomSource random;
+        private final SearchStatistics statistics;
+        private final List<Node> path;
+        private Node node;
+
+        /**
+         * Standard constructor
+         * @param fork the fork of the game the rollouts are played in
+         * @param statistics where to count the nodes created
+         */
+        public TreePolicy(GameContext fork, SearchStatistics statistics) {
+            super(fork);
+            this.random = fork.getRandom();
+            this.statistics = statistics;
+            this.path = new ArrayList<>();
+        }
+
+        /**
+         * Starts a rollout at the root of the tree
+         * @param root the root of the tree
+         */
+        public void begin(Node root) {
+            path.clear();
+            path.add(root);
+            node = root;
+        }
+
+        /**
+         * Adds the score of the finished rollout to every node it passed through
+         * @param value the score of the rollout
+         */
+        public void backpropagate(double value) {
+            for(Node visited : path) {
+                visited.visits++;
+                visited.value += value;
+            }
+        }
+
+        /**
+         * Picks the Hero's action: in the tree, the first untried action or else the best by UCT,
+         * and past the tree, the default policy.
+         * @param hero the Hero whose turn it is
+         * @param world the World the Hero is in
+         * @param actions every action open to the Hero
+         * @param numActions the number of actions
+         * @return the action picked
+         */
+        @Override
+        protected int chooseAction(Hero hero, ValorWorld world, int[] actions, int numActions) {
+            if(node == null) {
+                return defaultAction(actions, numActions);
+            }
+            Node child = select(actions, numActions);
+            path.add(child);
+            node = child.visits == 0 ? null : child; // a new node is the end of the tree for this rollout
+            return child.action;
+        }
+
+        /**
+         * Helper function which picks the child of the current node to descend into,
+         * expanding an untried action (chosen at random) if there is one
+         * @param actions every action open to the Hero
+         * @param numActions the number of actions
+         * @return the child to descend into
+         */
+        private Node select(int[] actions, int numActions) {
+            int numUntried = 0;
+            int untried = 0;
+            for(int i = 0; i < numActions; i++) {
+                if(node.child(actions[i]) == null) {
+                    numUntried++;
+                    if(random.nextInt(numUntried) == 0) {
+                        untried = actions[i];
+                    }
+                }
+            }
+            if(numUntried > 0) {
+                Node child = new Node(untried);
+                node.children.add(child);
+                statistics.recordNode();
+                return child;
+            }
+
+            double logVisits = Math.log(node.visits);
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for(int i = 0; i < numActions; i++) {
+                Node child = node.child(actions[i]);
+                double score = child.value / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+                if(score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Helper function which picks an action past the tree: what an AdvancingHeroController
+         * would do (attack the first Monster in range, or else advance), or a random action if
+         * the Hero can do neither
+         * @param actions every action open to the Hero
+         * @param numActions the number of actions
+         * @return the action picked
+         */
+        private int defaultAction(int[] actions, int numActions) {
+            int firstAttack = LegalActions.encode(LegalActions.attack, 0, 0);
+            if(contains(actions, numActions, firstAttack)) {
+                return firstAttack;
+            }
+            for(Direction direction : advances) {
+                int advance = LegalActions.encode(LegalActions.move, direction.ordinal(), 0);
+                if(contains(actions, numActions, advance)) {
+                    return advance;
+                }
+            }
+            return actions[random.nextInt(numActions)];
+        }
+
+        /**
+         * Helper function which checks whether an action is open to the Hero
+         * @param actions every action open to the Hero
+         * @param numActions the number of actions
+         * @param action the action in question
+         * @return true if the action is one of the actions, false otherwise
+         */
+        private boolean contains(int[] actions, int numActions, int action) {
+            for(int i = 0; i < numActions; i++) {
+                if(actions[i] == action) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package main.games;
+
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+/**
+ * Interface MonsterController represents whoever is making the decisions for the
+ * Monsters in a game of Legends of Valor. LegendsOfValorTurn asks the MonsterController
+ * what each Monster should do, and then carries out the decision.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public interface MonsterController {
+    /**
+     * Decides which Hero, if any, the passed in Monster attacks
+     * @param monster the Monster whose turn it is
+     * @param world the World the Monster is in
+     * @return a Hero in range of the Monster, or null if the Monster should move instead
+     */
+    Hero chooseHeroToAttack(Monster monster, ValorWorld world);
+
+    /**
+     * Decides which Direction the passed in Monster moves in
+     * @param monster the Monster whose turn it is
+     * @param world the World the Monster is in
+     * @return the Direction to move, or null if the Monster should stay where it is
+     */
+    Direction chooseDirection(Monster monster, ValorWorld world);
+}
@@ -0,0 +1,136 @@
+package main.games;
+
+import main.fight.Attack;
+import main.fight.FightMove;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.utils.RandomSource;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class RandomHeroController plays the Heroes programmatically by choosing uniformly
+ * at random between the actions that are legal on each turn. It is useful as a
+ * baseline opponent, and for exercising as much of the game logic as possible.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class RandomHeroController implements HeroController {
+    private static final Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT, Direction.BACK};
+    private final RandomSource random;
+    private final List<Direction> candidates;
+
+    /**
+     * Constructs a RandomHeroController drawing from the default RandomSource
+     */
+    public RandomHeroController() {
+        this(RandomSource.getDefault());
+    }
+
+    /**
+     * Standard constructor
+     * @param random source of randomness for every decision
+     */
+    public RandomHeroController(RandomSource random) {
+        this.random = random;
+        this.candidates = new ArrayList<>();
+    }
+
+    /**
+     * Heroes controlled by this class never enter the Market
+     * @param hero the Hero in question
+     * @return false
+     */
+    @Override
+    public boolean enterMarket(Hero hero) {
+        return false;
+    }
+
+    /**
+     * Chooses between moving and attacking each of the Monsters in range
+     * @param hero the Hero whose turn it is
+     * @param monstersInRange the Monsters the Hero could attack
+     * @return a random Monster in range, or null to move instead
+     */
+    @Override
+    public Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange) {
+        int choice = random.nextInt(monstersInRange.size() + 1);
+        return choice == monstersInRange.size() ? null : monstersInRange.get(choice);
+    }
+
+    /**
+     * Always attacks directly
+     * @param hero the Hero whose turn it is
+     * @param monster the Monster chosen by chooseMonsterToAttack()
+     * @return an Attack against the Monster
+     */
+    @Override
+    public FightMove chooseFightMove(Hero hero, Monster monster) {
+        return new Attack(hero, Collections.singletonList(monster));
+    }
+
+    /**
+     * Chooses a random Direction out of those the World currently allows
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is moving in
+     * @return a random legal Direction, or null if the Hero cannot move
+     */
+    @Override
+    public Direction chooseDirection(Hero hero, ValorWorld world) {
+        candidates.clear();
+        for(Direction direction : directions) {
+            if(world.canMove(hero, direction)) {
+                candidates.add(direction);
+            }
+        }
+        // A Hero that has not teleported yet can always teleport to one of the other Lanes
+        if(!world.hasTeleported(hero) || world.canMove(hero, Direction.TELEPORT)) {
+            candidates.add(Direction.TELEPORT);
+        }
+
+        if(candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    /**
+     * Chooses a random Lane other than the Hero's own
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is teleporting in
+     * @return the index of a random valid Lane, or -1 if there is none
+     */
+    @Override
+    public int chooseTeleportLane(Hero hero, ValorWorld world) {
+        int numValid = 0;
+        int chosen = -1;
+        for(int lane = 0; lane < world.getNumLanes(); lane++) {
+            if(world.isValidLane(hero, lane)) {
+                numValid++;
+                // Keep each valid Lane with probability 1 / numValid, so every Lane is equally likely
+                if(random.nextInt(numValid) == 0) {
+                    chosen = lane;
+                }
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Nothing to do: a rejected move is simply chosen again
+     * @param hero the Hero whose turn it is
+     * @param direction the Direction that was rejected
+     */
+    @Override
+    public void moveRejected(Hero hero, Direction direction) {
+        // Nothing to do
+    }
+}
@@ -0,0 +1,168 @@
+package main.games;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class SearchStatistics keeps count of the work done by a MctsHeroController: how many
+ * decisions it searched, how many rollouts it played and tree nodes it created to do so,
+ * and how the rollouts turned out. Statistics of several searches (or several controllers)
+ * can be merged.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class SearchStatistics {
+    private long searches;
+    private long rollouts;
+    private long nodes;
+    private long rolloutRounds;
+    private long heroWins;
+    private long monsterWins;
+    private long elapsedNanos;
+
+    /**
+     * Standard constructor, for statistics of no searches
+     */
+    public SearchStatistics() {
+        searches = 0;
+        rollouts = 0;
+        nodes = 0;
+        rolloutRounds = 0;
+        heroWins = 0;
+        monsterWins = 0;
+        elapsedNanos = 0;
+    }
+
+    /**
+     * Records a finished rollout
+     * @param rounds the number of rounds played in the rollout
+     * @param winner which side won the rollout, or NONE if it was cut off
+     */
+    public void recordRollout(int rounds, GameResult.Winner winner) {
+        rollouts++;
+        rolloutRounds += rounds;
+        if(winner == GameResult.Winner.HEROES) {
+            heroWins++;
+        } else if(winner == GameResult.Winner.MONSTERS) {
+            monsterWins++;
+        }
+    }
+
+    /**
+     * Records that a tree node was created
+     */
+    public void recordNode() {
+        nodes++;
+    }
+
+    /**
+     * Records a finished search
+     * @param elapsedNanos the wall clock time the search took
+     */
+    public void recordSearch(long elapsedNanos) {
+        searches++;
+        this.elapsedNanos += elapsedNanos;
+    }
+
+    /**
+     * Adds the counts of the passed in statistics to these
+     * @param other the statistics to add
+     */
+    public void merge(SearchStatistics other) {
+        searches += other.searches;
+        rollouts += other.rollouts;
+        nodes += other.nodes;
+        rolloutRounds += other.rolloutRounds;
+        heroWins += other.heroWins;
+        monsterWins += other.monsterWins;
+        elapsedNanos += other.elapsedNanos;
+    }
+
+    /**
+     * @return the number of decisions searched
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    /**
+     * @return the number of rollouts played
+     */
+    public long getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * @return the number of tree nodes created
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the number of rollouts the Heroes won
+     */
+    public long getHeroWins() {
+        return heroWins;
+    }
+
+    /**
+     * @return the number of rollouts the Monsters won
+     */
+    public long getMonsterWins() {
+        return monsterWins;
+    }
+
+    /**
+     * @return the wall clock time spent searching, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the average number of rounds played per rollout, or 0 if there were none
+     */
+    public double getAverageRolloutRounds() {
+        return rollouts == 0 ? 0.0 : (double)rolloutRounds / rollouts;
+    }
+
+    /**
+     * @return the average number of rollouts per search, or 0 if there were none
+     */
+    public double getAverageRolloutsPerSearch() {
+        return searches == 0 ? 0.0 : (double)rollouts / searches;
+    }
+
+    /**
+     * @return the number of tree nodes created per second of search, or 0 if no time was recorded
+     */
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : nodes / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @return the number of rollouts played per second of search, or 0 if no time was recorded
+     */
+    public double getRolloutsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rollouts / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @return the lines of a human readable summary of these statistics
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Searches: " + searches);
+        lines.add(String.format("Rollouts: %d (%.1f per search, %.1f rounds each)", rollouts,
+                getAverageRolloutsPerSearch(), getAverageRolloutRounds()));
+        lines.add(String.format("Rollouts won by Heroes: %d, by Monsters: %d", heroWins, monsterWins));
+        lines.add(String.format("Nodes: %d (%.0f nodes/sec, %.0f rollouts/sec)", nodes,
+                getNodesPerSecond(), getRolloutsPerSecond()));
+        return lines;
+    }
+}
@@ -0,0 +1,170 @@
+package main.games;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class SimulationReport aggregates the GameResults of many games of Legends of Valor,
+ * as played by a BatchSimulator. Each worker thread fills in a report of its own, and
+ * the reports are merged once every game has been played.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class SimulationReport {
+    private int games;
+    private int heroWins;
+    private int monsterWins;
+    private long totalRounds;
+    private long totalKills;
+    private long totalCoins;
+    private long elapsedNanos;
+
+    /**
+     * Standard constructor, for a report with no games in it
+     */
+    public SimulationReport() {
+        games = 0;
+        heroWins = 0;
+        monsterWins = 0;
+        totalRounds = 0;
+        totalKills = 0;
+        totalCoins = 0;
+        elapsedNanos = 0;
+    }
+
+    /**
+     * Adds the outcome of a single game to this report
+     * @param result the outcome of a finished game
+     */
+    public void add(GameResult result) {
+        games++;
+        if(result.getWinner() == GameResult.Winner.HEROES) {
+            heroWins++;
+        } else if(result.getWinner() == GameResult.Winner.MONSTERS) {
+            monsterWins++;
+        }
+        totalRounds += result.getRounds();
+        totalKills += result.getKills();
+        totalCoins += result.getCoinsEarned();
+    }
+
+    /**
+     * Adds every game in the passed in report to this report
+     * @param other the report to merge into this one
+     */
+    public void merge(SimulationReport other) {
+        games += other.games;
+        heroWins += other.heroWins;
+        monsterWins += other.monsterWins;
+        totalRounds += other.totalRounds;
+        totalKills += other.totalKills;
+        totalCoins += other.totalCoins;
+    }
+
+    /**
+     * @return the number of games in this report
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return the number of games won by the Heroes
+     */
+    public int getHeroWins() {
+        return heroWins;
+    }
+
+    /**
+     * @return the number of games won by the Monsters
+     */
+    public int getMonsterWins() {
+        return monsterWins;
+    }
+
+    /**
+     * @return the number of games stopped at their round limit before either side won
+     */
+    public int getUnfinished() {
+        return games - heroWins - monsterWins;
+    }
+
+    /**
+     * @return the fraction of games won by the Heroes, or 0 if there are no games
+     */
+    public double getHeroWinRate() {
+        return average(heroWins);
+    }
+
+    /**
+     * @return the average number of rounds per game
+     */
+    public double getAverageRounds() {
+        return average(totalRounds);
+    }
+
+    /**
+     * @return the average number of Monsters killed per game
+     */
+    public double getAverageKills() {
+        return average(totalKills);
+    }
+
+    /**
+     * @return the average number of coins earned by the Heroes per game
+     */
+    public double getAverageCoins() {
+        return average(totalCoins);
+    }
+
+    /**
+     * @return the wall clock time taken to play every game, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Sets the wall clock time taken to play every game
+     * @param elapsedNanos the time taken, in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of games played per second of wall clock time, or 0 if no time was recorded
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Helper function which divides the passed in total by the number of games
+     * @param total the total over every game
+     * @return the average per game, or 0 if there are no games
+     */
+    private double average(long total) {
+        return games == 0 ? 0.0 : (double)total / games;
+    }
+
+    /**
+     * @return the lines of a human readable summary of this report
+     */
+    public List<String> toLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Games played: " + games);
+        lines.add(String.format("Hero wins: %d (%.1f%%)", heroWins, 100.0 * getHeroWinRate()));
+        lines.add("Monster wins: " + monsterWins);
+        lines.add("Unfinished: " + getUnfinished());
+        lines.add(String.format("Average rounds: %.2f", getAverageRounds()));
+        lines.add(String.format("Average kills: %.2f", getAverageKills()));
+        lines.add(String.format("Average coins earned: %.1f", getAverageCoins()));
+        lines.add(String.format("Elapsed: %.3f s (%.1f games/sec)", elapsedNanos / 1e9, getGamesPerSecond()));
+        return lines;
+    }
+}
@@ -0,0 +1,125 @@
+package main.games;
+
+import main.fight.FightMove;
+import main.fight.GetUserFightMove;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.utils.GetUserCommand;
+import main.utils.GetUserNumericInput;
+import main.utils.GetUserYesNoInput;
+import main.world.Direction;
+import main.world.ValorWorld;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Class TerminalHeroController asks the user at the terminal what each Hero should do.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TerminalHeroController implements HeroController {
+    /**
+     * Prompts the user if they'd like their Hero to enter the Market
+     * @param hero the Hero in question
+     * @return true if the user wants the Hero to enter the Market, false otherwise
+     */
+    @Override
+    public boolean enterMarket(Hero hero) {
+        String prompt = "Would you like " + hero.getName() + " to enter the Market? You can come back to the Market at any point as well";
+        return new GetUserYesNoInput().run(prompt);
+    }
+
+    /**
+     * Asks the user if they would like to attack, and if so, which Monster
+     * @param hero the Hero whose turn it is
+     * @param monstersInRange the Monsters the Hero could attack
+     * @return the Monster chosen by the user, or null if they would rather move
+     */
+    @Override
+    public Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange) {
+        String prompt = "There are Monsters in range you can attack. Would you like to attack one?";
+        if(!new GetUserYesNoInput().run(prompt)) {
+            return null;
+        }
+
+        prompt = "Which Monster would you like to attack?";
+        List<String> options = new ArrayList<>();
+        for(Monster monster : monstersInRange) {
+            options.add(monster.toString());
+        }
+        int chosen = new GetUserNumericInput(new Scanner(System.in), prompt, options).run();
+        return monstersInRange.get(chosen);
+    }
+
+    /**
+     * Walks the user through choosing a FightMove against the passed in Monster
+     * @param hero the Hero whose turn it is
+     * @param monster the Monster chosen by chooseMonsterToAttack()
+     * @return the FightMove chosen by the user
+     */
+    @Override
+    public FightMove chooseFightMove(Hero hero, Monster monster) {
+        return new GetUserFightMove(hero, Collections.singletonList(monster)).run();
+    }
+
+    /**
+     * Prompts the user for their move
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is moving in
+     * @return the Direction entered by the user
+     */
+    @Override
+    public Direction chooseDirection(Hero hero, ValorWorld world) {
+        switch (new GetUserCommand().run()) {
+            case UP:
+                return Direction.UP;
+            case DOWN:
+                return Direction.DOWN;
+            case LEFT:
+                return Direction.LEFT;
+            case RIGHT:
+                return Direction.RIGHT;
+            case TELEPORT:
+                return Direction.TELEPORT;
+            case BACK:
+                return Direction.BACK;
+            default:
+                throw new RuntimeException("Unknown command!");
+        }
+    }
+
+    /**
+     * Prompts the user for the Lane they would like to teleport to
+     * @param hero the Hero whose turn it is
+     * @param world the World the Hero is teleporting in
+     * @return the index of the Lane chosen by the user
+     */
+    @Override
+    public int chooseTeleportLane(Hero hero, ValorWorld world) {
+        String prompt = "which lane would you like to teleport to?";
+        List<String> options = new ArrayList<>(Arrays.asList("Top lane", "Mid lane", "Bot lane"));
+        int choice = new GetUserNumericInput(new Scanner(System.in), prompt, options).run();
+        if(!world.isValidLane(hero, choice)) {
+            System.out.println("You can only teleport to a different lane.");
+        }
+        return choice;
+    }
+
+    /**
+     * Tells the user that their move was not possible
+     * @param hero the Hero whose turn it is
+     * @param direction the Direction that was rejected
+     */
+    @Override
+    public void moveRejected(Hero hero, Direction direction) {
+        System.out.println("Unable to move " + direction + "! Please enter a different move.");
+    }
+}
@@ -1,5 +1,7 @@
 package main.games;
 
+import main.utils.Output;
+
 /**
  * Class TurnBasedGame
  *
@@ -41,7 +43,7 @@ public class TurnBasedGame extends Game {
             } catch (InvalidNextTurnException e) {
                 // Shouldn't happen, if logic implemented correctly
                 e.printStackTrace();
-                System.out.println("Error! Something went wrong");
+                Output.out().println("Error! Something went wrong");
                 System.exit(-1);
             }
             executor.playNextTurn();
@@ -0,0 +1,22 @@
+package main.games;
+
+/**
+ * Enum TurnOrder lists the ways a TurnScheduler can order the turns of a round.
+ *
+ * ALTERNATING is the standard order of Legends of Valor: Heroes and Monsters take turns
+ * one after the other, each side in the order it joined the game. When one side has no
+ * one left to go, the other side finishes the round.
+ *
+ * INITIATIVE orders every Legend by Agility, the most agile first, regardless of side.
+ * Ties go to whoever joined the game first.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum TurnOrder {
+    ALTERNATING,
+    INITIATIVE
+}
@@ -0,0 +1,405 @@
+package main.games;
+
+import main.legends.Hero;
+import main.legends.Legend;
+import main.legends.Monster;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Class TurnScheduler decides which Legend takes the next turn of a round of Legends of Valor.
+ *
+ * The Legends still to go this round are kept in two priority queues, one per side, and the
+ * TurnOrder decides how the sides are interleaved. A Legend that has taken its turn waits for
+ * the next round. A Monster that dies is removed, and a Hero that faints sits out the rest of
+ * the round, both in O(log n), so no turn is ever spent skipping over Legends that can't play.
+ *
+ * A single TurnScheduler is meant to be kept for a whole game: startRound() puts every
+ * Legend back in the queues, reusing the same arrays round after round.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TurnScheduler {
+    private final TurnOrder order;
+    private final Map<Legend,Entry> entries;
+    private final EntryHeap heroes;
+    private final EntryHeap monsters;
+    private Entry[] waiting; // Legends that have gone this round, or are sitting it out
+    private int numWaiting;
+    private int nextSeq;
+    private boolean lastWasHero;
+
+    /**
+     * Constructs a TurnScheduler with the standard, alternating, order
+     */
+    public TurnScheduler() {
+        this(TurnOrder.ALTERNATING);
+    }
+
+    /**
+     * Standard constructor
+     * @param order how the turns of a round are ordered
+     */
+    public TurnScheduler(TurnOrder order) {
+        this.order = order;
+        this.entries = new IdentityHashMap<>();
+        this.heroes = new EntryHeap();
+        this.monsters = new EntryHeap();
+        this.waiting = new Entry[16];
+        this.numWaiting = 0;
+        this.nextSeq = 0;
+        this.lastWasHero = false;
+    }
+
+    /**
+     * @return how the turns of a round are ordered
+     */
+    public TurnOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Adds a Legend to this scheduler. The Legend takes its first turn in the next round.
+     * Adding a Legend that is already scheduled has no effect.
+     * @param legend the Legend to add
+     */
+    public void add(Legend legend) {
+        if(entries.containsKey(legend)) {
+            return;
+        }
+        Entry entry = new Entry(legend, nextSeq++);
+        entries.put(legend, entry);
+        addWaiting(entry);
+    }
+
+    /**
+     * Removes a Legend from this scheduler for good, for example when a Monster dies
+     * @param legend the Legend to remove
+     */
+    public void remove(Legend legend) {
+        Entry entry = entries.remove(legend);
+        if(entry != null) {
+            detach(entry);
+        }
+    }
+
+    /**
+     * Takes a Legend out of the rest of this round, for example when a Hero faints.
+     * The Legend takes its turns again from the next round on.
+     * @param legend the Legend sitting out the round
+     */
+    public void skipRound(Legend legend) {
+        Entry entry = entries.get(legend);
+        if(entry != null && entry.heapIndex >= 0) {
+            detach(entry);
+            addWaiting(entry);
+        }
+    }
+
+    /**
+     * Removes every Legend from this scheduler, keeping the arrays for reuse
+     */
+    public void clear() {
+        entries.clear();
+        heroes.clear();
+        monsters.clear();
+        Arrays.fill(waiting, 0, numWaiting, null);
+        numWaiting = 0;
+        nextSeq = 0;
+    }
+
+    /**
+     * @param legend the Legend in question
+     * @return true if the Legend is in this scheduler, false otherwise
+     */
+    public boolean contains(Legend legend) {
+        return entries.containsKey(legend);
+    }
+
+    /**
+     * @return the number of Legends in this scheduler
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of Legends still to take their turn this round
+     */
+    public int remainingThisRound() {
+        return heroes.size + monsters.size;
+    }
+
+    /**
+     * Starts a new round: every Legend is queued to take a turn, except Heroes that have
+     * fainted, who sit the round out. Monsters that have died are removed.
+     * In INITIATIVE order, each Legend's Agility is read once here, at the start of the round.
+     */
+    public void startRound() {
+        // Anyone who didn't get to go last round goes back in with everyone else
+        while(heroes.size > 0) {
+            addWaiting(heroes.pop());
+        }
+        while(monsters.size > 0) {
+            addWaiting(monsters.pop());
+        }
+
+        int count = numWaiting;
+        numWaiting = 0;
+        for(int i = 0; i < count; i++) {
+            Entry entry = waiting[i];
+            waiting[i] = null;
+            entry.waitingIndex = -1;
+            if(entry.isHero) {
+                if(((Hero)entry.legend).hasFainted()) {
+                    addWaiting(entry);
+                } else {
+                    entry.priority = priorityOf(entry.legend);
+                    heroes.push(entry);
+                }
+            } else if(((Monster)entry.legend).isAlive()) {
+                entry.priority = priorityOf(entry.legend);
+                monsters.push(entry);
+            } else {
+                entries.remove(entry.legend);
+            }
+        }
+        lastWasHero = false; // Heroes open the round
+    }
+
+    /**
+     * Returns the Legend that takes the next turn of this round, and marks it as having gone
+     * @return the next Legend, or null if everyone has taken their turn this round
+     */
+    public Legend next() {
+        EntryHeap from;
+        if(heroes.size == 0) {
+            from = monsters;
+        } else if(monsters.size == 0) {
+            from = heroes;
+        } else if(order == TurnOrder.INITIATIVE) {
+            from = heroes.peek().before(monsters.peek()) ? heroes : monsters;
+        } else {
+            from = lastWasHero ? monsters : heroes;
+        }
+        if(from.size == 0) {
+            return null;
+        }
+
+        Entry entry = from.pop();
+        addWaiting(entry);
+        lastWasHero = entry.isHero;
+        return entry.legend;
+    }
+
+    /**
+     * Helper function which computes the priority of a Legend for this round: lower goes first
+     * @param legend the Legend in question
+     * @return the Legend's priority
+     */
+    private double priorityOf(Legend legend) {
+        if(order == TurnOrder.INITIATIVE) {
+            return -legend.getAgility().getAbilityValue();
+        }
+        return 0.0;
+    }
+
+    /**
+     * Helper function which takes an entry out of whichever queue or waiting list it is in
+     * @param entry the entry in question
+     */
+    private void detach(Entry entry) {
+        if(entry.heapIndex >= 0) {
+            (entry.isHero ? heroes : monsters).remove(entry);
+        } else if(entry.waitingIndex >= 0) {
+            // Swap the last waiting entry into the gap
+            Entry last = waiting[--numWaiting];
+            waiting[entry.waitingIndex] = last;
+            last.waitingIndex = entry.waitingIndex;
+            waiting[numWaiting] = null;
+            entry.waitingIndex = -1;
+        }
+    }
+
+    /**
+     * Helper function which appends an entry to the waiting list, growing it if necessary
+     * @param entry the entry to append
+     */
+    private void addWaiting(Entry entry) {
+        if(numWaiting == waiting.length) {
+            waiting = Arrays.copyOf(waiting, waiting.length * 2);
+        }
+        entry.waitingIndex = numWaiting;
+        waiting[numWaiting++] = entry;
+    }
+
+    /**
+     * Private class which is a Legend's place in the scheduler
+     */
+    private static class Entry {
+        private final Legend legend;
+        private final boolean isHero;
+        private final int seq; // order in which the Legend joined, breaks ties
+        private double priority;
+        private int heapIndex;
+        private int waitingIndex;
+
+        /**
+         * Standard constructor
+         * @param legend the Legend scheduled
+         * @param seq the order in which the Legend joined
+         */
+        public Entry(Legend legend, int seq) {
+            this.legend = legend;
+            this.isHero = legend instanceof Hero;
+            this.seq = seq;
+            this.heapIndex = -1;
+            this.waitingIndex = -1;
+        }
+
+        /**
+         * @param other another entry
+         * @return true if this entry goes before the other one, false otherwise
+         */
+        public boolean before(Entry other) {
+            if(priority != other.priority) {
+                return priority < other.priority;
+            }
+            return seq < other.seq;
+        }
+    }
+
+    /**
+     * Private class which is a binary min-heap of entries, in which every entry knows its
+     * index, so any entry can be removed in O(log n)
+     */
+    private static class EntryHeap {
+        private Entry[] heap;
+        private int size;
+
+        /**
+         * Standard constructor, for an empty heap
+         */
+        public EntryHeap() {
+            this.heap = new Entry[16];
+            this.size = 0;
+        }
+
+        /**
+         * @return the first entry, without removing it
+         */
+        public Entry peek() {
+            return heap[0];
+        }
+
+        /**
+         * Adds an entry, growing the heap if necessary
+         * @param entry the entry to add
+         */
+        public void push(Entry entry) {
+            if(size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            heap[size] = entry;
+            entry.heapIndex = size;
+            size++;
+            siftUp(entry.heapIndex);
+        }
+
+        /**
+         * Removes and returns the first entry
+         * @return the first entry
+         */
+        public Entry pop() {
+            Entry first = heap[0];
+            remove(first);
+            return first;
+        }
+
+        /**
+         * Removes the passed in entry, which must be in this heap
+         * @param entry the entry to remove
+         */
+        public void remove(Entry entry) {
+            int index = entry.heapIndex;
+            size--;
+            Entry last = heap[size];
+            heap[size] = null;
+            entry.heapIndex = -1;
+            if(index == size) {
+                return;
+            }
+            heap[index] = last;
+            last.heapIndex = index;
+            siftDown(index);
+            siftUp(last.heapIndex);
+        }
+
+        /**
+         * Empties this heap, keeping its array
+         */
+        public void clear() {
+            for(int i = 0; i < size; i++) {
+                heap[i].heapIndex = -1;
+                heap[i] = null;
+            }
+            size = 0;
+        }
+
+        /**
+         * Helper function which moves the entry at the passed in index up to its place
+         * @param index the index of the entry
+         */
+        private void siftUp(int index) {
+            Entry entry = heap[index];
+            while(index > 0) {
+                int parent = (index - 1) / 2;
+                if(!entry.before(heap[parent])) {
+                    break;
+                }
+                place(heap[parent], index);
+                index = parent;
+            }
+            place(entry, index);
+        }
+
+        /**
+         * Helper function which moves the entry at the passed in index down to its place
+         * @param index the index of the entry
+         */
+        private void siftDown(int index) {
+            Entry entry = heap[index];
+            while(true) {
+                int child = 2 * index + 1;
+                if(child >= size) {
+                    break;
+                }
+                if(child + 1 < size && heap[child + 1].before(heap[child])) {
+                    child++;
+                }
+                if(!heap[child].before(entry)) {
+                    break;
+                }
+                place(heap[child], index);
+                index = child;
+            }
+            place(entry, index);
+        }
+
+        /**
+         * Helper function which puts an entry at an index of the heap
+         * @param entry the entry
+         * @param index where to put it
+         */
+        private void place(Entry entry, int index) {
+            heap[index] = entry;
+            entry.heapIndex = index;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package main.games;
 
+import main.GameContext;
+import main.Runner;
 import main.legends.Hero;
 import main.legends.Monster;
+import main.utils.RandomSource;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Class ValorGame
  *
+ * Each ValorGame plays in its own GameContext, so several can be played in one process.
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/19/20
@@ -16,23 +20,122 @@ import java.util.List;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class ValorGame {
+    private final GameContext context;
+    private final LegendsOfValorRound rounds;
     private final RoundBasedGame game;
 
     /**
-     * Standard constructor
+     * Constructs the game played at the terminal, where the user controls the Heroes.
      * @param heroes the Heroes that are in this game
      * @param monsters initial list of Monsters that are in this game
      */
     public ValorGame(List<Hero> heroes, List<Monster> monsters) {
-        RoundExecutor roundExecutor = new LegendsOfValorRound(heroes, monsters, 8);
-        game = new RoundBasedGame(roundExecutor);
+        this.context = Runner.getInstance().getContext();
+        rounds = new LegendsOfValorRound(heroes, monsters, 8);
+        game = new RoundBasedGame(rounds);
+    }
+
+    /**
+     * Standard constructor. The game is played by the Heroes and Monsters of the passed in
+     * context's roster, which are controlled by the passed in controllers.
+     * With programmatic controllers (and RenderMode.NONE), a game needs no console at all.
+     * @param context the game to play
+     * @param heroController decides what each Hero does
+     * @param monsterController decides what each Monster does
+     */
+    public ValorGame(GameContext context, HeroController heroController, MonsterController monsterController) {
+        this.context = context;
+        List<Hero> heroes = context.getRoster().getChosenHeroes();
+        List<Monster> monsters = context.getRoster().getActiveMonsters();
+        rounds = new LegendsOfValorRound(context, heroes, monsters, 8, heroController, monsterController);
+        game = new RoundBasedGame(rounds);
+    }
+
+    /**
+     * Constructs a game that carries on from the passed in round, for example in a forked GameContext
+     * @param context the game to play
+     * @param heroController decides what each Hero does
+     * @param monsterController decides what each Monster does
+     * @param roundNum the number of the last round played
+     * @param firstRound whether or not the first round is still to be finished
+     */
+    public ValorGame(GameContext context, HeroController heroController, MonsterController monsterController,
+                     int roundNum, boolean firstRound) {
+        this(context, heroController, monsterController);
+        rounds.restoreRound(roundNum, firstRound);
+    }
+
+    /**
+     * Takes a snapshot of this game between rounds, which restore() can later go back to
+     * @return the GameSnapshot
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(context, rounds.getRoundNum(), rounds.isFirstRound());
+    }
+
+    /**
+     * Puts this game back to the state it was in when the passed in snapshot was taken
+     * @param snapshot a GameSnapshot taken of this game
+     */
+    public void restore(GameSnapshot snapshot) {
+        snapshot.restoreTo(context);
+        rounds.restoreRound(snapshot.getRoundNum(), snapshot.isFirstRound());
+    }
+
+    /**
+     * Forks this game between rounds: the returned game carries on from where this one is,
+     * with copies of its Legends, so both can be played independently (even on different threads).
+     * @param random the source of randomness for the fork
+     * @param heroController decides what each Hero does in the fork
+     * @param monsterController decides what each Monster does in the fork
+     * @return the forked ValorGame
+     */
+    public ValorGame fork(RandomSource random, HeroController heroController, MonsterController monsterController) {
+        return new ValorGame(context.fork(random), heroController, monsterController, rounds.getRoundNum(), rounds.isFirstRound());
+    }
+
+    /**
+     * @return the game this ValorGame is played in
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
+    /**
+     * Stops the game after the passed in number of rounds, even if neither side has won.
+     * @param roundLimit the maximum number of rounds to play
+     */
+    public void setRoundLimit(int roundLimit) {
+        rounds.setRoundLimit(roundLimit);
+    }
+
+    /**
+     * Sets how the turns of each round are ordered
+     * @param order how the turns of a round are ordered
+     */
+    public void setTurnOrder(TurnOrder order) {
+        rounds.setTurnOrder(order);
+    }
+
+    /**
+     * @return the outcome of this game, complete once play() returns
+     */
+    public GameResult getResult() {
+        return context.getResult();
     }
 
     /**
      * Plays the game: that is, coordinates the process of going through rounds,
      * playing Hero's and Monster's turns.
+     * While the game is played, its RandomSource is the default for the calling thread.
      */
     public void play() {
-        game.play();
+        RandomSource previous = RandomSource.getDefault();
+        RandomSource.setDefault(context.getRandom());
+        try {
+            game.play();
+        } finally {
+            RandomSource.setDefault(previous);
+        }
     }
 }
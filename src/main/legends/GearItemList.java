@@ -133,6 +133,22 @@ public class GearItemList {
         return output;
     }
 
+    /**
+     * Counts the spells that the passed in Hero has enough Mana to use, in the order
+     * of getUsableSpells(), without building the List
+     * @param hero the relevant Hero
+     * @return the number of usable spells
+     */
+    public int countUsableSpells(Hero hero) {
+        int count = 0;
+        for(GearItem item : getGearItems()) {
+            if(item instanceof Spell && ((Spell)item).heroHasEnoughMana(hero)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      *
      * @param hero the relevant Hero
@@ -178,6 +194,20 @@ public class GearItemList {
         return output;
     }
 
+    /**
+     * Counts the Potions in this GearItemList that have not been used, without building the List
+     * @return the number of usable Potions
+     */
+    public int countUsablePotions() {
+        int count = 0;
+        for(GearItem item : getGearItems()) {
+            if(item instanceof Potion && !((Potion)item).wasUsed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * @return String representation of this GearList object.
      */
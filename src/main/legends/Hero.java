@@ -2,10 +2,13 @@ package main.legends;
 
 import main.attributes.*;
 import main.market_and_gear.Armor;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.Potion;
 import main.market_and_gear.Weapon;
 import main.utils.Coffer;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,13 +36,14 @@ public abstract class Hero extends Legend {
     public static final boolean defaultFainted = false;
 
     private boolean fainted;
-    private final Mana mana;
-    private final Ability dexterity;
-    private final Coffer coffer;
-    private final GearItemList gearItemList;
-    private final ActiveGearItems activeGearItems;
-    private final List<Ability> specialAbilities;
-    private final Experience experience;
+    private Mana mana;
+    private Ability dexterity;
+    private Coffer coffer;
+    private GearItemList gearItemList;
+    private ActiveGearItems activeGearItems;
+    private List<Ability> specialAbilities;
+    private Experience experience;
+    private LevelUpListener levelUpListener; // may be null
 
     /**
      * Standard constructor for a Hero. By default, a Hero is created without any GearItems.
@@ -88,6 +92,25 @@ public abstract class Hero extends Legend {
         return experience;
     }
 
+    /**
+     * Sets the listener notified whenever this Hero levels up. A clone of this Hero shares
+     * the listener until it is given one of its own.
+     * @param levelUpListener the listener, or null for none
+     */
+    public void setLevelUpListener(LevelUpListener levelUpListener) {
+        this.levelUpListener = levelUpListener;
+    }
+
+    /**
+     * Notifies the listener, if any, that this Hero has just leveled up.
+     * Called by Experience.increaseExperience().
+     */
+    public void notifyLeveledUp() {
+        if(levelUpListener != null) {
+            levelUpListener.leveledUp(this);
+        }
+    }
+
     /**
      *
      * @return a List of special Abilities for this Hero
@@ -242,6 +265,55 @@ public abstract class Hero extends Legend {
                 weapon, armor, numSpells, numPotions);
     }
 
+    /**
+     * Clones this Hero, that is, returns a deep copy of this Hero. On top of the copied
+     * Abilities, the copy has its own Coffer, Experience and GearItems. Potions are
+     * copied since they get used up; every other GearItem never changes, so it is shared.
+     * @return a cloned copy of this Hero
+     * @throws CloneNotSupportedException if this Object can't be cloned
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        Hero cloned = (Hero)super.clone();
+        cloned.mana = (Mana)clonedAbility(cloned, this.getMana());
+        cloned.dexterity = clonedAbility(cloned, this.getDexterity());
+        cloned.specialAbilities = new ArrayList<>();
+        for(Ability ability : this.getSpecialAbilities()) {
+            cloned.specialAbilities.add(clonedAbility(cloned, ability));
+        }
+        cloned.coffer = new Coffer(this.getCoffer().getNumCoins());
+        cloned.experience = new Experience(cloned, this.getExperience().getExperience());
+
+        List<GearItem> items = new ArrayList<>();
+        for(GearItem item : this.getGearItemList().getGearItems()) {
+            items.add(item instanceof Potion ? (GearItem)item.clone() : item);
+        }
+        cloned.gearItemList = new GearItemList(items);
+        List<GearItem> potions = new ArrayList<>();
+        for(GearItem potion : this.getActiveGearItems().getPotions()) {
+            potions.add(clonedGearItem(cloned, potion));
+        }
+        ActiveGearItems active = this.getActiveGearItems();
+        cloned.activeGearItems = new ActiveGearItems(cloned, active.getWeapon(), active.getArmor(), potions, active.getSpells());
+        return cloned;
+    }
+
+    /**
+     * Helper function for clone(), which finds the copy of one of this Hero's GearItems
+     * @param cloned the copy of this Hero, whose GearItemList has already been copied
+     * @param item one of this Hero's GearItems
+     * @return the matching GearItem of the copy
+     */
+    private GearItem clonedGearItem(Hero cloned, GearItem item) {
+        List<GearItem> items = this.getGearItemList().getGearItems();
+        for(int i = 0; i < items.size(); i++) {
+            if(items.get(i) == item) {
+                return cloned.getGearItemList().getGearItems().get(i);
+            }
+        }
+        return item;
+    }
+
     /**
      * Defines equality for two Hero objects.
      *
@@ -5,11 +5,11 @@ import main.attributes.HealthPower;
 import main.attributes.Level;
 import main.attributes.Position;
 import main.utils.Outputable;
+import main.utils.RandomSource;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Abstract Class Legend sits at the top of the inheritance hierarchy for all heroes and monsters.
@@ -29,13 +29,13 @@ import java.util.Random;
  */
 public abstract class Legend extends Outputable implements Cloneable {
     private String name;
-    private final Level level;
-    private final HealthPower healthPower;
+    private Level level;
+    private HealthPower healthPower;
 
-    private final List<Ability> abilities;
-    private final Ability strength; // amount of damage a Monster does
-    private final Ability defense;
-    private final Ability agility; // dodge chance
+    private List<Ability> abilities;
+    private Ability strength; // amount of damage a Monster does
+    private Ability defense;
+    private Ability agility; // dodge chance
 
     /**
      * Standard constructor for a Legend.
@@ -181,6 +181,17 @@ public abstract class Legend extends Outputable implements Cloneable {
      * @return a String indicating the result of what happened
      */
     public String wasAttacked(double damage) {
+        return this.wasAttacked(damage, RandomSource.getDefault());
+    }
+
+    /**
+     * Same as wasAttacked(damage), but the dodge is decided by the passed in RandomSource.
+     *
+     * @param damage total damage the attacker is inflicting
+     * @param random the source deciding whether or not the attack is dodged
+     * @return a String indicating the result of what happened
+     */
+    public String wasAttacked(double damage, RandomSource random) {
         double defense = this.getDefenseAmount();
         double totalDamage = damage - defense;
         if(totalDamage <= 0) {
@@ -189,7 +200,7 @@ public abstract class Legend extends Outputable implements Cloneable {
 
         double inflictedDamage = totalDamage * 0.05;
         double dodgeChance = this.getDodgeChance();
-        int rand = new Random().nextInt(100) + 1;
+        int rand = random.nextInt(100) + 1;
         if(rand > dodgeChance * 100.0) {
             this.getHealthPower().reduceHealthPowerBy(inflictedDamage);
             return "Attack successful! " + this.getName() + " lost " + inflictedDamage + " health power.";
@@ -232,11 +243,42 @@ public abstract class Legend extends Outputable implements Cloneable {
     }
 
     /**
-     *
+     * Clones this Legend, that is, returns a deep copy of this Legend. The copy has
+     * its own Level and Abilities, so changes to one Legend never show up in the other.
      * @return a cloned copy of this Legend
+     * @throws CloneNotSupportedException if this Object can't be cloned
      */
     @Override
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        Legend cloned = (Legend)super.clone();
+        cloned.level = (Level)this.getLevel().clone();
+        cloned.abilities = new ArrayList<>();
+        for(Ability ability : this.getAbilities()) {
+            cloned.abilities.add((Ability)ability.clone());
+        }
+        cloned.healthPower = (HealthPower)clonedAbility(cloned, this.getHealthPower());
+        cloned.strength = clonedAbility(cloned, this.getStrength());
+        cloned.defense = clonedAbility(cloned, this.getDefense());
+        cloned.agility = clonedAbility(cloned, this.getAgility());
+        return cloned;
+    }
+
+    /**
+     * Helper function for clone(), which finds the copy of one of this Legend's Abilities.
+     * An Ability can be referred to from several places (for example, a Hero's special
+     * Abilities are also in their List of Abilities), and every reference must end up
+     * pointing to the same copy.
+     * @param cloned the copy of this Legend, whose Abilities have already been copied
+     * @param ability one of this Legend's Abilities
+     * @return the matching Ability of the copy
+     * @throws CloneNotSupportedException if the Ability can't be cloned
+     */
+    protected Ability clonedAbility(Legend cloned, Ability ability) throws CloneNotSupportedException {
+        for(int i = 0; i < this.getAbilities().size(); i++) {
+            if(this.getAbilities().get(i) == ability) {
+                return cloned.getAbilities().get(i);
+            }
+        }
+        return (Ability)ability.clone();
     }
 }
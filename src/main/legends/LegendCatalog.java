@@ -0,0 +1,187 @@
+package main.legends;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class LegendCatalog indexes every Legend of a LegendList. It is built once, when the
+ * Legends are loaded (see GameCatalog), and never changes afterwards. Its Legends are never
+ * put in play (the chosen Heroes are clones), so every LegendList shares the same catalog.
+ *
+ * Every view is computed up front: the Legends of each class, every Hero and every
+ * Monster. Names are looked up in hash maps. None of the lookups allocate, so
+ * they can be called as often as needed, however big the catalog is.
+ *
+ * The Lists returned are unmodifiable.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public final class LegendCatalog {
+    private final List<Legend> legends;
+    private final List<Hero> heroes;
+    private final List<Monster> monsters;
+    private final List<Paladin> paladins;
+    private final List<Sorcerer> sorcerers;
+    private final List<Warrior> warriors;
+    private final List<Dragon> dragons;
+    private final List<Exoskeleton> exoskeletons;
+    private final List<Spirit> spirits;
+    private final Map<String,Hero> heroesByName;
+    private final Map<String,Monster> monstersByName;
+
+    /**
+     * Standard constructor, which indexes the passed in Legends
+     * @param loaded every Legend, in the order they were loaded
+     */
+    public LegendCatalog(List<Legend> loaded) {
+        List<Hero> allHeroes = new ArrayList<>();
+        List<Monster> allMonsters = new ArrayList<>();
+        List<Paladin> allPaladins = new ArrayList<>();
+        List<Sorcerer> allSorcerers = new ArrayList<>();
+        List<Warrior> allWarriors = new ArrayList<>();
+        List<Dragon> allDragons = new ArrayList<>();
+        List<Exoskeleton> allExoskeletons = new ArrayList<>();
+        List<Spirit> allSpirits = new ArrayList<>();
+        heroesByName = new HashMap<>();
+        monstersByName = new HashMap<>();
+
+        for(Legend legend : loaded) {
+            if(legend instanceof Hero) {
+                Hero hero = (Hero)legend;
+                allHeroes.add(hero);
+                heroesByName.putIfAbsent(hero.getName(), hero); // the first Hero with a name wins
+                if(hero instanceof Paladin) {
+                    allPaladins.add((Paladin)hero);
+                } else if(hero instanceof Sorcerer) {
+                    allSorcerers.add((Sorcerer)hero);
+                } else if(hero instanceof Warrior) {
+                    allWarriors.add((Warrior)hero);
+                }
+            } else if(legend instanceof Monster) {
+                Monster monster = (Monster)legend;
+                allMonsters.add(monster);
+                monstersByName.putIfAbsent(monster.getName(), monster);
+                if(monster instanceof Dragon) {
+                    allDragons.add((Dragon)monster);
+                } else if(monster instanceof Exoskeleton) {
+                    allExoskeletons.add((Exoskeleton)monster);
+                } else if(monster instanceof Spirit) {
+                    allSpirits.add((Spirit)monster);
+                }
+            }
+        }
+
+        legends = view(loaded);
+        heroes = view(allHeroes);
+        monsters = view(allMonsters);
+        paladins = view(allPaladins);
+        sorcerers = view(allSorcerers);
+        warriors = view(allWarriors);
+        dragons = view(allDragons);
+        exoskeletons = view(allExoskeletons);
+        spirits = view(allSpirits);
+    }
+
+    /**
+     * Helper function which copies a List into an unmodifiable one
+     * @param list the List to copy
+     * @param <T> the type of the elements
+     * @return the unmodifiable copy
+     */
+    private static <T> List<T> view(List<T> list) {
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * @return every Legend, in the order they were loaded
+     */
+    public List<Legend> getLegends() {
+        return legends;
+    }
+
+    /**
+     * @return every Hero
+     */
+    public List<Hero> getHeroes() {
+        return heroes;
+    }
+
+    /**
+     * @return every Monster
+     */
+    public List<Monster> getMonsters() {
+        return monsters;
+    }
+
+    /**
+     * @return every Paladin
+     */
+    public List<Paladin> getPaladins() {
+        return paladins;
+    }
+
+    /**
+     * @return every Sorcerer
+     */
+    public List<Sorcerer> getSorcerers() {
+        return sorcerers;
+    }
+
+    /**
+     * @return every Warrior
+     */
+    public List<Warrior> getWarriors() {
+        return warriors;
+    }
+
+    /**
+     * @return every Dragon
+     */
+    public List<Dragon> getDragons() {
+        return dragons;
+    }
+
+    /**
+     * @return every Exoskeleton
+     */
+    public List<Exoskeleton> getExoskeletons() {
+        return exoskeletons;
+    }
+
+    /**
+     * @return every Spirit
+     */
+    public List<Spirit> getSpirits() {
+        return spirits;
+    }
+
+    /**
+     * @param name Name of the requested Hero
+     * @return the Hero with the passed in name, or null if not found
+     */
+    public Hero findHero(String name) {
+        return heroesByName.get(name);
+    }
+
+    /**
+     * @param name Name of the requested Monster
+     * @return the Monster with the passed in name, or null if not found
+     */
+    public Monster findMonster(String name) {
+        return monstersByName.get(name);
+    }
+
+    /**
+     * @return the number of Legends in this catalog
+     */
+    public int size() {
+        return legends.size();
+    }
+}
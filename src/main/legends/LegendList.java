@@ -1,38 +1,54 @@
 package main.legends;
 
+import main.GameCatalog;
 import main.attributes.*;
 import main.market_and_gear.Armor;
 import main.market_and_gear.MarketInventory;
 import main.market_and_gear.Weapon;
+import main.utils.CatalogReader;
 import main.utils.Coffer;
 import main.utils.GetUserListNumericalInput;
 import main.utils.Output;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Class LegendList contains a List of all Legends available in the game.
  * It is a singleton class, and upon first call, reads in all Monsters
  * and Heroes from disk.
  *
+ * Legends change as a game is played, so every game needs a LegendList of its own.
+ * The singleton instance is the roster of the game played at the terminal, in which
+ * the user chooses their Heroes. Other games create their own LegendList, with
+ * Heroes chosen by name.
+ *
+ * Every data file is read only once, into the GameCatalog, and every LegendList shares
+ * its LegendCatalog and MonsterTemplates. The chosen Heroes are clones of the catalog
+ * Heroes, so the LegendCatalog is never played with.
+ * The Monsters put in play are spawned from the templates, so the same template can be
+ * spawned any number of times, and the catalog Monsters (see getMonsters()) never change.
+ * A SpawnIndex picks the templates to spawn from, using the highest Level of the chosen
+ * Heroes, which is kept up to date as Heroes level up.
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/8/20
  * <p>
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
-public class LegendList {
+public class LegendList implements LevelUpListener {
     private static LegendList instance = null;
-    private final List<Legend> legends;
+    private static SpawnIndex catalogIndex = null; // nothing spawned, copied by every LegendList
+    private final LegendCatalog catalog;
     private final List<Hero> chosenHeroes;
-    private final List<Monster> activeMonsters;
+    private final MonsterArena activeMonsters;
+    private final SpawnIndex spawnIndex;
+    private int maxHeroLevel;
 
     /**
      * @return the static instance of this class
@@ -45,26 +61,112 @@ public class LegendList {
     }
 
     /**
-     * Private constructor
+     * @return the templates of every Monster, in the order they appear in the data files
      */
-    private LegendList() {
-        legends = new ArrayList<>();
-        try {
-            new ReadLegendsFromDisk().run();
+    public static List<MonsterTemplate> getMonsterTemplates() {
+        return GameCatalog.getInstance().getMonsterTemplates();
+    }
 
-        } catch (IOException e) {
-            e.printStackTrace();
-            // Shouldn't happen
+    /**
+     * @return a new SpawnIndex of every MonsterTemplate, in which nothing has been spawned yet
+     */
+    private static synchronized SpawnIndex newSpawnIndex() {
+        if (catalogIndex == null) {
+            catalogIndex = new SpawnIndex(getMonsterTemplates());
         }
+        return new SpawnIndex(catalogIndex);
+    }
 
-        //Collections.shuffle(legends); // so we don't have the same order every time
-        List<Hero> allHeroes = getHeroes();
-        this.chosenHeroes = chooseHeroes(allHeroes);
-        this.activeMonsters = new ArrayList<>();
+    /**
+     * Private constructor, which prompts the user to choose their Heroes
+     */
+    private LegendList() {
+        this(null);
+    }
+
+    /**
+     * Constructs a LegendList whose chosen Heroes are the Heroes with the passed in names.
+     * Throws an IllegalArgumentException if no Hero has one of the names.
+     * @param heroNames the names of the Heroes to choose, or null to prompt the user
+     */
+    public LegendList(List<String> heroNames) {
+        this.catalog = GameCatalog.getInstance().getLegendCatalog();
+        List<Hero> chosen = heroNames == null ? chooseHeroes(getHeroes()) : findHeroesByName(heroNames);
+        this.chosenHeroes = new ArrayList<>();
+        for(Hero hero : chosen) {
+            this.chosenHeroes.add((Hero)cloneOf(hero));
+        }
+        this.activeMonsters = new MonsterArena();
+        this.spawnIndex = newSpawnIndex();
+        listenForLevelUps();
         spawnNewMonsters();
         equipHeroesInitially();
     }
 
+    /**
+     * Helper constructor for copy(), which takes the already copied Legends
+     * @param catalog the catalog of every Legend, shared by every LegendList
+     * @param chosenHeroes the chosen Heroes
+     * @param activeMonsters the active Monsters
+     * @param spawnIndex the copied SpawnIndex
+     */
+    private LegendList(LegendCatalog catalog, List<Hero> chosenHeroes, MonsterArena activeMonsters,
+                       SpawnIndex spawnIndex) {
+        this.catalog = catalog;
+        this.chosenHeroes = chosenHeroes;
+        this.activeMonsters = activeMonsters;
+        this.spawnIndex = spawnIndex;
+        listenForLevelUps();
+    }
+
+    /**
+     * Helper function which registers this LegendList as the LevelUpListener of every chosen
+     * Hero, and finds the highest Level among them
+     */
+    private void listenForLevelUps() {
+        for(Hero hero : chosenHeroes) {
+            hero.setLevelUpListener(this);
+        }
+        refreshMaxHeroLevel();
+    }
+
+    /**
+     * Returns a deep copy of this LegendList, in which the chosen Heroes and the active
+     * Monsters are clones of the Legends in this list. Playing a game with the copy leaves
+     * this list untouched. The LegendCatalog and the MonsterTemplates are never played
+     * with, so they are shared.
+     * @param copies filled in with the copy of each Legend, keyed by the original
+     * @return the copied LegendList
+     */
+    public LegendList copy(Map<Legend, Legend> copies) {
+        List<Hero> copiedHeroes = new ArrayList<>();
+        for(Hero hero : chosenHeroes) {
+            Hero copied = (Hero)cloneOf(hero);
+            copies.put(hero, copied);
+            copiedHeroes.add(copied);
+        }
+        MonsterArena copiedMonsters = new MonsterArena();
+        for(Monster monster : activeMonsters) {
+            Monster copied = (Monster)cloneOf(monster);
+            copies.put(monster, copied);
+            copiedMonsters.spawn(copied);
+        }
+        return new LegendList(catalog, copiedHeroes, copiedMonsters, new SpawnIndex(spawnIndex));
+    }
+
+    /**
+     * Helper function which clones the passed in Legend
+     * @param legend the Legend to clone
+     * @return the clone
+     */
+    private static Legend cloneOf(Legend legend) {
+        try {
+            return (Legend)legend.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Unable to clone " + legend.getName(), e); // Shouldn't happen
+        }
+    }
+
     /**
      * Player chooses a team of heroes.
      * Default max number of heroes: 3.
@@ -94,6 +196,23 @@ public class LegendList {
         return heroChosen;
     }
 
+    /**
+     * Helper function which looks up each of the passed in Heroes
+     * @param heroNames the names of the Heroes
+     * @return List of the Heroes with those names
+     */
+    private List<Hero> findHeroesByName(List<String> heroNames) {
+        List<Hero> heroChosen = new ArrayList<>();
+        for(String name : heroNames) {
+            Hero hero = findHeroByName(name);
+            if(hero == null) {
+                throw new IllegalArgumentException("Unknown Hero: " + name);
+            }
+            heroChosen.add(hero);
+        }
+        return heroChosen;
+    }
+
     /**
      * Equips the initially chosen Heroes with the cheapest Weapons
      */
@@ -110,66 +229,93 @@ public class LegendList {
     }
 
     /**
-     * "Spawns" new monsters, meaning that it demarcates a certain number
-     * of Monsters as being initially active.
+     * Spawns the initial Monsters, one per chosen Hero, lowest Level first, among the Monsters
+     * whose Level is no higher than the highest Level of the chosen Heroes.
      * @return List of Monsters initially active
      */
     public List<Monster> spawnNewMonsters() {
-        // Find the max level
-        getChosenHeroes().sort(new HigherLevelComparator());
-        Level max = getChosenHeroes().get(0).getLevel();
-
-        // Filter out Monsters that have a Level that is too high
-        Stream<Monster> monsterStream = getMonsters().stream()
-                .filter(monster -> monster.getLevel().isLessThanOrEqual(max));
-
-        List<Monster> output = monsterStream.collect(Collectors.toList());
-        activeMonsters.addAll(output.subList(0, getChosenHeroes().size()));
+        for(Monster monster : getCorrespondingMonsters()) {
+            activeMonsters.spawn(monster);
+            spawnIndex.recordSpawn(monster.getTemplate());
+        }
         return activeMonsters;
     }
 
     /**
-     *
+     * Returns the Monsters currently in play. Dead Monsters are taken out of play
+     * (see removeDeadMonster()), so this only ever holds the living Monsters.
      * @return the active Monsters currently in the game
      */
-    public List<Monster> getActiveMonsters() {
+    public MonsterArena getActiveMonsters() {
         return activeMonsters;
     }
 
     /**
-     * Adds a new monster to the active list
+     * Takes a dead Monster out of play, in O(1)
+     * @param monster the Monster that died
      */
-    public Monster spawnNewMonster() {
-        List<Monster> monsters = getMonsters();
+    public void removeDeadMonster(Monster monster) {
+        activeMonsters.remove(monster);
+    }
 
-        // First, identify all possible Monsters
-        List<Monster> possibleMonsters = new ArrayList<>();
-        for(Monster monster : monsters) {
-            if(!activeMonsters.contains(monster)) {
-                possibleMonsters.add(monster);
-            }
-        }
+    /**
+     * @return the number of Monsters spawned from each MonsterTemplate so far, in the
+     * order of getMonsterTemplates(). The array is a copy.
+     */
+    public int[] getSpawnCounts() {
+        return spawnIndex.getCounts();
+    }
 
-        // Now, choose one with the lowest level: note that we aren't sorting, so that
-        // we avoid concurrent modification exceptions with iterators - there are iterators
-        // outside this class that point to lists here.
-        // (I realize that this is not ideal. It would be better to have separate copies, and
-        // probably a separate class for tracking "active" Heroes and Monsters. However, that
-        // is a refactoring for some future time)
-        Monster spawned = null;
-        for(Monster monster : possibleMonsters) {
-            if(spawned == null) {
-                spawned = monster;
-            }
-            if(monster.getLevel().compareTo(spawned.getLevel()) < 0) {
-                spawned = monster;
-            }
+    /**
+     * Puts back the number of Monsters spawned from each MonsterTemplate
+     * @param counts counts previously returned by getSpawnCounts()
+     */
+    public void setSpawnCounts(int[] counts) {
+        spawnIndex.setCounts(counts);
+    }
+
+    /**
+     * @return the highest Level among the chosen Heroes
+     */
+    public int getMaxHeroLevel() {
+        return maxHeroLevel;
+    }
+
+    /**
+     * Finds the highest Level among the chosen Heroes again. Only needed when a Hero's Level
+     * is changed other than by leveling up, for example when a GameSnapshot is restored.
+     */
+    public void refreshMaxHeroLevel() {
+        maxHeroLevel = 0;
+        for(Hero hero : chosenHeroes) {
+            maxHeroLevel = Math.max(maxHeroLevel, hero.getLevel().getLevel());
         }
+    }
+
+    /**
+     * Keeps the highest Level of the chosen Heroes up to date as they level up
+     * @param hero the Hero that leveled up
+     */
+    @Override
+    public void leveledUp(Hero hero) {
+        maxHeroLevel = Math.max(maxHeroLevel, hero.getLevel().getLevel());
+    }
 
-        if(spawned != null) {
-            activeMonsters.add(spawned);
+    /**
+     * Spawns a new Monster and adds it to the active list. The template is the one spawned
+     * the fewest times so far, lowest Level first, so every Monster in the catalog appears
+     * before any appears twice.
+     * @return the spawned Monster, or null if there are no MonsterTemplates
+     */
+    public Monster spawnNewMonster() {
+        MonsterTemplate template = spawnIndex.peekNext();
+        if(template == null) {
+            return null;
         }
 
+        Monster spawned = template.spawn();
+        activeMonsters.spawn(spawned);
+        spawnIndex.recordSpawn(template);
         return spawned;
     }
 
@@ -187,20 +333,21 @@ public class LegendList {
      * @return a List of all Legends
      */
     public List<Legend> getLegends() {
-        return legends;
+        return catalog.getLegends();
+    }
+
+    /**
+     * @return the indexed catalog of every Legend, shared by every LegendList
+     */
+    public LegendCatalog getCatalog() {
+        return catalog;
     }
 
     /**
      * @return a List of every Hero
      */
     public List<Hero> getHeroes() {
-        List<Hero> heroes = new ArrayList<>();
-        for (Legend legend : legends) {
-            if (legend instanceof Hero) {
-                heroes.add((Hero) legend);
-            }
-        }
-        return heroes;
+        return catalog.getHeroes();
     }
 
     /**
@@ -211,20 +358,15 @@ public class LegendList {
     }
 
     /**
-     * @return a List of Monsters of equal size to chosen Heroes. Attempts to pick Monsters
-     * of lower level than the highest level of the chosen Heroes.
+     * @return a List of newly spawned Monsters of equal size to chosen Heroes. Picks Monsters
+     * at or below the highest level of the chosen Heroes, lowest level first.
      */
     public List<Monster> getCorrespondingMonsters() {
-        // Find the max level
-        getChosenHeroes().sort(new HigherLevelComparator());
-        Level max = getChosenHeroes().get(0).getLevel();
-
-        // Filter out Monsters that have a Level that is too high
-        Stream<Monster> monsterStream = getMonsters().stream()
-                .filter(monster -> monster.getLevel().isLessThanOrEqual(max));
-
-        List<Monster> output = monsterStream.collect(Collectors.toList());
-        return output.subList(0, getChosenHeroes().size());
+        List<Monster> output = new ArrayList<>();
+        for(MonsterTemplate template : spawnIndex.candidates(maxHeroLevel, getChosenHeroes().size())) {
+            output.add(template.spawn());
+        }
+        return output;
     }
 
     /**
@@ -234,23 +376,14 @@ public class LegendList {
      * @return Hero with the passed in name, or null if not found
      */
     public Hero findHeroByName(String name) {
-        return getHeroes().stream()
-                .filter(aHero -> aHero.getName().equals(name))
-                .findAny()
-                .orElse(null);
+        return catalog.findHero(name);
     }
 
     /**
-     * @return a List of every Monster.
+     * @return a List of every Monster in the catalog. These Monsters are never put in play.
      */
     public List<Monster> getMonsters() {
-        List<Monster> monsters = new ArrayList<>();
-        for (Legend legend : legends) {
-            if (legend instanceof Monster) {
-                monsters.add((Monster) legend);
-            }
-        }
-        return monsters;
+        return catalog.getMonsters();
     }
 
     /**
@@ -260,77 +393,33 @@ public class LegendList {
      * @return the Monster that has the passed in name, or null if not found
      */
     public Monster findMonsterByName(String name) {
-        return getMonsters().stream()
-                .filter(monster -> monster.getName().equals(name))
-                .findAny()
-                .orElse(null);
-    }
-
-    /**
-     * Private class which is responsible for reading Monsters and Heroes from disk.
-     */
-    private class ReadLegendsFromDisk {
-        private final File dragons;
-        private final File exoskeletons;
-        private final File spirits;
-        private final File paladins;
-        private final File sorcerers;
-        private final File warriors;
-
-        /**
-         * Standard constructor - will throw an error if the expected files don't exist
-         */
-        public ReadLegendsFromDisk() {
-            dragons = new File("data/dragons.txt");
-            exoskeletons = new File("data/exoskeletons.txt");
-            spirits = new File("data/spirits.txt");
-            paladins = new File("data/paladins.txt");
-            sorcerers = new File("data/sorcerers.txt");
-            warriors = new File("data/warriors.txt");
-
-            // Make sure that all the required files are in place!
-            assert dragons.exists();
-            assert exoskeletons.exists();
-            assert spirits.exists();
-            assert paladins.exists();
-            assert sorcerers.exists();
-            assert warriors.exists();
-        }
-
-        /**
-         * Reads each of the Hero and Monster files from disk, and adds the results to the Legends list.
-         */
-        public void run() throws IOException {
-            readHeroFile(paladins, "Paladins");
-            readHeroFile(sorcerers, "Sorcerers");
-            readHeroFile(warriors, "Warriors");
-            readMonsterFile(dragons, "Dragons");
-            readMonsterFile(exoskeletons, "Exoskeletons");
-            readMonsterFile(spirits, "Spirits");
-        }
+        return catalog.findMonster(name);
+    }
 
-        /**
-         * Reads a List of Heroes from the passed in file
-         *
-         * @param file the relevant Hero file
-         */
-        private void readHeroFile(File file, String heroType) throws IOException {
-            List<String> lines = Files.readAllLines(file.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for (String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                if (items.length <= 1) {
+    /**
+     * Reads a List of Heroes from the passed in file
+     *
+     * @param file the relevant Hero file
+     * @param heroType the type of Hero in the file: "Paladins", "Sorcerers" or "Warriors"
+     * @return the Heroes read
+     * @throws IOException if the file can't be read
+     */
+    public static List<Hero> readHeroFile(File file, String heroType) throws IOException {
+        List<Hero> heroes = new ArrayList<>();
+        try (CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while (reader.nextRecord()) {
+                String name = reader.nextString();
+                if (!reader.hasField()) {
                     continue; // skip empty line
                 }
 
-                String name = items[0];
-                Mana mana = new Mana(Integer.parseInt(items[1]));
-                Ability strength = new Ability(AbilityType.STRENGTH, Integer.parseInt(items[2]));
-                Ability agility = new Ability(AbilityType.AGILITY, Integer.parseInt(items[3]));
-                Ability dexterity = new Ability(AbilityType.DEXTERITY, Integer.parseInt(items[4]));
-                Coffer coffer = new Coffer(Integer.parseInt(items[5]));
-                int startingExperience = Integer.parseInt(items[6]);
+                Mana mana = new Mana(reader.nextInt());
+                Ability strength = new Ability(AbilityType.STRENGTH, reader.nextInt());
+                Ability agility = new Ability(AbilityType.AGILITY, reader.nextInt());
+                Ability dexterity = new Ability(AbilityType.DEXTERITY, reader.nextInt());
+                Coffer coffer = new Coffer(reader.nextInt());
+                int startingExperience = reader.nextInt();
                 Level level = new Level(1); // Heroes all start at level 1
 
                 // Both Monsters and Heroes start with hp = 100 * level
@@ -352,51 +441,37 @@ public class LegendList {
                         throw new IOException("Unknown hero file type");
                 }
                 hero.setStartingExperience(startingExperience);
-                legends.add(hero);
+                heroes.add(hero);
             }
         }
+        return heroes;
+    }
 
-        /**
-         * Reads a List of Monsters from the passed in file
-         *
-         * @param file the relevant Monster file
-         */
-        private void readMonsterFile(File file, String monsterType) throws IOException {
-            List<String> lines = Files.readAllLines(file.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for (String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                if (items.length <= 1) {
+    /**
+     * Reads the MonsterTemplates from the passed in file
+     *
+     * @param file the relevant Monster file
+     * @param monsterType the type of Monster in the file
+     * @return the MonsterTemplates read
+     * @throws IOException if the file can't be read
+     */
+    public static List<MonsterTemplate> readMonsterFile(File file, MonsterType monsterType) throws IOException {
+        List<MonsterTemplate> templates = new ArrayList<>();
+        try (CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while (reader.nextRecord()) {
+                String name = reader.nextString();
+                if (!reader.hasField()) {
                     continue; // No data on this line
                 }
 
-                String name = items[0];
-                Level level = new Level(Integer.parseInt(items[1]));
-                Ability strength = new Ability(AbilityType.STRENGTH, Integer.parseInt(items[2]));
-                Ability defense = new Ability(AbilityType.DEFENSE, Integer.parseInt(items[3]));
-                Ability agility = new Ability(AbilityType.AGILITY, Integer.parseInt(items[4]));
-
-                // Both Monsters and Heroes start with hp = 100 * level
-                HealthPower hp = new UncappedHealthPower(100 * level.getLevel());
-
-                // Create a hero, depending on file type
-                Monster monster;
-                switch (monsterType) {
-                    case "Dragons":
-                        monster = new Dragon(name, level, hp, strength, defense, agility);
-                        break;
-                    case "Exoskeletons":
-                        monster = new Exoskeleton(name, level, hp, strength, defense, agility);
-                        break;
-                    case "Spirits":
-                        monster = new Spirit(name, level, hp, strength, defense, agility);
-                        break;
-                    default:
-                        throw new IOException("Unknown Monster file type");
-                }
-                legends.add(monster);
+                int level = reader.nextInt();
+                int strength = reader.nextInt();
+                int defense = reader.nextInt();
+                int agility = reader.nextInt();
+                templates.add(new MonsterTemplate(monsterType, name, level, strength, defense, agility));
             }
         }
+        return templates;
     }
 }
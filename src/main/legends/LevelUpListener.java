@@ -0,0 +1,18 @@
+package main.legends;
+
+/**
+ * Interface LevelUpListener is notified whenever a Hero levels up, see Hero.setLevelUpListener()
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public interface LevelUpListener {
+    /**
+     * Called right after a Hero has leveled up
+     * @param hero the Hero that leveled up
+     */
+    void leveledUp(Hero hero);
+}
@@ -27,6 +27,7 @@ import java.text.DecimalFormat;
  */
 public abstract class Monster extends Legend {
     public static final String outputFormat = "%-4s%-21s%-15s%-8s%-8s%-8s";
+    private MonsterTemplate template; // null unless this Monster was spawned from a template
 
     /**
      * Standard constructor for a Monster
@@ -42,6 +43,21 @@ public abstract class Monster extends Legend {
         super(name, level, healthPower, strength, defense, agility);
     }
 
+    /**
+     * @return the template this Monster was spawned from, or null if it was built directly
+     */
+    public MonsterTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Records the template this Monster was spawned from, see MonsterTemplate.spawn()
+     * @param template the template
+     */
+    void setTemplate(MonsterTemplate template) {
+        this.template = template;
+    }
+
     /**
      * Calculates the amount of Damage this Legend would cause if it attacked.
      * Note: this is not just the Strength ability - a Legend may wield some
@@ -130,7 +146,8 @@ public abstract class Monster extends Legend {
      *
      * @param o Other object in consideration for equality
      * @return true if o is an instance of Monster, they share the same statistics, and the same
-     * Legend attributes.
+     * Legend attributes. Monsters spawned from a template are only equal to themselves, since
+     * several of them can be in play at once with the same statistics.
      */
     @Override
     public boolean equals(Object o) {
@@ -142,6 +159,10 @@ public abstract class Monster extends Legend {
             return false;
         }
 
+        if (this.template != null || ((Monster)o).template != null) {
+            return this == o;
+        }
+
         return super.equals(o);
     }
 }
@@ -0,0 +1,245 @@
+package main.legends;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Class MonsterArena holds the Monsters that are currently in play. The Monsters are kept
+ * densely packed in an array, so iterating over them costs only as much as there are
+ * Monsters alive, however many have been spawned over the course of a game.
+ *
+ * Each Monster also occupies a slot, and is identified by a handle: the index of its slot,
+ * tagged with the slot's generation. Removing a Monster frees its slot in O(1), by moving
+ * the last Monster into its place in the dense array, and bumps the slot's generation, so
+ * handles to the removed Monster are recognizably stale even after the slot is reused by
+ * a newly spawned Monster.
+ *
+ * MonsterArena is also a List of the Monsters in play, in no particular order, so the rest
+ * of the game can iterate over it as before. Monsters can only be appended to the List.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class MonsterArena extends AbstractList<Monster> implements RandomAccess {
+    public static final long noHandle = -1;
+    private Monster[] dense;
+    private int[] denseSlots; // per dense index, the slot of the Monster there
+    private int[] slotIndices; // per slot, the dense index of its Monster, or -1 if free
+    private int[] generations; // per slot
+    private int[] freeSlots;
+    private int numFree;
+    private int numSlots;
+    private int size;
+    private final Map<Monster,Integer> slots;
+
+    /**
+     * Standard constructor, for an empty arena
+     */
+    public MonsterArena() {
+        this.dense = new Monster[16];
+        this.denseSlots = new int[16];
+        this.slotIndices = new int[16];
+        this.generations = new int[16];
+        this.freeSlots = new int[16];
+        this.numFree = 0;
+        this.numSlots = 0;
+        this.size = 0;
+        this.slots = new IdentityHashMap<>();
+    }
+
+    /**
+     * Puts the passed in Monster in play, reusing a free slot if there is one
+     * @param monster the Monster to add
+     * @return the handle of the Monster, or its existing handle if it is already in play
+     */
+    public long spawn(Monster monster) {
+        Integer existing = slots.get(monster);
+        if(existing != null) {
+            return handle(existing);
+        }
+
+        int slot;
+        if(numFree > 0) {
+            slot = freeSlots[--numFree];
+        } else {
+            if(numSlots == slotIndices.length) {
+                slotIndices = Arrays.copyOf(slotIndices, numSlots * 2);
+                generations = Arrays.copyOf(generations, numSlots * 2);
+            }
+            slot = numSlots++;
+        }
+        if(size == dense.length) {
+            dense = Arrays.copyOf(dense, size * 2);
+            denseSlots = Arrays.copyOf(denseSlots, size * 2);
+        }
+        dense[size] = monster;
+        denseSlots[size] = slot;
+        slotIndices[slot] = size;
+        size++;
+        slots.put(monster, slot);
+        modCount++;
+        return handle(slot);
+    }
+
+    /**
+     * Takes the Monster with the passed in handle out of play
+     * @param handle the handle of the Monster
+     * @return true if the Monster was removed, false if the handle was stale
+     */
+    public boolean release(long handle) {
+        Monster monster = resolve(handle);
+        if(monster == null) {
+            return false;
+        }
+        return remove(monster);
+    }
+
+    /**
+     * @param handle a handle returned by spawn()
+     * @return the Monster with the handle, or null if it has been removed since
+     */
+    public Monster resolve(long handle) {
+        if(handle < 0) {
+            return null;
+        }
+        int slot = (int)handle;
+        int generation = (int)(handle >>> 32);
+        if(slot >= numSlots || generations[slot] != generation || slotIndices[slot] < 0) {
+            return null;
+        }
+        return dense[slotIndices[slot]];
+    }
+
+    /**
+     * @param handle a handle returned by spawn()
+     * @return true if the Monster with the handle is still in play, false otherwise
+     */
+    public boolean isLive(long handle) {
+        return resolve(handle) != null;
+    }
+
+    /**
+     * @param monster the Monster in question
+     * @return the handle of the Monster, or noHandle if it is not in play
+     */
+    public long handleOf(Monster monster) {
+        Integer slot = slots.get(monster);
+        return slot == null ? noHandle : handle(slot);
+    }
+
+    /**
+     * @return the number of slots allocated, that is, the most Monsters ever in play at once
+     */
+    public int capacity() {
+        return numSlots;
+    }
+
+    /**
+     * @param index the dense index of a Monster, less than size()
+     * @return the Monster at the index
+     */
+    @Override
+    public Monster get(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No Monster at index " + index + "!");
+        }
+        return dense[index];
+    }
+
+    /**
+     * @return the number of Monsters in play
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a Monster, see spawn(). Monsters can only be appended.
+     * @param index must be size()
+     * @param monster the Monster to add
+     */
+    @Override
+    public void add(int index, Monster monster) {
+        if(index != size) {
+            throw new UnsupportedOperationException("Monsters can only be appended!");
+        }
+        spawn(monster);
+    }
+
+    /**
+     * Takes a Monster out of play in O(1). The last Monster takes its place.
+     * @param o the Monster to remove
+     * @return true if the Monster was in play, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        Integer slot = slots.remove(o);
+        if(slot == null) {
+            return false;
+        }
+        int index = slotIndices[slot];
+        int last = size - 1;
+        if(index != last) {
+            dense[index] = dense[last];
+            denseSlots[index] = denseSlots[last];
+            slotIndices[denseSlots[index]] = index;
+        }
+        dense[last] = null;
+        size--;
+
+        slotIndices[slot] = -1;
+        generations[slot]++;
+        if(numFree == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, numFree * 2);
+        }
+        freeSlots[numFree++] = slot;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * @param index the dense index of the Monster to remove
+     * @return the removed Monster
+     */
+    @Override
+    public Monster remove(int index) {
+        Monster monster = get(index);
+        remove(monster);
+        return monster;
+    }
+
+    /**
+     * @param o the Monster in question
+     * @return true if the Monster is in play, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        return slots.containsKey(o);
+    }
+
+    /**
+     * Takes every Monster out of play. Every slot is freed, so existing handles become stale.
+     */
+    @Override
+    public void clear() {
+        while(size > 0) {
+            remove(dense[size - 1]);
+        }
+    }
+
+    /**
+     * Helper function which builds the handle of the Monster in the passed in slot
+     * @param slot the slot in question
+     * @return the handle
+     */
+    private long handle(int slot) {
+        return ((long)generations[slot] << 32) | slot;
+    }
+}
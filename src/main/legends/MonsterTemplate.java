@@ -0,0 +1,127 @@
+package main.legends;
+
+import main.attributes.Ability;
+import main.attributes.AbilityType;
+import main.attributes.Level;
+import main.attributes.UncappedHealthPower;
+
+/**
+ * Class MonsterTemplate describes a Monster as it is read from disk: its type, name, Level,
+ * and starting Abilities. A template never changes, so a single template can be shared by
+ * every game, on every thread.
+ *
+ * Monsters are never put in play directly from the catalog. Instead, spawn() creates a new
+ * Monster from the template, which holds only what changes as the game is played (its
+ * HealthPower and Abilities) and refers back to the template for the rest. Any number of
+ * Monsters can be spawned from the same template, at the same time.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public final class MonsterTemplate {
+    private final MonsterType type;
+    private final String name;
+    private final int level;
+    private final double strength;
+    private final double defense;
+    private final double agility;
+
+    /**
+     * Standard constructor
+     * @param type the type of Monster
+     * @param name the name of the Monster
+     * @param level the Level of the Monster
+     * @param strength the Strength of the Monster
+     * @param defense the Defense of the Monster
+     * @param agility the Agility of the Monster
+     */
+    public MonsterTemplate(MonsterType type, String name, int level, double strength, double defense, double agility) {
+        this.type = type;
+        this.name = name;
+        this.level = level;
+        this.strength = strength;
+        this.defense = defense;
+        this.agility = agility;
+    }
+
+    /**
+     * Creates a new Monster from this template, at full HealthPower
+     * @return the spawned Monster
+     */
+    public Monster spawn() {
+        Level monsterLevel = new Level(level);
+        // Both Monsters and Heroes start with hp = 100 * level
+        UncappedHealthPower hp = new UncappedHealthPower(100 * level);
+        Ability monsterStrength = new Ability(AbilityType.STRENGTH, strength);
+        Ability monsterDefense = new Ability(AbilityType.DEFENSE, defense);
+        Ability monsterAgility = new Ability(AbilityType.AGILITY, agility);
+
+        Monster monster;
+        switch (type) {
+            case DRAGON:
+                monster = new Dragon(name, monsterLevel, hp, monsterStrength, monsterDefense, monsterAgility);
+                break;
+            case EXOSKELETON:
+                monster = new Exoskeleton(name, monsterLevel, hp, monsterStrength, monsterDefense, monsterAgility);
+                break;
+            default:
+                monster = new Spirit(name, monsterLevel, hp, monsterStrength, monsterDefense, monsterAgility);
+                break;
+        }
+        monster.setTemplate(this);
+        return monster;
+    }
+
+    /**
+     * @return the type of Monster
+     */
+    public MonsterType getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the Monster
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the Level of the Monster
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the starting Strength of the Monster
+     */
+    public double getStrength() {
+        return strength;
+    }
+
+    /**
+     * @return the starting Defense of the Monster
+     */
+    public double getDefense() {
+        return defense;
+    }
+
+    /**
+     * @return the starting Agility of the Monster
+     */
+    public double getAgility() {
+        return agility;
+    }
+
+    /**
+     * @return String representation of this MonsterTemplate
+     */
+    @Override
+    public String toString() {
+        return "MonsterTemplate: " + name + ", " + type + ", Level " + level;
+    }
+}
@@ -0,0 +1,16 @@
+package main.legends;
+
+/**
+ * Enum MonsterType lists the kinds of Monster, one per Monster data file.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum MonsterType {
+    DRAGON,
+    EXOSKELETON,
+    SPIRIT
+}
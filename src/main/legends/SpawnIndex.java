@@ -0,0 +1,231 @@
+package main.legends;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class SpawnIndex decides which MonsterTemplates to spawn Monsters from.
+ *
+ * The templates are sorted once by Level (ties keep the catalog order), so the templates at
+ * or below some Level are a prefix of the sorted array, found by binary search: picking N
+ * candidates is O(log n + N), without looking at the rest of the catalog.
+ *
+ * The index also counts how many Monsters have been spawned from each template, and keeps
+ * the templates in a binary heap ordered by that count, then by Level. The next template to
+ * spawn from is the top of the heap, and recording a spawn is O(log n), however many waves
+ * of Monsters have been spawned already.
+ *
+ * The sorted arrays never change, and are shared by copies of an index; the counts are not.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class SpawnIndex {
+    private final MonsterTemplate[] templates; // in catalog order
+    private final int[] byLevel; // template indices, sorted by Level
+    private final int[] sortedLevels; // parallel to byLevel
+    private final int[] ranks; // per template, its position in byLevel
+    private final Map<MonsterTemplate,Integer> indices;
+
+    private final int[] counts; // per template
+    private final int[] heap; // template indices
+    private final int[] heapIndices; // per template, its position in heap
+
+    /**
+     * Standard constructor, for an index in which nothing has been spawned yet
+     * @param catalog the MonsterTemplates, in catalog order
+     */
+    public SpawnIndex(List<MonsterTemplate> catalog) {
+        int n = catalog.size();
+        templates = catalog.toArray(new MonsterTemplate[0]);
+        indices = new IdentityHashMap<>();
+        Integer[] sorted = new Integer[n];
+        for(int i = 0; i < n; i++) {
+            indices.put(templates[i], i);
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (a, b) -> Integer.compare(templates[a].getLevel(), templates[b].getLevel())); // stable
+
+        byLevel = new int[n];
+        sortedLevels = new int[n];
+        ranks = new int[n];
+        for(int r = 0; r < n; r++) {
+            byLevel[r] = sorted[r];
+            sortedLevels[r] = templates[sorted[r]].getLevel();
+            ranks[sorted[r]] = r;
+        }
+
+        counts = new int[n];
+        heap = new int[n];
+        heapIndices = new int[n];
+        rebuildHeap();
+    }
+
+    /**
+     * Copy constructor: the copy shares the sorted arrays, and has its own counts
+     * @param other the index to copy
+     */
+    public SpawnIndex(SpawnIndex other) {
+        templates = other.templates;
+        byLevel = other.byLevel;
+        sortedLevels = other.sortedLevels;
+        ranks = other.ranks;
+        indices = other.indices;
+        counts = other.counts.clone();
+        heap = other.heap.clone();
+        heapIndices = other.heapIndices.clone();
+    }
+
+    /**
+     * @param level the Level in question
+     * @return the number of templates whose Level is at or below the passed in Level
+     */
+    public int countAtOrBelow(int level) {
+        // Binary search for the first template above the Level
+        int low = 0;
+        int high = sortedLevels.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(sortedLevels[mid] <= level) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Picks up to n templates whose Level is at or below the passed in Level, lowest Level
+     * first, in O(log n + N)
+     * @param level the highest Level allowed
+     * @param n the number of templates wanted
+     * @return the templates, fewer than n if there aren't enough at or below the Level
+     */
+    public List<MonsterTemplate> candidates(int level, int n) {
+        int count = Math.min(n, countAtOrBelow(level));
+        List<MonsterTemplate> output = new ArrayList<>(count);
+        for(int r = 0; r < count; r++) {
+            output.add(templates[byLevel[r]]);
+        }
+        return output;
+    }
+
+    /**
+     * @return the template to spawn the next Monster from: the one spawned the fewest times so
+     * far, lowest Level first, or null if there are no templates
+     */
+    public MonsterTemplate peekNext() {
+        return heap.length == 0 ? null : templates[heap[0]];
+    }
+
+    /**
+     * Records that a Monster was spawned from the passed in template, in O(log n)
+     * @param template the template in question
+     */
+    public void recordSpawn(MonsterTemplate template) {
+        int index = indexOf(template);
+        counts[index]++;
+        siftDown(heapIndices[index]); // its count only went up
+    }
+
+    /**
+     * @param template the template in question
+     * @return the number of Monsters spawned from the template
+     */
+    public int getCount(MonsterTemplate template) {
+        return counts[indexOf(template)];
+    }
+
+    /**
+     * @return the number of Monsters spawned from each template, in catalog order. The array is a copy.
+     */
+    public int[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Puts back the number of Monsters spawned from each template
+     * @param newCounts counts previously returned by getCounts()
+     */
+    public void setCounts(int[] newCounts) {
+        System.arraycopy(newCounts, 0, counts, 0, counts.length);
+        rebuildHeap();
+    }
+
+    /**
+     * @return the number of templates in this index
+     */
+    public int size() {
+        return templates.length;
+    }
+
+    /**
+     * Helper function which finds the catalog index of a template
+     * @param template the template in question
+     * @return the index of the template
+     */
+    private int indexOf(MonsterTemplate template) {
+        Integer index = indices.get(template);
+        if(index == null) {
+            throw new IllegalArgumentException("Unknown MonsterTemplate: " + template);
+        }
+        return index;
+    }
+
+    /**
+     * Helper function which puts every template back in heap order, in O(n)
+     */
+    private void rebuildHeap() {
+        for(int r = 0; r < byLevel.length; r++) {
+            heap[r] = byLevel[r];
+            heapIndices[byLevel[r]] = r;
+        }
+        for(int i = heap.length / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * @param a the index of a template
+     * @param b the index of another template
+     * @return true if a should be spawned from before b, false otherwise
+     */
+    private boolean before(int a, int b) {
+        if(counts[a] != counts[b]) {
+            return counts[a] < counts[b];
+        }
+        return ranks[a] < ranks[b];
+    }
+
+    /**
+     * Helper function which moves the template at the passed in heap position down to its place
+     * @param position the position in the heap
+     */
+    private void siftDown(int position) {
+        int template = heap[position];
+        while(true) {
+            int child = 2 * position + 1;
+            if(child >= heap.length) {
+                break;
+            }
+            if(child + 1 < heap.length && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if(!before(heap[child], template)) {
+                break;
+            }
+            heap[position] = heap[child];
+            heapIndices[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = template;
+        heapIndices[template] = position;
+    }
+}
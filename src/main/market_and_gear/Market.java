@@ -45,14 +45,21 @@ public class Market {
     private final Coffer coffer;
 
     /**
-     * The only constructor available for a Market. We structure this class in
+     * The default constructor for a Market. We structure this class in
      * this fashion to control which GearItems are initially available to the
      * Market (see notes above). Additionally, we also want to guarantee that
      * the Market has a Coffer with enough money to allow Heroes to sell their
      * GearItems back to a Market.
      */
     public Market() {
-        GearItemFactoryCreator factory = new RandomGearItemFactory();
+        this(new RandomGearItemFactory());
+    }
+
+    /**
+     * Constructs a Market whose initially available GearItems are created by the passed in factory.
+     * @param factory GearItemFactoryCreator, responsible for creating the relevant GearItems.
+     */
+    public Market(GearItemFactoryCreator factory) {
         gearItems = factory.createGearItems();
         int numCoins = GearItem.mostExpensiveGearItem * Market.startingCofferMultiplier; // Markets should have plenty of coins for this Game.
         coffer = new Coffer(numCoins);
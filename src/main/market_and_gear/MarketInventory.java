@@ -1,13 +1,14 @@
 package main.market_and_gear;
 
+import main.GameCatalog;
 import main.attributes.Ability;
 import main.attributes.AbilityType;
 import main.attributes.Level;
 import main.attributes.Mana;
+import main.utils.CatalogReader;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +26,11 @@ import java.util.stream.Stream;
  * calls the getInstance method of this class, the instance will have been
  * previously created, and so data will not be read in from disk again.
  *
+ * The MarketInventory is never modified once read, so a single instance is
+ * shared by every game in the process (see GameContext). The GearItems come from the
+ * GameCatalog, which reads every data file at once; the static methods below read
+ * one file of GearItems each.
+ *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
  * Creation Date: 11/3/20
@@ -39,7 +45,7 @@ public class MarketInventory {
      *
      * @return Singleton instance of the MarketInventory class.
      */
-    public static MarketInventory getInstance() {
+    public static synchronized MarketInventory getInstance() {
         if(instance == null) {
             instance = new MarketInventory();
         }
@@ -51,13 +57,7 @@ public class MarketInventory {
      * all GearItems.
      */
     private MarketInventory() {
-        gearItems = new ArrayList<>();
-        try {
-            new ReadDataFromDisk().run();
-        } catch (IOException e) {
-            e.printStackTrace();
-            // Shouldn't happen. Note that if the input files are missing, this won't catch that.
-        }
+        gearItems = GameCatalog.getInstance().getGearItems();
     }
 
     /**
@@ -137,179 +137,160 @@ public class MarketInventory {
     }
 
     /**
-     * This is a private which encapsulates the process of reading all data from disk.
+     * Reads in weaponry
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
      */
-    private class ReadDataFromDisk {
-        File weaponry;
-        File armory;
-        File potions;
-        File iceSpells;
-        File fireSpells;
-        File lightningSpells;
-
-        /**
-         * Constructor. Checks that the required files all exist.
-         */
-        public ReadDataFromDisk() {
-            weaponry = new File("data/Weaponry.txt");
-            armory = new File("data/Armory.txt");
-            potions = new File("data/Potions.txt");
-            iceSpells = new File("data/IceSpells.txt");
-            fireSpells = new File("data/FireSpells.txt");
-            lightningSpells = new File("data/LightningSpells.txt");
-
-            // We need these files to operate
-            assert(weaponry.exists());
-            assert(armory.exists());
-            assert(potions.exists());
-            assert(iceSpells.exists());
-            assert(fireSpells.exists());
-            assert(lightningSpells.exists());
-        }
-
-        /**
-         * Primary method of this class which coordinates the process of reading in
-         * data files from disk.
-         * @throws IOException if a read operation fails.
-         */
-        public void run() throws IOException {
-            readWeaponry();
-            readArmory();
-            readPotions();
-            readIceSpells();
-            readFireSpells();
-            readLightningSpells();
-        }
-
-        /**
-         * Helper function which reads in weaponry
-         */
-        private void readWeaponry() throws IOException {
-            List<String> lines = Files.readAllLines(weaponry.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double damage = Integer.parseInt(items[3]);
-                int numHands = Integer.parseInt(items[4]);
+    public static List<GearItem> readWeaponry(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double damage = reader.nextInt();
+                int numHands = reader.nextInt();
                 GearItem weapon = new Weapon(name, price, new Level(minLevel), damage, numHands);
                 gearItems.add(weapon);
             }
         }
+        return gearItems;
+    }
 
-        /**
-         * Helper function which reads in armory
-         */
-        private void readArmory() throws IOException {
-            List<String> lines = Files.readAllLines(armory.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double defense = Integer.parseInt(items[3]);
+    /**
+     * Reads in armory
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
+     */
+    public static List<GearItem> readArmory(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double defense = reader.nextInt();
 
                 GearItem armor = new Armor(name, price, new Level(minLevel), defense);
                 gearItems.add(armor);
             }
         }
+        return gearItems;
+    }
 
-        /**
-         * Helper function which reads in potions
-         */
-        private void readPotions() throws IOException {
-            List<String> lines = Files.readAllLines(potions.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double incrementAmount = Integer.parseInt(items[3]);
+    /**
+     * Reads in potions
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
+     */
+    public static List<GearItem> readPotions(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        AbilityType[] types = AbilityType.values();
+        String[] typeNames = new String[types.length];
+        for(int i = 0; i < types.length; i++) {
+            typeNames[i] = types[i].getName();
+        }
+
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double incrementAmount = reader.nextInt();
                 // Abilities: this part is trickier, as there may be a single ability,
                 // multiple abilities, or a format "All ability/ability/...", where
                 // there is an extra space!
                 List<Ability> abilities = new ArrayList<>();
-                String relevantAbilities = items[4];
-                if(items[4].equals("All")) {
-                    relevantAbilities = items[5];
-                }
-                String[] abilityStrings = relevantAbilities.split("/");
-                for(String abilityName : abilityStrings) {
-                    AbilityType type = AbilityType.fromStringName(abilityName);
+                reader.skipIf("All");
+                do {
+                    int index = reader.nextPart(typeNames);
+                    AbilityType type = index < 0 ? AbilityType.ABILITY : types[index]; // see AbilityType.fromStringName()
                     Ability ability = new Ability(type, 0);
                     abilities.add(ability);
-                }
+                } while(reader.hasMoreParts());
 
                 GearItem potion = new Potion(name, price, new Level(minLevel), abilities, incrementAmount);
                 gearItems.add(potion);
             }
         }
+        return gearItems;
+    }
 
-        /**
-         * Helper function which reads in ice spells
-         */
-        private void readIceSpells() throws IOException {
-            List<String> lines = Files.readAllLines(iceSpells.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double damage = Integer.parseInt(items[3]);
-                double mana = Integer.parseInt(items[4]);
+    /**
+     * Reads in ice spells
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
+     */
+    public static List<GearItem> readIceSpells(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double damage = reader.nextInt();
+                double mana = reader.nextInt();
 
                 GearItem spell = new IceSpell(name, price, new Level(minLevel), new Mana(mana), damage);
                 gearItems.add(spell);
             }
         }
+        return gearItems;
+    }
 
-        /**
-         * Helper function which reads in fire spells
-         */
-        private void readFireSpells() throws IOException {
-            List<String> lines = Files.readAllLines(fireSpells.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double damage = Integer.parseInt(items[3]);
-                double mana = Integer.parseInt(items[4]);
+    /**
+     * Reads in fire spells
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
+     */
+    public static List<GearItem> readFireSpells(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double damage = reader.nextInt();
+                double mana = reader.nextInt();
 
                 GearItem spell = new FireSpell(name, price, new Level(minLevel), new Mana(mana), damage);
                 gearItems.add(spell);
             }
         }
+        return gearItems;
+    }
 
-        /**
-         * Helper function which reads in lightning spells
-         */
-        private void readLightningSpells() throws IOException {
-            List<String> lines = Files.readAllLines(lightningSpells.toPath());
-            List<String> relevantLines = lines.subList(1, lines.size()); // Ignore header line
-            for(String line : relevantLines) {
-                line = line.trim();
-                String[] items = line.split("\\s+"); // split by whitespace
-                String name = items[0];
-                int price = Integer.parseInt(items[1]);
-                int minLevel = Integer.parseInt(items[2]);
-                double damage = Integer.parseInt(items[3]);
-                double mana = Integer.parseInt(items[4]);
+    /**
+     * Reads in lightning spells
+     * @param file the data file to read
+     * @return the GearItems read
+     * @throws IOException if the file can't be read
+     */
+    public static List<GearItem> readLightningSpells(File file) throws IOException {
+        List<GearItem> gearItems = new ArrayList<>();
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine(); // Ignore header line
+            while(reader.nextRecord()) {
+                String name = reader.nextString();
+                int price = reader.nextInt();
+                int minLevel = reader.nextInt();
+                double damage = reader.nextInt();
+                double mana = reader.nextInt();
 
                 GearItem spell = new LightningSpell(name, price, new Level(minLevel), new Mana(mana), damage);
                 gearItems.add(spell);
             }
         }
+        return gearItems;
     }
 }
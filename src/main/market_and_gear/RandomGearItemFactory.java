@@ -1,9 +1,9 @@
 package main.market_and_gear;
 
+import main.utils.RandomSource;
+
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Class RandomGearItemFactory is a Factory class which produces GearItems.
@@ -26,14 +26,31 @@ import java.util.Random;
  */
 public class RandomGearItemFactory implements GearItemFactoryCreator {
     private final MarketInventory inventory;
-    private final Random random;
+    private final RandomSource random;
 
     /**
      * Constructs a RandomGearItemFactory, and initializes its private state.
      */
     public RandomGearItemFactory() {
-        inventory = MarketInventory.getInstance();
-        random = new Random();
+        this(RandomSource.getDefault());
+    }
+
+    /**
+     * Constructs a RandomGearItemFactory which selects GearItems with the passed in RandomSource.
+     * @param random source of randomness for selecting GearItems
+     */
+    public RandomGearItemFactory(RandomSource random) {
+        this(MarketInventory.getInstance(), random);
+    }
+
+    /**
+     * Constructs a RandomGearItemFactory which selects GearItems out of the passed in MarketInventory.
+     * @param inventory the catalog of every GearItem
+     * @param random source of randomness for selecting GearItems
+     */
+    public RandomGearItemFactory(MarketInventory inventory, RandomSource random) {
+        this.inventory = inventory;
+        this.random = random;
     }
 
     /**
@@ -96,7 +113,7 @@ public class RandomGearItemFactory implements GearItemFactoryCreator {
         if (numSelected >= output.size()) {
             return output;
         } else {
-            Collections.shuffle(output);
+            random.shuffle(output);
             return output.subList(0, numSelected);
         }
     }
@@ -0,0 +1,350 @@
+package main.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Class CatalogReader reads the data files (data/*.txt) one field at a time. Each line of
+ * a data file is a record, made of fields separated by spaces or tabs.
+ *
+ * The file is streamed through a buffer, and numbers are parsed straight from its bytes:
+ * nothing is allocated per line, and the only Strings created are the ones asked for with
+ * nextString(), typically the names of Legends and GearItems. A field can also be made of
+ * several parts separated by slashes, such as "Health/Mana", which nextPart() matches
+ * against a set of choices without creating any Strings either.
+ *
+ * Typical use:
+ * <pre>
+ *     reader.skipLine(); // header
+ *     while(reader.nextRecord()) {
+ *         String name = reader.nextString();
+ *         int price = reader.nextInt();
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class CatalogReader implements Closeable {
+    private static final int bufferSize = 1 << 16;
+
+    private final String fileName;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes; // backs buffer
+    private int pos;
+    private int limit;
+    private byte[] scratch; // the bytes of the String being read
+    private boolean inRecord;
+    private boolean moreParts;
+    private int lineNumber;
+
+    /**
+     * Standard constructor, which opens the passed in file
+     * @param file the data file to read
+     * @throws IOException if the file can't be opened
+     */
+    public CatalogReader(File file) throws IOException {
+        this.fileName = file.getPath();
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.bytes = buffer.array();
+        this.pos = 0;
+        this.limit = 0;
+        this.scratch = new byte[64];
+        this.inRecord = false;
+        this.moreParts = false;
+        this.lineNumber = 1;
+    }
+
+    /**
+     * Skips the rest of the current line, for example a header line
+     * @throws IOException if the file can't be read
+     */
+    public void skipLine() throws IOException {
+        int c;
+        while((c = peek()) != -1) {
+            pos++;
+            if(c == '\n') {
+                lineNumber++;
+                break;
+            }
+        }
+        inRecord = false;
+        moreParts = false;
+    }
+
+    /**
+     * Moves on to the next record, skipping whatever is left of the current one, and any
+     * blank lines
+     * @return true if there is another record, false at the end of the file
+     * @throws IOException if the file can't be read
+     */
+    public boolean nextRecord() throws IOException {
+        if(inRecord) {
+            skipLine();
+        }
+        while(true) {
+            skipSpaces();
+            int c = peek();
+            if(c == -1) {
+                return false;
+            }
+            if(c != '\n') {
+                inRecord = true;
+                return true;
+            }
+            skipLine();
+        }
+    }
+
+    /**
+     * @return true if the current record has another field, false otherwise
+     * @throws IOException if the file can't be read
+     */
+    public boolean hasField() throws IOException {
+        skipSpaces();
+        int c = peek();
+        return c != -1 && c != '\n';
+    }
+
+    /**
+     * Reads the next field as a String
+     * @return the field
+     * @throws IOException if the file can't be read, or there is no field left in the record
+     */
+    public String nextString() throws IOException {
+        skipSpaces();
+        int length = 0;
+        int c;
+        while((c = peek()) != -1 && !isDelimiter(c)) {
+            append(length++, c);
+        }
+        if(length == 0) {
+            throw new IOException(where() + "expected a field");
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next field as an int, straight from the file's bytes
+     * @return the field
+     * @throws IOException if the file can't be read
+     * @throws NumberFormatException if the field is not an int
+     */
+    public int nextInt() throws IOException {
+        skipSpaces();
+        boolean negative = false;
+        if(peek() == '-') {
+            negative = true;
+            pos++;
+        }
+        long value = 0;
+        int digits = 0;
+        int c;
+        while((c = peek()) >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if(value > (long)Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException(where() + "number out of range");
+            }
+            digits++;
+            pos++;
+        }
+        if(digits == 0 || (c != -1 && !isDelimiter(c))) {
+            throw new NumberFormatException(where() + "expected a number");
+        }
+        value = negative ? -value : value;
+        if(value > Integer.MAX_VALUE) {
+            throw new NumberFormatException(where() + "number out of range");
+        }
+        return (int)value;
+    }
+
+    /**
+     * Skips the next field if it is exactly the passed in word, such as the "All" in front
+     * of the Abilities of some Potions
+     * @param word the word in question
+     * @return true if the field was the word and was skipped, false if it was left alone
+     * @throws IOException if the file can't be read
+     */
+    public boolean skipIf(String word) throws IOException {
+        skipSpaces();
+        int length = word.length();
+        ensure(length + 1);
+        if(limit - pos < length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if((bytes[pos + i] & 0xff) != word.charAt(i)) {
+                return false;
+            }
+        }
+        if(pos + length < limit && !isDelimiter(bytes[pos + length] & 0xff)) {
+            return false; // the field only starts with the word
+        }
+        pos += length;
+        return true;
+    }
+
+    /**
+     * Reads the next part of a field whose parts are separated by slashes, and finds which of
+     * the passed in choices it is, ignoring case. See hasMoreParts().
+     * @param choices the possible parts
+     * @return the index of the matching choice, or -1 if none match
+     * @throws IOException if the file can't be read
+     */
+    public int nextPart(String[] choices) throws IOException {
+        if(!moreParts) {
+            skipSpaces();
+        }
+        int length = 0;
+        int c;
+        while((c = peek()) != -1 && c != '/' && !isDelimiter(c)) {
+            append(length++, c);
+        }
+        moreParts = c == '/';
+        if(moreParts) {
+            pos++;
+        }
+        if(length == 0 && !moreParts) {
+            throw new IOException(where() + "expected a field");
+        }
+
+        for(int i = 0; i < choices.length; i++) {
+            if(partEquals(choices[i], length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return true if the last call to nextPart() stopped at a slash, so the field has more parts
+     */
+    public boolean hasMoreParts() {
+        return moreParts;
+    }
+
+    /**
+     * @return the number of the line being read, starting at 1
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Closes the file
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Helper function which consumes a byte and puts it in scratch, growing scratch if necessary
+     * @param index where to put the byte in scratch
+     * @param c the byte
+     */
+    private void append(int index, int c) {
+        if(index == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[index] = (byte)c;
+        pos++;
+    }
+
+    /**
+     * Helper function which compares the part just read with one of the choices, ignoring case
+     * @param choice the choice in question
+     * @param length the length of the part, in scratch
+     * @return true if they are the same, false otherwise
+     */
+    private boolean partEquals(String choice, int length) {
+        if(choice.length() != length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if(Character.toLowerCase((char)(scratch[i] & 0xff)) != Character.toLowerCase(choice.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Helper function which skips spaces and tabs (and carriage returns), but not newlines
+     * @throws IOException if the file can't be read
+     */
+    private void skipSpaces() throws IOException {
+        int c;
+        while((c = peek()) == ' ' || c == '\t' || c == '\r') {
+            pos++;
+        }
+    }
+
+    /**
+     * @param c a byte of the file
+     * @return true if the byte ends a field, false otherwise
+     */
+    private static boolean isDelimiter(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    /**
+     * Helper function which returns the next byte of the file, without consuming it
+     * @return the byte, or -1 at the end of the file
+     * @throws IOException if the file can't be read
+     */
+    private int peek() throws IOException {
+        if(pos == limit) {
+            ensure(1);
+            if(pos == limit) {
+                return -1;
+            }
+        }
+        return bytes[pos] & 0xff;
+    }
+
+    /**
+     * Helper function which reads more of the file until at least n bytes are buffered,
+     * or the end of the file is reached
+     * @param n the number of bytes wanted, at most the size of the buffer
+     * @throws IOException if the file can't be read
+     */
+    private void ensure(int n) throws IOException {
+        if(limit - pos >= n) {
+            return;
+        }
+        // Move what's left to the front of the buffer, then fill up the rest
+        System.arraycopy(bytes, pos, bytes, 0, limit - pos);
+        limit -= pos;
+        pos = 0;
+        buffer.clear();
+        buffer.position(limit);
+        while(limit < n) {
+            int read = channel.read(buffer);
+            if(read < 0) {
+                break;
+            }
+            limit += read;
+        }
+    }
+
+    /**
+     * @return the start of an error message, saying where in the file the error is
+     */
+    private String where() {
+        return fileName + ", line " + lineNumber + ": ";
+    }
+}
@@ -0,0 +1,64 @@
+package main.utils;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Class DiscardingPrintStream is a PrintStream that throws away everything printed to it.
+ * Output.out() returns one of these on a quiet thread, such as the threads playing games
+ * without anyone watching (see BatchSimulator).
+ *
+ * A regular PrintStream locks on every call, even when writing nowhere, which makes
+ * threads printing at the same time wait for each other. Every printing method is
+ * overridden here to return immediately instead.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class DiscardingPrintStream extends PrintStream {
+    /**
+     * Standard constructor
+     */
+    public DiscardingPrintStream() {
+        super(new OutputStream() {
+            @Override
+            public void write(int b) {
+                // discard
+            }
+        });
+    }
+
+    @Override public void write(int b) { }
+    @Override public void write(byte[] buf, int off, int len) { }
+    @Override public void flush() { }
+    @Override public void print(boolean b) { }
+    @Override public void print(char c) { }
+    @Override public void print(int i) { }
+    @Override public void print(long l) { }
+    @Override public void print(float f) { }
+    @Override public void print(double d) { }
+    @Override public void print(char[] s) { }
+    @Override public void print(String s) { }
+    @Override public void print(Object obj) { }
+    @Override public void println() { }
+    @Override public void println(boolean x) { }
+    @Override public void println(char x) { }
+    @Override public void println(int x) { }
+    @Override public void println(long x) { }
+    @Override public void println(float x) { }
+    @Override public void println(double x) { }
+    @Override public void println(char[] x) { }
+    @Override public void println(String x) { }
+    @Override public void println(Object x) { }
+    @Override public PrintStream printf(String format, Object... args) { return this; }
+    @Override public PrintStream printf(Locale l, String format, Object... args) { return this; }
+    @Override public PrintStream format(String format, Object... args) { return this; }
+    @Override public PrintStream format(Locale l, String format, Object... args) { return this; }
+    @Override public PrintStream append(CharSequence csq) { return this; }
+    @Override public PrintStream append(CharSequence csq, int start, int end) { return this; }
+    @Override public PrintStream append(char c) { return this; }
+}
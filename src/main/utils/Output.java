@@ -2,8 +2,11 @@ package main.utils;
 
 import main.legends.Hero;
 import main.legends.Monster;
+import main.world.FrameBuilder;
+import main.world.IncrementalWorldRenderer;
 import main.world.World;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -19,11 +22,44 @@ import java.util.Scanner;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class Output {
+    private static RenderMode renderMode = RenderMode.FULL;
+    private static final IncrementalWorldRenderer incrementalRenderer = new IncrementalWorldRenderer();
+    private static final FrameBuilder frameBuilder = new FrameBuilder();
+    private static final PrintStream discarding = new DiscardingPrintStream();
+    private static final ThreadLocal<Boolean> quiet = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Returns where the game prints its progress: System.out, or nowhere if the
+     * current thread is quiet
+     * @return the PrintStream to print the game's progress to
+     */
+    public static PrintStream out() {
+        return quiet.get() ? discarding : System.out;
+    }
+
+    /**
+     * @return true if nothing the game prints on the current thread is shown, false otherwise
+     */
+    public static boolean isQuiet() {
+        return quiet.get();
+    }
+
+    /**
+     * Sets whether what the game prints on the current thread is shown. On a quiet thread,
+     * out() discards everything and the World is not drawn. Other threads are unaffected,
+     * so games played without anyone watching (such as search rollouts) can run alongside
+     * a game that is being watched.
+     * @param quiet true to discard what the game prints on the current thread
+     */
+    public static void setQuiet(boolean quiet) {
+        Output.quiet.set(quiet);
+    }
+
     /**
      * Prints out a clear separator, for use when separating between various different sections.
      */
     public static void printSeparator() {
-        System.out.println("=====================================================");
+        out().println("=====================================================");
     }
 
     /**
@@ -52,14 +88,14 @@ public class Output {
      */
     public static void printOutputables(List<? extends Outputable> outputables) {
         List<String> asStrings = Output.outputablesAsStrings(outputables);
-        asStrings.forEach(System.out::println);
+        asStrings.forEach(out()::println);
     }
 
     /**
      * Prints a new line
      */
     public static void newLine() {
-        System.out.println();
+        out().println();
     }
 
     /**
@@ -84,12 +120,45 @@ public class Output {
     }
 
     /**
-     * Draws the world
+     * @return the way in which the World is currently drawn, which is NONE on a quiet thread
+     */
+    public static RenderMode getRenderMode() {
+        return quiet.get() ? RenderMode.NONE : renderMode;
+    }
+
+    /**
+     * Sets the way in which the World should be drawn from now on
+     * @param renderMode the new RenderMode
+     */
+    public static void setRenderMode(RenderMode renderMode) {
+        if(renderMode != RenderMode.INCREMENTAL) {
+            incrementalRenderer.release();
+        }
+        Output.renderMode = renderMode;
+    }
+
+    /**
+     * Draws the world, according to the current RenderMode. Games on several threads can
+     * draw at the same time: each frame is built and written whole, one at a time.
      * @param world the World to be drawn
      */
     public static void drawWorld(World world) {
-        List<String> drawn = world.draw();
-        drawn.forEach(System.out::println);
+        RenderMode renderMode = getRenderMode();
+        if(renderMode == RenderMode.NONE) {
+            world.getDirtyCells().clear();
+            return;
+        }
+        if(renderMode == RenderMode.INCREMENTAL) {
+            incrementalRenderer.render(world);
+            return;
+        }
+
+        synchronized (frameBuilder) {
+            frameBuilder.reset();
+            frameBuilder.appendWorld(world);
+            frameBuilder.writeTo(System.out);
+        }
+        world.getDirtyCells().clear();
     }
 
     /**
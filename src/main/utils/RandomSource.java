@@ -0,0 +1,144 @@
+package main.utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Class RandomSource is the single source of randomness for the game. Dodges,
+ * Monster spawning, World generation and Market stock all draw from a RandomSource
+ * rather than creating their own java.util.Random, so that a game started from a
+ * known seed always plays out the same way.
+ *
+ * A RandomSource can be split into an independent child source. Splitting is how
+ * each game, or each thread running games, gets its own stream of numbers without
+ * sharing (and contending on) a single generator. A RandomSource itself is not
+ * thread safe, so it should only ever be used by one thread at a time.
+ *
+ * Classes that are not handed a RandomSource fall back to the default for the
+ * current thread. Each thread's default is split from a common root, so seeding
+ * the root with setSeed() makes the defaults reproducible as well.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class RandomSource {
+    private static RandomSource root = new RandomSource();
+    private static final ThreadLocal<RandomSource> defaults = ThreadLocal.withInitial(RandomSource::splitRoot);
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a RandomSource with an unpredictable seed
+     */
+    public RandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a RandomSource which always produces the same sequence for the same seed
+     * @param seed the seed
+     */
+    public RandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Helper constructor which wraps an existing generator
+     * @param random the generator to draw from
+     */
+    private RandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the default RandomSource for the calling thread
+     * @return the calling thread's default RandomSource
+     */
+    public static RandomSource getDefault() {
+        return defaults.get();
+    }
+
+    /**
+     * Replaces the default RandomSource for the calling thread
+     * @param source the new default
+     */
+    public static void setDefault(RandomSource source) {
+        if(source == null) {
+            throw new IllegalArgumentException("source can't be null!");
+        }
+        defaults.set(source);
+    }
+
+    /**
+     * Reseeds the root that every thread's default is split from, and resets the
+     * calling thread's default. Threads which already have a default keep it.
+     * @param seed the new seed
+     */
+    public static synchronized void setSeed(long seed) {
+        root = new RandomSource(seed);
+        defaults.set(root.split());
+    }
+
+    /**
+     * Helper function which hands out a new child of the root
+     * @return a RandomSource split from the root
+     */
+    private static synchronized RandomSource splitRoot() {
+        return root.split();
+    }
+
+    /**
+     * Splits off a new, independent RandomSource. The child's sequence is
+     * determined by this source's state, so splitting a seeded source is reproducible.
+     * @return the child RandomSource
+     */
+    public RandomSource split() {
+        return new RandomSource(random.split());
+    }
+
+    /**
+     * Returns a uniformly distributed int between 0 (inclusive) and bound (exclusive)
+     * Throws an IllegalArgumentException if bound is not positive
+     * @param bound the upper bound
+     * @return a random int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * @return a uniformly distributed long, for example to seed another RandomSource
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * @return a uniformly distributed double between 0.0 (inclusive) and 1.0 (exclusive)
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * @return a random boolean
+     */
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /**
+     * Randomly permutes the passed in List in place
+     * @param list the List to shuffle
+     */
+    public <T> void shuffle(List<T> list) {
+        for(int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T temp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, temp);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package main.utils;
+
+/**
+ * Enum RenderMode lists the ways in which the World can be drawn to the terminal.
+ * FULL prints the entire World every time it is drawn. INCREMENTAL keeps the World
+ * pinned to the top of the terminal, and only redraws the Cells that changed since
+ * the previous frame. NONE does not draw anything, for games played without a person watching.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum RenderMode {
+    FULL,
+    INCREMENTAL,
+    NONE
+}
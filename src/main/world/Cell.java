@@ -20,6 +20,7 @@ public abstract class Cell implements Drawable {
     public static final int numDrawnRows = 3;
     private int row;
     private int col;
+    private World world; // the World this Cell is a view of, set by the World when it hands the Cell out
 
     /**
      * Standard constructor
@@ -66,6 +67,21 @@ public abstract class Cell implements Drawable {
         this.col = col;
     }
 
+    /**
+     * @return the World this Cell belongs to
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Sets the World this Cell belongs to
+     * @param world the World containing this Cell
+     */
+    public void setWorld(World world) {
+        this.world = world;
+    }
+
     /**
      * Indicates if the passed in row and col represent the same location
      * @param row the row in question
@@ -112,6 +128,53 @@ public abstract class Cell implements Drawable {
     public abstract void enter(List<Hero> heroes);
     public abstract void exit(List<Hero> heroes);
 
+    /**
+     * @return the color this Cell is drawn in
+     */
+    public abstract String getBorderColor();
+
+    /**
+     * @return the top row of this Cell when drawn. Precomputed, so drawing does not allocate.
+     */
+    public abstract String getTopBorder();
+
+    /**
+     * @return the bottom row of this Cell when drawn, which also resets the color for the next Cell.
+     */
+    public abstract String getBottomBorder();
+
+    /**
+     * Appends the middle row of this Cell, which shows any Legends inside it, to the passed builder.
+     * @param builder where to append the drawn row
+     * @param world the World this Cell belongs to
+     */
+    public void appendMiddleRow(StringBuilder builder, World world) {
+        world.appendMiddleRow(builder, this, getBorderColor());
+    }
+
+    /**
+     * Appends one of the numDrawnRows rows of this Cell to the passed builder. Produces the
+     * same text as the corresponding entry of draw(), without building any intermediate Strings.
+     * @param builder where to append the drawn row
+     * @param drawnRow which row of the Cell to append, from 0 (top) to numDrawnRows - 1 (bottom)
+     * @param world the World this Cell belongs to
+     */
+    public void appendDrawnRow(StringBuilder builder, int drawnRow, World world) {
+        switch (drawnRow) {
+            case 0:
+                builder.append(getTopBorder());
+                break;
+            case 1:
+                appendMiddleRow(builder, world);
+                break;
+            case 2:
+                builder.append(getBottomBorder());
+                break;
+            default:
+                throw new IllegalArgumentException("A Cell only has " + numDrawnRows + " drawn rows!");
+        }
+    }
+
 
     @Override
     public boolean equals(Object o) {
@@ -121,4 +184,9 @@ public abstract class Cell implements Drawable {
         return row == cell.row &&
                 col == cell.col;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(row, col);
+    }
 }
@@ -1,15 +1,12 @@
 package main.world;
 
-import main.Runner;
 import main.fight.Fight;
 import main.legends.Hero;
-import main.legends.LegendList;
 import main.legends.Monster;
 import main.utils.Colors;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Class CommonCell is a type of spell which is "normal." There may or may
@@ -22,6 +19,9 @@ import java.util.Random;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class CommonCell extends Cell {
+    public static final String borderColor = Colors.ANSI_RESET;
+    public static final String topBorder = borderColor + "+-----+ ";
+    public static final String bottomBorder = topBorder + Colors.ANSI_RESET; // Reset the color for the next Cell
     public static final int defaultChangeOfMonsters = 50;
     private final int chanceOfMonsters;
 
@@ -61,12 +61,12 @@ public class CommonCell extends Cell {
      */
     @Override
     public void enter(List<Hero> heroes) {
-        int rand = new Random().nextInt(101);
+        World world = getWorld();
+        int rand = world.getContext().getRandom().nextInt(101);
         if(rand < this.chanceOfMonsters) {
             // Fight!
-            List<Monster> monsters = LegendList.getInstance().getCorrespondingMonsters();
+            List<Monster> monsters = world.getContext().getRoster().getCorrespondingMonsters();
             Fight fight = new Fight(heroes, monsters);
-            World world = Runner.getInstance().getWorld();
             world.setFight(fight);
             fight.fight();
             world.finishedFight();
@@ -81,14 +81,37 @@ public class CommonCell extends Cell {
     @Override
     public List<String> draw() {
         List<String> output = new ArrayList<>();
-        String color = Colors.ANSI_RESET;
-        output.add(color + "+-----+ ");
-        World world = Runner.getInstance().getWorld();
-        output.add(world.drawMiddleRow(this, Colors.ANSI_RESET));
-        output.add(color + "+-----+ " + Colors.ANSI_RESET); // Reset the color for the next Cell
+        output.add(topBorder);
+        World world = getWorld();
+        output.add(world.drawMiddleRow(this, borderColor));
+        output.add(bottomBorder);
         return output;
     }
 
+    /**
+     * @return the color this Cell is drawn in
+     */
+    @Override
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this Cell when drawn
+     */
+    @Override
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this Cell when drawn
+     */
+    @Override
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
+
 	@Override
 	public void exit(List<Hero> heroes) {
 		// nothing to do
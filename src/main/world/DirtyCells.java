@@ -0,0 +1,138 @@
+package main.world;
+
+import main.utils.Validations;
+
+import java.util.BitSet;
+
+/**
+ * Class DirtyCells keeps track of which Cells in a World have changed since they
+ * were last drawn, for example because a Hero or Monster moved into or out of them.
+ * Marking a Cell is constant time, and marking the same Cell twice records it once,
+ * so a renderer can walk only the changed Cells instead of the whole World.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class DirtyCells {
+    private final int numRows;
+    private final int numCols;
+    private final BitSet marked;
+    private int[] indices;
+    private int size;
+    private boolean allDirty;
+
+    /**
+     * Standard constructor
+     * Throws an IllegalArgumentException if either numRows or numCols are negative
+     * @param numRows the number of rows in the World
+     * @param numCols the number of cols in the World
+     */
+    public DirtyCells(int numRows, int numCols) {
+        Validations.nonNegative(numRows, "numRows");
+        Validations.nonNegative(numCols, "numCols");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.marked = new BitSet(numRows * numCols);
+        this.indices = new int[16];
+        this.size = 0;
+        this.allDirty = true; // nothing has been drawn yet
+    }
+
+    /**
+     * Marks the Cell at (row/col) as changed
+     * @param row the row of the changed Cell
+     * @param col the col of the changed Cell
+     */
+    public void mark(int row, int col) {
+        int index = row * numCols + col;
+        if(allDirty || marked.get(index)) {
+            return;
+        }
+
+        marked.set(index);
+        if(size == indices.length) {
+            int[] larger = new int[size * 2];
+            System.arraycopy(indices, 0, larger, 0, size);
+            indices = larger;
+        }
+        indices[size++] = index;
+    }
+
+    /**
+     * Marks every Cell as changed, so the next frame has to be drawn in full.
+     */
+    public void markAll() {
+        clear();
+        allDirty = true;
+    }
+
+    /**
+     * @return true if every Cell must be redrawn, false if only the marked Cells must be
+     */
+    public boolean isAllDirty() {
+        return allDirty;
+    }
+
+    /**
+     * @return the number of individually marked Cells
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the row of the i-th marked Cell, in the order the Cells were marked
+     * @param i which marked Cell
+     * @return the row of that Cell
+     */
+    public int getRow(int i) {
+        return indices[i] / numCols;
+    }
+
+    /**
+     * Returns the col of the i-th marked Cell, in the order the Cells were marked
+     * @param i which marked Cell
+     * @return the col of that Cell
+     */
+    public int getCol(int i) {
+        return indices[i] % numCols;
+    }
+
+    /**
+     * Indicates whether or not the Cell at (row/col) needs to be redrawn
+     * @param row the row in question
+     * @param col the col in question
+     * @return true if the Cell has changed since the last frame, false otherwise
+     */
+    public boolean isDirty(int row, int col) {
+        return allDirty || marked.get(row * numCols + col);
+    }
+
+    /**
+     * @return the number of rows covered
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * @return the number of cols covered
+     */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /**
+     * Marks every Cell as clean, typically once a frame has been drawn.
+     */
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            marked.clear(indices[i]);
+        }
+        size = 0;
+        allDirty = false;
+    }
+}
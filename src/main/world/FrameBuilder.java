@@ -0,0 +1,102 @@
+package main.world;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class FrameBuilder composes a whole frame of terminal output, such as an entire World,
+ * into a single reusable buffer, and then writes it out with one write and one flush.
+ *
+ * The StringBuilder and the byte buffer are kept between frames, so once they have grown
+ * to the size of a frame, building and writing further frames allocates (almost) nothing.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class FrameBuilder {
+    private final StringBuilder frame;
+    private byte[] encoded;
+
+    /**
+     * Standard constructor
+     */
+    public FrameBuilder() {
+        frame = new StringBuilder(4096);
+        encoded = new byte[4096];
+    }
+
+    /**
+     * Empties the frame, keeping the underlying buffer for reuse
+     * @return the (now empty) frame, for appending further output
+     */
+    public StringBuilder reset() {
+        frame.setLength(0);
+        return frame;
+    }
+
+    /**
+     * @return the frame being built
+     */
+    public StringBuilder getFrame() {
+        return frame;
+    }
+
+    /**
+     * Appends the entire passed in World to the frame, one line per drawn row.
+     * Produces the same text as World.draw().
+     * @param world the World to be drawn
+     */
+    public void appendWorld(World world) {
+        int numRows = world.numRows();
+        int numCols = world.numCols();
+        for(int row = 0; row < numRows; row++) {
+            for(int drawnRow = 0; drawnRow < Cell.numDrawnRows; drawnRow++) {
+                for(int col = 0; col < numCols; col++) {
+                    world.getTerrainAt(row, col).appendDrawnRow(frame, drawnRow, world, row, col);
+                }
+                frame.append('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the frame to the passed in stream with a single write, and flushes it.
+     * The frame is left untouched; call reset() before building the next one.
+     * @param out where to write the frame
+     */
+    public void writeTo(PrintStream out) {
+        int length = encode();
+        out.write(encoded, 0, length);
+        out.flush();
+    }
+
+    /**
+     * Helper function which encodes the frame into the reusable byte buffer. The frame is
+     * almost always plain ASCII (drawing characters and ANSI escapes), which is copied
+     * directly; anything else goes through the UTF-8 encoder.
+     * @return the number of encoded bytes
+     */
+    private int encode() {
+        int length = frame.length();
+        if(encoded.length < length) {
+            encoded = new byte[Math.max(length, encoded.length * 2)];
+        }
+
+        for(int i = 0; i < length; i++) {
+            char c = frame.charAt(i);
+            if(c >= 0x80) {
+                byte[] utf8 = frame.toString().getBytes(StandardCharsets.UTF_8);
+                if(encoded.length < utf8.length) {
+                    encoded = new byte[utf8.length];
+                }
+                System.arraycopy(utf8, 0, encoded, 0, utf8.length);
+                return utf8.length;
+            }
+            encoded[i] = (byte)c;
+        }
+        return length;
+    }
+}
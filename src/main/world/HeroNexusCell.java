@@ -5,7 +5,6 @@ package main.world;
  *
  */
 
-import main.Runner;
 import main.legends.Hero;
 import main.utils.Colors;
 
@@ -13,6 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class HeroNexusCell extends NexusCell{
+    public static final String borderColor = Colors.ANSI_GREEN;
+    public static final String topBorder = borderColor + "M-----M ";
+    public static final String bottomBorder = topBorder + Colors.ANSI_RESET; // Reset the color for the next Cell
+
     /**
      * Standard constructor
      * Throws an IllegalArgumentException if either row or col are negative
@@ -33,7 +36,6 @@ public class HeroNexusCell extends NexusCell{
     @Override
     public void enter(List<Hero> heroes) {
         // This is a market cell, so enter the Market with the heroes
-        // TODO: prompt user if they'd like to enter the market
         super.enter(heroes);
     }
 
@@ -45,11 +47,34 @@ public class HeroNexusCell extends NexusCell{
     @Override
     public List<String> draw() {
         List<String> output = new ArrayList<>();
-        String color = Colors.ANSI_GREEN;
-        output.add(color + "M-----M ");
-        World world = Runner.getInstance().getWorld();
-        output.add(world.drawMiddleRow(this, Colors.ANSI_GREEN));
-        output.add(color + "M-----M " + Colors.ANSI_RESET); // Reset the color for the next Cell
+        output.add(topBorder);
+        World world = getWorld();
+        output.add(world.drawMiddleRow(this, borderColor));
+        output.add(bottomBorder);
         return output;
     }
+
+    /**
+     * @return the color this Cell is drawn in
+     */
+    @Override
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this Cell when drawn
+     */
+    @Override
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this Cell when drawn
+     */
+    @Override
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
 }
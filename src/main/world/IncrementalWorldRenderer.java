@@ -0,0 +1,219 @@
+package main.world;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+
+/**
+ * Class IncrementalWorldRenderer draws a World to an ANSI terminal, redrawing only
+ * the Cells that changed since the previous frame.
+ *
+ * The World is drawn once at the top of the terminal, and the rest of the terminal is
+ * turned into a scrolling region, so that the game's regular output scrolls beneath the
+ * World without moving it. Later frames then use cursor addressing to overwrite just the
+ * middle row of each dirty Cell, since that is the only part of a Cell showing Legends.
+ *
+ * Whenever the terminal is resized, a different World is drawn, or the terminal size
+ * cannot be determined, the renderer falls back to drawing the whole World.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class IncrementalWorldRenderer {
+    private static final String csi = "\u001B[";
+    private static final String saveCursor = "\u001B7";
+    private static final String restoreCursor = "\u001B8";
+    private static final int drawnCellWidth = 8;
+    private static final int minTextRows = 6; // rows left below the World for prompts
+    private static final long sizeCheckIntervalMillis = 500;
+
+    private final FrameBuilder frameBuilder;
+    private World lastWorld;
+    private boolean pinned;
+    private boolean registeredShutdownHook;
+    private int pinnedRows;
+    private int pinnedCols;
+    private boolean sizeKnown;
+    private boolean terminalUnavailable;
+    private int terminalRows;
+    private int terminalCols;
+    private long lastSizeCheck;
+
+    /**
+     * Standard constructor
+     */
+    public IncrementalWorldRenderer() {
+        frameBuilder = new FrameBuilder();
+        lastWorld = null;
+        pinned = false;
+        registeredShutdownHook = false;
+        sizeKnown = false;
+        terminalUnavailable = false;
+        lastSizeCheck = 0;
+    }
+
+    /**
+     * Draws the passed in World, redrawing only what changed since the last frame when possible.
+     * @param world the World to be drawn
+     */
+    public synchronized void render(World world) {
+        DirtyCells dirtyCells = world.getDirtyCells();
+        StringBuilder frame = frameBuilder.reset();
+
+        if(!refreshTerminalSize() || !fitsInTerminal(world)) {
+            // Can't pin the World, so just print it like the regular full renderer
+            appendRelease(frame);
+            frameBuilder.appendWorld(world);
+        } else if(!pinned || world != lastWorld || dirtyCells.isAllDirty()
+                || terminalRows != pinnedRows || terminalCols != pinnedCols) {
+            appendPinned(frame, world);
+        } else {
+            appendDirtyCells(frame, world, dirtyCells);
+        }
+
+        lastWorld = world;
+        dirtyCells.clear();
+        if(frame.length() > 0) {
+            frameBuilder.writeTo(System.out);
+        }
+    }
+
+    /**
+     * Restores the terminal to a regular, fully scrolling terminal. Called automatically
+     * when the program exits, but may be called earlier, for example when switching to
+     * a different RenderMode.
+     */
+    public synchronized void release() {
+        if(!pinned) {
+            return;
+        }
+        PrintStream out = System.out;
+        StringBuilder reset = new StringBuilder();
+        appendRelease(reset);
+        out.print(reset);
+        out.flush();
+    }
+
+    /**
+     * Helper function which appends the escape sequences that unpin the World, if it is pinned
+     * @param frame where to append the escape sequences
+     */
+    private void appendRelease(StringBuilder frame) {
+        if(!pinned) {
+            return;
+        }
+        frame.append(csi).append('r'); // reset the scrolling region to the full terminal
+        frame.append(csi).append(pinnedRows).append(";1H");
+        pinned = false;
+    }
+
+    /**
+     * Helper function which clears the terminal, draws the whole World at the top of it,
+     * and limits scrolling to the rows beneath the World.
+     * @param frame where to append the output
+     * @param world the World to be drawn
+     */
+    private void appendPinned(StringBuilder frame, World world) {
+        frame.append(csi).append('r');
+        frame.append(csi).append("2J").append(csi).append('H');
+        frameBuilder.appendWorld(world);
+
+        int boardRows = Cell.numDrawnRows * world.numRows();
+        frame.append(csi).append(boardRows + 1).append(';').append(terminalRows).append('r');
+        frame.append(csi).append(terminalRows).append(";1H");
+
+        pinned = true;
+        pinnedRows = terminalRows;
+        pinnedCols = terminalCols;
+        if(!registeredShutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::release));
+            registeredShutdownHook = true;
+        }
+    }
+
+    /**
+     * Helper function which overwrites the middle row of every dirty Cell, leaving
+     * the cursor where it was so the game's other output is not disturbed.
+     * @param frame where to append the output
+     * @param world the World being drawn
+     * @param dirtyCells the Cells that changed since the last frame
+     */
+    private void appendDirtyCells(StringBuilder frame, World world, DirtyCells dirtyCells) {
+        if(dirtyCells.size() == 0) {
+            return;
+        }
+
+        frame.append(saveCursor);
+        for(int i = 0; i < dirtyCells.size(); i++) {
+            int row = dirtyCells.getRow(i);
+            int col = dirtyCells.getCol(i);
+            int terminalRow = Cell.numDrawnRows * row + 2; // terminal rows start at 1, and skip the top border
+            int terminalCol = drawnCellWidth * col + 1;
+            frame.append(csi).append(terminalRow).append(';').append(terminalCol).append('H');
+            world.getTerrainAt(row, col).appendMiddleRow(frame, world, row, col);
+        }
+        frame.append(restoreCursor);
+    }
+
+    /**
+     * Indicates whether the World, plus a few rows for the game's prompts, fits in the terminal
+     * @param world the World in question
+     * @return true if the World can be pinned to the top of the terminal, false otherwise
+     */
+    private boolean fitsInTerminal(World world) {
+        int boardRows = Cell.numDrawnRows * world.numRows();
+        int boardCols = drawnCellWidth * world.numCols();
+        return boardRows + minTextRows <= terminalRows && boardCols <= terminalCols;
+    }
+
+    /**
+     * Helper function which asks the terminal for its current size. The terminal is
+     * asked at most once every sizeCheckIntervalMillis, whether or not it answered last
+     * time, since doing so starts a process.
+     * @return true if the size of the terminal is known, false otherwise
+     */
+    private boolean refreshTerminalSize() {
+        if(terminalUnavailable) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if(now - lastSizeCheck < sizeCheckIntervalMillis) {
+            return sizeKnown;
+        }
+        lastSizeCheck = now;
+
+        try {
+            Process process = new ProcessBuilder("stty", "size")
+                    .redirectInput(new File("/dev/tty"))
+                    .redirectErrorStream(true)
+                    .start();
+            String line;
+            try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                line = reader.readLine();
+            }
+            if(process.waitFor() != 0 || line == null) {
+                sizeKnown = false;
+                return false;
+            }
+            String[] parts = line.trim().split("\\s+");
+            terminalRows = Integer.parseInt(parts[0]);
+            terminalCols = Integer.parseInt(parts[1]);
+            sizeKnown = terminalRows > 0 && terminalCols > 0;
+        } catch (IOException e) {
+            // No stty or no controlling terminal, e.g. output is redirected. Don't keep trying.
+            terminalUnavailable = true;
+            sizeKnown = false;
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            sizeKnown = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sizeKnown = false;
+        }
+        return sizeKnown;
+    }
+}
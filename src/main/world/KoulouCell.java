@@ -1,6 +1,5 @@
 package main.world;
 
-import main.Runner;
 import main.legends.Hero;
 import main.utils.Colors;
 
@@ -13,6 +12,10 @@ import java.util.List;
  * @author Sandra Zhen
  */
 public class KoulouCell extends Cell{
+    public static final String borderColor = Colors.ANSI_RESET;
+    public static final String topBorder = borderColor + "K-----K ";
+    public static final String bottomBorder = topBorder + Colors.ANSI_RESET; // Reset the color for the next Cell
+
     /**
      * Standard constructor
      * Throws an IllegalArgumentException if either row or col are negative
@@ -45,14 +48,37 @@ public class KoulouCell extends Cell{
     @Override
     public List<String> draw() {
         List<String> output = new ArrayList<>();
-        String color = Colors.ANSI_RESET;
-        output.add(color + "K-----K ");
-        World world = Runner.getInstance().getWorld();
-        output.add(world.drawMiddleRow(this, Colors.ANSI_RESET));
-        output.add(color + "K-----K " + Colors.ANSI_RESET); // Reset the color for the next Cell
+        output.add(topBorder);
+        World world = getWorld();
+        output.add(world.drawMiddleRow(this, borderColor));
+        output.add(bottomBorder);
         return output;
     }
 
+    /**
+     * @return the color this Cell is drawn in
+     */
+    @Override
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this Cell when drawn
+     */
+    @Override
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this Cell when drawn
+     */
+    @Override
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
+
 	@Override
 	public void exit(List<Hero> heroes) {
 		for(Hero hero: heroes) {
@@ -1,36 +1,115 @@
 package main.world;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import main.utils.Validations;
 
 /**
- * Lane is a group of cells
+ * Lane is a group of adjacent columns running the full height of the World.
+ * Membership is computed from the column alone, so a Lane never needs to hold
+ * on to its Cells, and checking whether a Cell is in a Lane is constant time.
  * @author Sandra Zhen
  */
 public class Lane{
-    private List<Cell> cells;
-    public Lane(){
-        cells = new ArrayList<>();
+    /**
+     * Interface LocationVisitor is called once per location when walking over part of a Lane.
+     */
+    public interface LocationVisitor {
+        /**
+         * Visits a single location
+         * @param row the row of the location
+         * @param col the col of the location
+         */
+        void visit(int row, int col);
+    }
+
+    private final int index;
+    private final int firstCol;
+    private final int width;
+    private final int numRows;
+
+    /**
+     * Standard constructor
+     * Throws an IllegalArgumentException if any of the values are negative
+     * @param index which Lane this is, counting from the left starting at 0
+     * @param firstCol the leftmost col of this Lane
+     * @param width the number of cols in this Lane
+     * @param numRows the number of rows in this Lane
+     */
+    public Lane(int index, int firstCol, int width, int numRows){
+        Validations.nonNegative(index, "index");
+        Validations.nonNegative(firstCol, "firstCol");
+        Validations.nonNegative(width, "width");
+        Validations.nonNegative(numRows, "numRows");
+        this.index = index;
+        this.firstCol = firstCol;
+        this.width = width;
+        this.numRows = numRows;
+    }
+
+    /**
+     * @return which Lane this is, counting from the left starting at 0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the leftmost col of this Lane
+     */
+    public int getFirstCol() {
+        return firstCol;
+    }
+
+    /**
+     * @return the rightmost col of this Lane
+     */
+    public int getLastCol() {
+        return firstCol + width - 1;
+    }
+
+    /**
+     * @return the number of cols in this Lane
+     */
+    public int getWidth() {
+        return width;
     }
 
-    public void addCell(Cell cell){
-        cells.add(cell);
+    /**
+     * Returns whether or not the passed in col is part of this lane
+     * @param col the col in question
+     * @return true if col is one of this Lane's cols, false otherwise
+     */
+    public boolean containsCol(int col) {
+        return col >= firstCol && col < firstCol + width;
     }
 
     /**
      * Returns whether or not cell is in lane
-     * @param cell
-     * @return
+     * @param cell the Cell in question
+     * @return true if the Cell is in this Lane, false otherwise
      */
     public boolean contains(Cell cell){
-        return this.cells.contains(cell);
+        return containsCol(cell.getCol()) && cell.getRow() < numRows;
     }
 
+    /**
+     * Visits every location of this Lane between fromRow and toRow (both inclusive),
+     * row by row, from left to right. Rows outside of the World are skipped.
+     * @param fromRow the first row to visit
+     * @param toRow the last row to visit
+     * @param visitor called with each location
+     */
+    public void forEachLocation(int fromRow, int toRow, LocationVisitor visitor) {
+        int lastRow = Math.min(toRow, numRows - 1);
+        for(int row = Math.max(fromRow, 0); row <= lastRow; row++) {
+            for(int col = firstCol; col < firstCol + width; col++) {
+                visitor.visit(row, col);
+            }
+        }
+    }
 
     @Override
     public String toString(){
-        return Arrays.toString(cells.toArray());
+        return "Lane " + index + " (cols " + firstCol + "-" + getLastCol() + ")";
     }
 
 }
@@ -1,10 +1,11 @@
 package main.world;
 
-import main.Runner;
+import main.GameContext;
 import main.legends.Hero;
 import main.legends.LegendList;
 import main.market_and_gear.Market;
 import main.market_and_gear.MarketInteraction;
+import main.market_and_gear.RandomGearItemFactory;
 import main.utils.Colors;
 
 import java.util.ArrayList;
@@ -20,6 +21,10 @@ import java.util.List;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class MarketCell extends Cell {
+    public static final String borderColor = Colors.ANSI_BLUE;
+    public static final String topBorder = borderColor + "M-----M ";
+    public static final String bottomBorder = topBorder + Colors.ANSI_RESET; // Reset the color for the next Cell
+
     /**
      * Standard constructor
      * @param row the row location of this Cell
@@ -44,7 +49,8 @@ public class MarketCell extends Cell {
      */
     @Override
     public void enter(List<Hero> heroes) {
-        Market market = new Market();
+        GameContext context = getWorld().getContext();
+        Market market = new Market(new RandomGearItemFactory(context.getMarketInventory(), context.getRandom()));
         MarketInteraction marketInteraction = new MarketInteraction(market, heroes);
         marketInteraction.run();
     }
@@ -57,14 +63,37 @@ public class MarketCell extends Cell {
     @Override
     public List<String> draw() {
         List<String> output = new ArrayList<>();
-        String color = Colors.ANSI_BLUE;
-        output.add(color + "M-----M");
-        World world = Runner.getInstance().getWorld();
-        output.add(world.drawMiddleRow(this, Colors.ANSI_BLUE));
-        output.add(color + "M-----M " + Colors.ANSI_RESET); // Reset the color for the next Cell
+        output.add(topBorder);
+        World world = getWorld();
+        output.add(world.drawMiddleRow(this, borderColor));
+        output.add(bottomBorder);
         return output;
     }
 
+    /**
+     * @return the color this Cell is drawn in
+     */
+    @Override
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this Cell when drawn
+     */
+    @Override
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this Cell when drawn
+     */
+    @Override
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
+
 	@Override
 	public void exit(List<Hero> heroes) {
 		// nothing to do
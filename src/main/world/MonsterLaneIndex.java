@@ -0,0 +1,131 @@
+package main.world;
+
+import main.utils.Validations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Class MonsterLaneIndex keeps track of which rows of each Lane hold Monsters, ordered
+ * by row. This lets the World answer questions like "how far has the farthest Monster
+ * in this Lane advanced" or "is any Monster in this row" without looking at every Monster.
+ *
+ * Rows are counted from the top of the World, so Monsters advance towards higher rows.
+ * Since a row of a Lane may hold more than one Monster, a count is kept per row.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class MonsterLaneIndex {
+    private final List<TreeMap<Integer, Integer>> rowsByLane;
+
+    /**
+     * Standard constructor
+     * Throws an IllegalArgumentException if numLanes is negative
+     * @param numLanes the number of Lanes in the World
+     */
+    public MonsterLaneIndex(int numLanes) {
+        Validations.nonNegative(numLanes, "numLanes");
+        rowsByLane = new ArrayList<>(numLanes);
+        for(int i = 0; i < numLanes; i++) {
+            rowsByLane.add(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Records that a Monster is now in the passed in row of the passed in Lane
+     * @param lane the index of the Lane
+     * @param row the row of the Monster
+     */
+    public void add(int lane, int row) {
+        rowsByLane.get(lane).merge(row, 1, Integer::sum);
+    }
+
+    /**
+     * Records that a Monster has left the passed in row of the passed in Lane
+     * @param lane the index of the Lane
+     * @param row the row the Monster left
+     */
+    public void remove(int lane, int row) {
+        TreeMap<Integer, Integer> rows = rowsByLane.get(lane);
+        Integer count = rows.get(row);
+        if(count == null) {
+            return;
+        }
+        if(count == 1) {
+            rows.remove(row);
+        } else {
+            rows.put(row, count - 1);
+        }
+    }
+
+    /**
+     * Records that every Monster has left every Lane
+     */
+    public void clear() {
+        for(TreeMap<Integer, Integer> rows : rowsByLane) {
+            rows.clear();
+        }
+    }
+
+    /**
+     * Returns the row of the Monster in the passed in Lane that has advanced the farthest
+     * @param lane the index of the Lane
+     * @return the highest row holding a Monster, or -1 if the Lane has no Monsters
+     */
+    public int getFarthestRow(int lane) {
+        TreeMap<Integer, Integer> rows = rowsByLane.get(lane);
+        return rows.isEmpty() ? -1 : rows.lastKey();
+    }
+
+    /**
+     * Returns the row of the farthest advanced Monster in the passed in Lane, provided it is behind
+     * (has a higher row than) the passed in row.
+     * @param lane the index of the Lane
+     * @param row the row in question
+     * @return the highest row holding a Monster if it is greater than row, -1 otherwise
+     */
+    public int getFarthestRowBehind(int lane, int row) {
+        int farthest = getFarthestRow(lane);
+        return farthest > row ? farthest : -1;
+    }
+
+    /**
+     * Returns the row of the least advanced Monster in the passed in Lane
+     * @param lane the index of the Lane
+     * @return the lowest row holding a Monster, or -1 if the Lane has no Monsters
+     */
+    public int getNearestRow(int lane) {
+        TreeMap<Integer, Integer> rows = rowsByLane.get(lane);
+        return rows.isEmpty() ? -1 : rows.firstKey();
+    }
+
+    /**
+     * Counts the Monsters in the passed in row of the passed in Lane
+     * @param lane the index of the Lane
+     * @param row the row in question
+     * @return the number of Monsters in that row of the Lane
+     */
+    public int countInRow(int lane, int row) {
+        return rowsByLane.get(lane).getOrDefault(row, 0);
+    }
+
+    /**
+     * Indicates whether or not any Lane has a Monster in the passed in row
+     * @param row the row in question
+     * @return true if there is a Monster in row, false otherwise
+     */
+    public boolean anyInRow(int row) {
+        for(Map<Integer, Integer> rows : rowsByLane) {
+            if(rows.containsKey(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
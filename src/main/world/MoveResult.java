@@ -0,0 +1,38 @@
+package main.world;
+
+/**
+ * Enum MoveResult is the outcome of asking a World to move a Legend. A blocked move
+ * is a normal part of the game (for example, a Monster waiting behind another Monster),
+ * so it is reported as a result rather than thrown as an InvalidMoveDirection.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum MoveResult {
+    MOVED("Moved!"),
+    BLOCKED("Cannot move in this direction!"),
+    CANNOT_ENTER("Unable to enter the cell!");
+
+    private final String message;
+
+    MoveResult(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return true if the Legend moved, false otherwise
+     */
+    public boolean succeeded() {
+        return this == MOVED;
+    }
+
+    /**
+     * @return a description of the result
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,28 @@
+package main.world;
+
+import main.legends.Hero;
+import main.legends.Monster;
+
+/**
+ * Interface NexusListener is notified by a ValorWorld as soon as a Legend reaches the
+ * opposing side's Nexus, which is what ends a game of Legends of Valor.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public interface NexusListener {
+    /**
+     * Called when a Hero enters a Cell of the Monsters' Nexus
+     * @param hero the Hero that made it
+     */
+    void heroReachedMonstersNexus(Hero hero);
+
+    /**
+     * Called when a Monster enters a Cell of the Heroes' Nexus
+     * @param monster the Monster that made it
+     */
+    void monsterReachedHeroesNexus(Monster monster);
+}
@@ -16,6 +16,11 @@ import java.util.List;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public class NonAccessibleCell extends Cell {
+    public static final String borderColor = Colors.ANSI_GRAY;
+    public static final String topBorder = borderColor + "+-----+ ";
+    public static final String bottomBorder = topBorder + Colors.ANSI_RESET; // Reset the color for the next Cell
+    public static final String middleRow = borderColor + "|/////| ";
+
     /**
      * Standard constructor
      * @param row row location of this Cell
@@ -51,13 +56,46 @@ public class NonAccessibleCell extends Cell {
     @Override
     public List<String> draw() {
         List<String> output = new ArrayList<>();
-        String color = Colors.ANSI_GRAY;
-        output.add(color + "+-----+ ");
-        output.add(color + "|/////| ");
-        output.add(color + "+-----+ " + Colors.ANSI_RESET); // Reset the color for the next Cell
+        output.add(topBorder);
+        output.add(middleRow);
+        output.add(bottomBorder);
         return output;
     }
 
+    /**
+     * @return the color this Cell is drawn in
+     */
+    @Override
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this Cell when drawn
+     */
+    @Override
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this Cell when drawn
+     */
+    @Override
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
+
+    /**
+     * NonAccessibleCells are never occupied, so their middle row never changes.
+     * @param builder where to append the drawn row
+     * @param world the World this Cell belongs to
+     */
+    @Override
+    public void appendMiddleRow(StringBuilder builder, World world) {
+        builder.append(middleRow);
+    }
+
 	@Override
 	public void exit(List<Hero> heroes) {
 		// nothing to do
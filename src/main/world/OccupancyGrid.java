@@ -0,0 +1,261 @@
+package main.world;
+
+import main.utils.Validations;
+
+import java.util.Arrays;
+
+/**
+ * Class OccupancyGrid is an index from a location in the World to the entity
+ * occupying it. Every occupied Cell has a single slot, so asking "who is in this Cell"
+ * is a constant time lookup rather than a scan over every tracked position.
+ *
+ * Only a handful of Cells are ever occupied, even in very large Worlds, so the slots
+ * are kept in a small open addressing hash table keyed by row * numCols + col, rather
+ * than in an array covering every Cell.
+ *
+ * Nothing in the game strictly prevents two entities from sharing a Cell (for
+ * example, Monsters spawned into the same Nexus cell), so the grid also keeps
+ * a count of occupants per Cell. When the entity held in the slot leaves a
+ * Cell that is still occupied, the caller is told to refill the slot.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class OccupancyGrid<T> {
+    private static final int initialCapacity = 16; // must be a power of two
+    private final int numRows;
+    private final int numCols;
+    private int[] keys; // index of the Cell plus one, so that 0 marks an empty entry
+    private Object[] occupants;
+    private int[] counts;
+    private int size;
+
+    /**
+     * Standard constructor
+     * Throws an IllegalArgumentException if either numRows or numCols are negative
+     * @param numRows the number of rows in the World
+     * @param numCols the number of cols in the World
+     */
+    public OccupancyGrid(int numRows, int numCols) {
+        Validations.nonNegative(numRows, "numRows");
+        Validations.nonNegative(numCols, "numCols");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.keys = new int[initialCapacity];
+        this.occupants = new Object[initialCapacity];
+        this.counts = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * @return the number of rows covered by this grid
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * @return the number of cols covered by this grid
+     */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /**
+     * Returns the occupant of the passed in location, or null if there is none
+     * @param row the row in question
+     * @param col the col in question
+     * @return the occupant at (row/col), or null if the location is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int row, int col) {
+        int entry = find(row, col);
+        return entry < 0 ? null : (T)occupants[entry];
+    }
+
+    /**
+     * Indicates whether or not the passed in location is occupied
+     * @param row the row in question
+     * @param col the col in question
+     * @return true if at least one entity is at (row/col), false otherwise
+     */
+    public boolean isOccupied(int row, int col) {
+        return find(row, col) >= 0;
+    }
+
+    /**
+     * Records that the passed in occupant has entered the location at (row/col)
+     * @param row the row entered
+     * @param col the col entered
+     * @param occupant the entity entering the location
+     */
+    public void add(int row, int col, T occupant) {
+        int entry = find(row, col);
+        if(entry < 0) {
+            if(2 * (size + 1) > keys.length) {
+                grow();
+            }
+            entry = insert(indexOf(row, col));
+        }
+        counts[entry]++;
+        if(occupants[entry] == null) {
+            occupants[entry] = occupant;
+        }
+    }
+
+    /**
+     * Records that the passed in occupant has left the location at (row/col)
+     * @param row the row being left
+     * @param col the col being left
+     * @param occupant the entity leaving the location
+     * @return true if the location is still occupied but its slot is now empty, meaning the
+     * caller should refill the slot with one of the remaining occupants. false otherwise.
+     */
+    public boolean remove(int row, int col, T occupant) {
+        int entry = find(row, col);
+        if(entry < 0) {
+            return false;
+        }
+
+        counts[entry]--;
+        if(counts[entry] == 0) {
+            delete(entry);
+            return false;
+        }
+        if(occupants[entry] == occupant) {
+            occupants[entry] = null;
+        }
+        return occupants[entry] == null;
+    }
+
+    /**
+     * Places the passed in occupant into the slot at (row/col), without changing the
+     * number of occupants. Used after remove() indicates that the slot needs refilling.
+     * @param row the row in question
+     * @param col the col in question
+     * @param occupant an entity that is known to be at (row/col)
+     */
+    public void refill(int row, int col, T occupant) {
+        int entry = find(row, col);
+        if(entry >= 0) {
+            occupants[entry] = occupant;
+        }
+    }
+
+    /**
+     * Empties every location, keeping the space already allocated
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(occupants, null);
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * Helper function which maps a row and col to the index of that Cell in the World
+     * @param row the row in question
+     * @param col the col in question
+     * @return the index corresponding to (row/col)
+     */
+    private int indexOf(int row, int col) {
+        return row * numCols + col;
+    }
+
+    /**
+     * Helper function which returns the preferred entry for the passed in Cell index
+     * @param index the index of a Cell
+     * @return the entry the index hashes to
+     */
+    private int home(int index) {
+        int hash = index * 0x9E3779B9; // spread consecutive Cells across the table
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Helper function which finds the entry holding the passed in location
+     * @param row the row in question
+     * @param col the col in question
+     * @return the entry holding (row/col), or -1 if the location is not occupied
+     */
+    private int find(int row, int col) {
+        int key = indexOf(row, col) + 1;
+        int mask = keys.length - 1;
+        for(int entry = home(key - 1); keys[entry] != 0; entry = (entry + 1) & mask) {
+            if(keys[entry] == key) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Helper function which adds an empty entry for the passed in Cell index.
+     * The index must not already be present, and the table must have room.
+     * @param index the index of a Cell
+     * @return the new entry
+     */
+    private int insert(int index) {
+        int mask = keys.length - 1;
+        int entry = home(index);
+        while(keys[entry] != 0) {
+            entry = (entry + 1) & mask;
+        }
+        keys[entry] = index + 1;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Helper function which removes an entry, shifting back any later entries of the
+     * same probe run so that lookups never stop early at the hole.
+     * @param entry the entry to remove
+     */
+    private void delete(int entry) {
+        int mask = keys.length - 1;
+        int hole = entry;
+        int next = entry;
+        while(true) {
+            next = (next + 1) & mask;
+            if(keys[next] == 0) {
+                break;
+            }
+            int home = home(keys[next] - 1);
+            // Only move next into the hole if its home is not in the range (hole, next]
+            boolean homeBetween = hole <= next ? (hole < home && home <= next) : (hole < home || home <= next);
+            if(!homeBetween) {
+                keys[hole] = keys[next];
+                occupants[hole] = occupants[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+        }
+        keys[hole] = 0;
+        occupants[hole] = null;
+        counts[hole] = 0;
+        size--;
+    }
+
+    /**
+     * Helper function which doubles the size of the table
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldOccupants = occupants;
+        int[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        occupants = new Object[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        size = 0;
+        for(int i = 0; i < oldKeys.length; i++) {
+            if(oldKeys[i] != 0) {
+                int entry = insert(oldKeys[i] - 1);
+                occupants[entry] = oldOccupants[i];
+                counts[entry] = oldCounts[i];
+            }
+        }
+    }
+}
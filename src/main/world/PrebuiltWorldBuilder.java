@@ -0,0 +1,41 @@
+package main.world;
+
+/**
+ * Class PrebuiltWorldBuilder is a WorldBuilder whose layout has already been generated,
+ * for example in the background while the user chooses their Heroes.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class PrebuiltWorldBuilder extends WorldBuilder {
+    private final TerrainGrid terrain;
+
+    /**
+     * Standard constructor
+     * @param terrain the already generated layout
+     */
+    public PrebuiltWorldBuilder(TerrainGrid terrain) {
+        super(terrain.getNumRows(), terrain.getNumCols());
+        this.terrain = terrain;
+    }
+
+    /**
+     * @return the already generated layout
+     */
+    @Override
+    public TerrainGrid build() {
+        return terrain;
+    }
+
+    /**
+     * @param terrain the TerrainGrid constructed
+     * @return true, since the layout was checked when it was generated
+     */
+    @Override
+    public boolean builtSuccessfulWorld(TerrainGrid terrain) {
+        return true;
+    }
+}
@@ -1,19 +1,21 @@
 package main.world;
 
+import main.GameContext;
 import main.legends.Hero;
 import main.utils.Colors;
+import main.utils.RandomSource;
 
 import java.util.List;
-import java.util.Random;
 
 public class RandomWorld extends World {
     /**
      * Standard constructor, builds a World of the passed in size.
      *
      * @param worldBuilder class which builds this World
+     * @param context the game this World belongs to
      */
-    public RandomWorld(WorldBuilder worldBuilder) {
-        super(worldBuilder);
+    public RandomWorld(WorldBuilder worldBuilder, GameContext context) {
+        super(worldBuilder, context);
     }
 
     /**
@@ -23,12 +25,11 @@ public class RandomWorld extends World {
     @Override
     protected void placeHero(Hero hero) {
         boolean foundCommonCell = false;
-        Random random = new Random();
+        RandomSource random = getContext().getRandom();
         while (!foundCommonCell) {
             int row = random.nextInt(this.numRows());
             for (int col = 0; col < numCols(); col++) {
-                Cell cell = getCellAt(row, col);
-                if (cell instanceof CommonCell) {
+                if (getTerrainAt(row, col) == TerrainType.COMMON) {
                     foundCommonCell = true;
                     setHeroLocation(hero, row, col);
                     break;
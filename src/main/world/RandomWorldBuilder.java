@@ -1,9 +1,8 @@
 package main.world;
 
+import main.utils.RandomSource;
 import main.utils.Validations;
 
-import java.util.Random;
-
 /**
  * Class RandomWorldBuilder
  *
@@ -16,6 +15,7 @@ import java.util.Random;
 public class RandomWorldBuilder extends WorldBuilder {
     private final int commonCellCutoff;
     private final int nonAccessibleCellCutoff;
+    private final RandomSource random;
 
     /**
      * Standard constructor
@@ -29,6 +29,20 @@ public class RandomWorldBuilder extends WorldBuilder {
      * @param chanceOfMarketCell percentage chance of a MarketCell, on a scale 0 - 100
      */
     public RandomWorldBuilder(int numRows, int numCols, int chanceOfCommonCell, int chanceOfNonAccessibleCell, int chanceOfMarketCell) {
+        this(numRows, numCols, chanceOfCommonCell, chanceOfNonAccessibleCell, chanceOfMarketCell, RandomSource.getDefault().split());
+    }
+
+    /**
+     * Same as the standard constructor, but the Cells are chosen by the passed in RandomSource
+     *
+     * @param numRows the number of rows
+     * @param numCols the number of cols
+     * @param chanceOfCommonCell percentage chance of a CommonCell, on a scale 0 - 100
+     * @param chanceOfNonAccessibleCell percentage chance of a NonAccessibleCell, on a scale 0 - 100
+     * @param chanceOfMarketCell percentage chance of a MarketCell, on a scale 0 - 100
+     * @param random source of randomness for choosing Cells
+     */
+    public RandomWorldBuilder(int numRows, int numCols, int chanceOfCommonCell, int chanceOfNonAccessibleCell, int chanceOfMarketCell, RandomSource random) {
         super(numRows, numCols);
         Validations.nonNegative(chanceOfCommonCell, "chanceOfCommonCell");
         Validations.nonNegative(chanceOfNonAccessibleCell, "chanceOfNonAccessibleCell");
@@ -38,75 +52,43 @@ public class RandomWorldBuilder extends WorldBuilder {
 
         this.commonCellCutoff = chanceOfCommonCell; // e.g. 50
         this.nonAccessibleCellCutoff = chanceOfNonAccessibleCell + chanceOfCommonCell; // e.g. 80
+        this.random = random;
         // marketCellCutoff is 100, but is just represented below by the else condition. Hence, no need for the variable.
     }
 
     /**
      * Helper method which actually performs the building
      *
-     * @return a two dimensional array of generated Cells
+     * @return the generated TerrainGrid
      */
     @Override
-    public Cell[][] build() {
-        Cell[][] cells = new Cell[this.getNumRows()][this.getNumCols()];
-        Random random = new Random();
+    public TerrainGrid build() {
+        TerrainGrid terrain = new TerrainGrid(this.getNumRows(), this.getNumCols(), TerrainType.COMMON);
         for(int i = 0; i < this.getNumRows(); i++) {
             for(int j = 0; j < this.getNumCols(); j++) {
                 int chance = random.nextInt(101);
-                Cell cell;
+                TerrainType type;
                 if(chance <= this.commonCellCutoff) {
-                    cell = new CommonCell(i, j);
+                    type = TerrainType.COMMON;
                 } else if (chance <= this.nonAccessibleCellCutoff) {
-                    cell = new NonAccessibleCell(i, j);
+                    type = TerrainType.NON_ACCESSIBLE;
                 } else {
-                    cell = new MarketCell(i, j);
+                    type = TerrainType.MARKET;
                 }
-                cells[i][j] = cell;
+                terrain.set(i, j, type);
             }
         }
-        return cells;
+        return terrain;
     }
 
     /**
      * Abstract method which allows subclasses to check if the specific kind of World built was successfuly.
      *
-     * @param cells the Cells constructed
+     * @param terrain the TerrainGrid constructed
      * @return true if the World was successfully built, false otherwise.
      */
     @Override
-    public boolean builtSuccessfulWorld(Cell[][] cells) {
-        return containsCommonCell(cells) && containsMarketCell(cells);
-    }
-
-    /**
-     * Indicates whether or not the passed in cell array contains a CommonCell
-     * @param cells the Cell array in question
-     * @return true if the Cell array has at least one CommonCell, false otherwise.
-     */
-    private boolean containsCommonCell(Cell[][] cells) {
-        for (Cell[] row : cells) {
-            for (Cell cell : row) {
-                if (cell instanceof CommonCell) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Indicates whether or not the passed in Cell array contains a MarketCell.
-     * @param cells the Cell array in question
-     * @return true if the Cell array has at least one MarketCell, false otherwise.
-     */
-    private boolean containsMarketCell(Cell[][] cells) {
-        for (Cell[] row : cells) {
-            for (Cell cell : row) {
-                if (cell instanceof MarketCell) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public boolean builtSuccessfulWorld(TerrainGrid terrain) {
+        return terrain.contains(TerrainType.COMMON) && terrain.contains(TerrainType.MARKET);
     }
 }
@@ -0,0 +1,113 @@
+package main.world;
+
+import main.utils.Validations;
+
+import java.util.Arrays;
+
+/**
+ * Class TerrainGrid stores the layout of a World: which TerrainType every location has.
+ * Each location takes a single byte, stored in one flat array indexed by row * numCols + col,
+ * so even very large Worlds (e.g. 10,000 x 10,000) fit comfortably in memory.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TerrainGrid {
+    private final int numRows;
+    private final int numCols;
+    private final byte[] terrain;
+
+    /**
+     * Standard constructor. Every location starts out as the passed in TerrainType.
+     * Throws an IllegalArgumentException if either numRows or numCols are negative, or if
+     * the grid would have more locations than can be indexed.
+     * @param numRows the number of rows
+     * @param numCols the number of cols
+     * @param initial the TerrainType every location starts as
+     */
+    public TerrainGrid(int numRows, int numCols, TerrainType initial) {
+        Validations.nonNegative(numRows, "numRows");
+        Validations.nonNegative(numCols, "numCols");
+        if((long)numRows * numCols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A World can have at most " + Integer.MAX_VALUE + " Cells!");
+        }
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.terrain = new byte[numRows * numCols];
+        Arrays.fill(terrain, initial.getCode());
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * @return the number of cols
+     */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /**
+     * Returns the TerrainType at the passed in location
+     * @param row the row in question
+     * @param col the col in question
+     * @return the TerrainType at (row/col)
+     */
+    public TerrainType get(int row, int col) {
+        return TerrainType.fromCode(terrain[row * numCols + col]);
+    }
+
+    /**
+     * Sets the TerrainType at the passed in location
+     * @param row the row in question
+     * @param col the col in question
+     * @param type the new TerrainType at (row/col)
+     */
+    public void set(int row, int col, TerrainType type) {
+        terrain[row * numCols + col] = type.getCode();
+    }
+
+    /**
+     * Sets every location in the passed in row to the passed in TerrainType
+     * @param row the row to fill
+     * @param type the new TerrainType for the row
+     */
+    public void fillRow(int row, TerrainType type) {
+        int start = row * numCols;
+        Arrays.fill(terrain, start, start + numCols, type.getCode());
+    }
+
+    /**
+     * Sets every location in the passed in col to the passed in TerrainType
+     * @param col the col to fill
+     * @param type the new TerrainType for the col
+     */
+    public void fillCol(int col, TerrainType type) {
+        byte code = type.getCode();
+        for(int index = col; index < terrain.length; index += numCols) {
+            terrain[index] = code;
+        }
+    }
+
+    /**
+     * Indicates whether or not any location has the passed in TerrainType
+     * @param type the TerrainType in question
+     * @return true if at least one location is of that type, false otherwise
+     */
+    public boolean contains(TerrainType type) {
+        byte code = type.getCode();
+        for(byte value : terrain) {
+            if(value == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
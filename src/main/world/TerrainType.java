@@ -0,0 +1,181 @@
+package main.world;
+
+/**
+ * Enum TerrainType lists every kind of Cell that a World can be built from.
+ *
+ * Each constant is a shared, stateless flyweight: it knows how its kind of Cell is
+ * drawn and whether it can be entered, without being tied to any particular location.
+ * A World therefore only needs to store one byte per location (see TerrainGrid), and
+ * creates a Cell for a location only when one is asked for via cellAt.
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public enum TerrainType {
+    PLAIN(PlainCell.borderColor, PlainCell.topBorder, PlainCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new PlainCell(row, col);
+        }
+    },
+    BUSH(BushCell.borderColor, BushCell.topBorder, BushCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new BushCell(row, col);
+        }
+    },
+    CAVE(CaveCell.borderColor, CaveCell.topBorder, CaveCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new CaveCell(row, col);
+        }
+    },
+    KOULOU(KoulouCell.borderColor, KoulouCell.topBorder, KoulouCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new KoulouCell(row, col);
+        }
+    },
+    HERO_NEXUS(HeroNexusCell.borderColor, HeroNexusCell.topBorder, HeroNexusCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new HeroNexusCell(row, col);
+        }
+    },
+    MONSTER_NEXUS(MonsterNexusCell.borderColor, MonsterNexusCell.topBorder, MonsterNexusCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new MonsterNexusCell(row, col);
+        }
+    },
+    COMMON(CommonCell.borderColor, CommonCell.topBorder, CommonCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new CommonCell(row, col);
+        }
+    },
+    MARKET(MarketCell.borderColor, MarketCell.topBorder, MarketCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new MarketCell(row, col);
+        }
+    },
+    NON_ACCESSIBLE(NonAccessibleCell.borderColor, NonAccessibleCell.topBorder, NonAccessibleCell.bottomBorder) {
+        @Override
+        public Cell cellAt(int row, int col) {
+            return new NonAccessibleCell(row, col);
+        }
+
+        @Override
+        public boolean isAccessible() {
+            return false;
+        }
+
+        @Override
+        public void appendMiddleRow(StringBuilder builder, World world, int row, int col) {
+            builder.append(NonAccessibleCell.middleRow);
+        }
+    };
+
+    private static final TerrainType[] byCode = values();
+    private final String borderColor;
+    private final String topBorder;
+    private final String bottomBorder;
+
+    TerrainType(String borderColor, String topBorder, String bottomBorder) {
+        this.borderColor = borderColor;
+        this.topBorder = topBorder;
+        this.bottomBorder = bottomBorder;
+    }
+
+    /**
+     * Creates a Cell of this type at the passed in location. The Cell is a view: it holds
+     * the behaviour for entering and exiting, but the World does not keep it around.
+     * @param row the row of the Cell
+     * @param col the col of the Cell
+     * @return a Cell of this type at (row/col)
+     */
+    public abstract Cell cellAt(int row, int col);
+
+    /**
+     * @return true if Legends can ever enter this type of Cell, false otherwise
+     */
+    public boolean isAccessible() {
+        return true;
+    }
+
+    /**
+     * @return the color this type of Cell is drawn in
+     */
+    public String getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * @return the top row of this type of Cell when drawn
+     */
+    public String getTopBorder() {
+        return topBorder;
+    }
+
+    /**
+     * @return the bottom row of this type of Cell when drawn
+     */
+    public String getBottomBorder() {
+        return bottomBorder;
+    }
+
+    /**
+     * Appends the middle row of the Cell of this type at (row/col), which shows any Legends inside it
+     * @param builder where to append the drawn row
+     * @param world the World the Cell belongs to
+     * @param row the row of the Cell
+     * @param col the col of the Cell
+     */
+    public void appendMiddleRow(StringBuilder builder, World world, int row, int col) {
+        world.appendMiddleRow(builder, row, col, borderColor);
+    }
+
+    /**
+     * Appends one of the Cell.numDrawnRows rows of the Cell of this type at (row/col)
+     * @param builder where to append the drawn row
+     * @param drawnRow which row of the Cell to append, from 0 (top) to Cell.numDrawnRows - 1 (bottom)
+     * @param world the World the Cell belongs to
+     * @param row the row of the Cell
+     * @param col the col of the Cell
+     */
+    public void appendDrawnRow(StringBuilder builder, int drawnRow, World world, int row, int col) {
+        switch (drawnRow) {
+            case 0:
+                builder.append(topBorder);
+                break;
+            case 1:
+                appendMiddleRow(builder, world, row, col);
+                break;
+            case 2:
+                builder.append(bottomBorder);
+                break;
+            default:
+                throw new IllegalArgumentException("A Cell only has " + Cell.numDrawnRows + " drawn rows!");
+        }
+    }
+
+    /**
+     * @return the compact code this type is stored as in a TerrainGrid
+     */
+    public byte getCode() {
+        return (byte)ordinal();
+    }
+
+    /**
+     * Returns the TerrainType stored as the passed in code
+     * @param code a code returned by getCode()
+     * @return the corresponding TerrainType
+     */
+    public static TerrainType fromCode(byte code) {
+        return byCode[code];
+    }
+}
@@ -1,48 +1,110 @@
 package main.world;
 
+import main.GameContext;
 import main.attributes.Position;
 import main.legends.*;
 import main.utils.Colors;
-import main.utils.GetUserNumericInput;
+import main.utils.RandomSource;
+import main.utils.Validations;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Represents a world with vertical lanes
  * @author Sandra Zhen
  */
 public class ValorWorld extends World {
+    public static final int attackRange = 1; // Legends can attack anything in an adjacent Cell
     private final int laneWidth = 2;
     private final int numLanes = 3;
     private final int space = 1;
     private int lanesInsertedHero;
-    private int laneTeleportTo;
+    private int laneTeleportTo; // Lane chosen for the next teleport, or -1 if none has been chosen
     private HashMap<Hero,Boolean> teleported;
     private HashMap<Hero,Position> teleportPositions;
-    private HashMap<Integer, Integer> farthestRow;
+    private int[] exploredRow; // per col, the row a Hero last moved up to, or -1 if unexplored
     private int lanesInsertedMonster;
     private HashMap<Hero,Position> spawnPositions;
     private HashMap<Monster,Position> monsterPositions;
+    private OccupancyGrid<Monster> monsterOccupancy;
+    private MonsterLaneIndex monsterLanes;
+    private int heroesInMonstersNexus;
+    private int monstersInHeroesNexus;
+    private List<NexusListener> nexusListeners;
+    private RandomSource random;
 
     private Lane[] lanes;
     /**
      * Standard constructor, builds a Laned World
      * @param worldBuilder class which builds this World
+     * @param context the game this World belongs to, whose roster supplies the Monsters
      */
-    public ValorWorld(WorldBuilder worldBuilder) {
-        super(worldBuilder);
-        lanes = divideIntoLanes(getCells(),numLanes,space);
+    public ValorWorld(WorldBuilder worldBuilder, GameContext context) {
+        super(worldBuilder, context);
+        this.random = context.getRandom();
+        lanes = divideIntoLanes(numLanes,space);
         spawnPositions = new HashMap<>();
         monsterPositions = new HashMap<>();
+        monsterOccupancy = new OccupancyGrid<>(numRows(), numCols());
+        monsterLanes = new MonsterLaneIndex(numLanes);
+        heroesInMonstersNexus = 0;
+        monstersInHeroesNexus = 0;
+        nexusListeners = new ArrayList<>();
         teleported = new HashMap<>();
         teleportPositions = new HashMap<>();
-        farthestRow = new HashMap<>();
+        exploredRow = new int[numCols()];
+        Arrays.fill(exploredRow, -1);
         lanesInsertedHero = 0;
-        laneTeleportTo = 0;
+        laneTeleportTo = -1;
         lanesInsertedMonster=0;
         spawnNewMonsters();
     }
 
+    /**
+     * Copy constructor, builds a World in the same state as the passed in World, but
+     * holding the copies of its Legends. Used to fork a game in progress.
+     * NexusListeners belong to the original game, so they are not copied.
+     * @param other the World to copy
+     * @param context the game the copy belongs to
+     * @param copies the copy of each Legend in the other World, keyed by the original
+     */
+    public ValorWorld(ValorWorld other, GameContext context, Map<Legend, Legend> copies) {
+        super(other, context);
+        this.random = context.getRandom();
+        lanes = other.lanes;
+        spawnPositions = new HashMap<>();
+        monsterPositions = new HashMap<>();
+        monsterOccupancy = new OccupancyGrid<>(numRows(), numCols());
+        monsterLanes = new MonsterLaneIndex(numLanes);
+        heroesInMonstersNexus = 0;
+        monstersInHeroesNexus = 0;
+        nexusListeners = new ArrayList<>();
+        teleported = new HashMap<>();
+        teleportPositions = new HashMap<>();
+        exploredRow = other.exploredRow.clone();
+        lanesInsertedHero = other.lanesInsertedHero;
+        laneTeleportTo = other.laneTeleportTo;
+        lanesInsertedMonster = other.lanesInsertedMonster;
+
+        for(Map.Entry<Hero,Position> entry : other.spawnPositions.entrySet()) {
+            Position position = entry.getValue();
+            spawnPositions.put((Hero)copies.get(entry.getKey()), new Position(position.getRow(), position.getCol()));
+        }
+        for(Map.Entry<Hero,Position> entry : other.teleportPositions.entrySet()) {
+            Hero hero = (Hero)copies.get(entry.getKey());
+            Position position = entry.getValue();
+            teleportPositions.put(hero, new Position(position.getRow(), position.getCol()));
+            teleported.put(hero, true);
+        }
+        for(Map.Entry<Hero,Position> entry : other.heroPositions.entrySet()) {
+            setHeroLocation((Hero)copies.get(entry.getKey()), entry.getValue().getRow(), entry.getValue().getCol());
+        }
+        for(Map.Entry<Monster,Position> entry : other.monsterPositions.entrySet()) {
+            setMonsterLocation((Monster)copies.get(entry.getKey()), entry.getValue().getRow(), entry.getValue().getCol());
+        }
+    }
+
     /**
      * hero can move to next cell if the cell does not have a hero occupied already, is not inaccessible cell and out of bound.
      */
@@ -51,16 +113,16 @@ public class ValorWorld extends World {
         boolean allowed = false;
         switch (direction) {
             case UP:
-                allowed = getHeroRow(hero) > 0 && !isHeroInCell(getCellAt(getHeroRow(hero)-1, getHeroCol(hero))) && !monsterInCellNextToHero(hero);
+                allowed = getHeroRow(hero) > 0 && !isHeroAt(getHeroRow(hero)-1, getHeroCol(hero)) && !monsterInCellNextToHero(hero);
                 break;
             case DOWN:
-                allowed = getHeroRow(hero) < numRows() - 1 && !isHeroInCell(getCellAt(getHeroRow(hero)+1, getHeroCol(hero)));
+                allowed = getHeroRow(hero) < numRows() - 1 && !isHeroAt(getHeroRow(hero)+1, getHeroCol(hero));
                 break;
             case LEFT:
-                allowed = getHeroCol(hero) > 0 && !cellIsNonAccessible(getHeroRow(hero), getHeroCol(hero) - 1) && !isHeroInCell(getCellAt(getHeroRow(hero), getHeroCol(hero)-1));
+                allowed = getHeroCol(hero) > 0 && !cellIsNonAccessible(getHeroRow(hero), getHeroCol(hero) - 1) && !isHeroAt(getHeroRow(hero), getHeroCol(hero)-1);
                 break;
             case RIGHT:
-                allowed = getHeroCol(hero) < numCols() - 1 && !cellIsNonAccessible(getHeroRow(hero), getHeroCol(hero) + 1) && !isHeroInCell(getCellAt(getHeroRow(hero), getHeroCol(hero)+1));;
+                allowed = getHeroCol(hero) < numCols() - 1 && !cellIsNonAccessible(getHeroRow(hero), getHeroCol(hero) + 1) && !isHeroAt(getHeroRow(hero), getHeroCol(hero)+1);;
                 break;
             case TELEPORT:
             	allowed = canTeleport(hero);
@@ -86,20 +148,20 @@ public class ValorWorld extends World {
         int heroCol = getHeroCol(hero);
 
         // check same Cells
-        if(isMonsterInCell(getCellAt(heroRow, heroCol))) {
+        if(isMonsterAt(heroRow, heroCol)) {
             return true;
         }
 
         // Check cell to the left
         if(heroCol > 0) {
-            if(isMonsterInCell(getCellAt(heroRow, heroCol - 1))) {
+            if(isMonsterAt(heroRow, heroCol - 1)) {
                 return true;
             }
         }
 
         // Check cell to the right
         if(heroCol < numCols() - 1) {
-            if(isMonsterInCell(getCellAt(heroRow, heroCol + 1))) {
+            if(isMonsterAt(heroRow, heroCol + 1)) {
                 return true;
             }
         }
@@ -119,7 +181,7 @@ public class ValorWorld extends World {
     	if(!direction.equals(Direction.DOWN)) {
     		throw new RuntimeException("movement direction unsupported");
     	} else {//a monster can only move down and the cell can't have a monster occupied already.
-    		allowed = getMonsterRow(monster) < numRows() - 1 &&  !isMonsterInCell(getCellAt(getMonsterRow(monster)+1,getMonsterCol(monster)));
+    		allowed = getMonsterRow(monster) < numRows() - 1 &&  !isMonsterAt(getMonsterRow(monster)+1,getMonsterCol(monster));
     	}
     	return allowed;
     }
@@ -135,37 +197,54 @@ public class ValorWorld extends World {
     		if(teleported.get(hero)) {
     			int prevRow = teleportPositions.get(hero).getRow();
     			int prevCol = teleportPositions.get(hero).getCol();
-    			if(isHeroInCell(getCellAt(prevRow,prevCol))) {
+    			if(isHeroAt(prevRow,prevCol)) {
     				canTeleport = false;
     			} else {
     				canTeleport = true;					
     			}
     		}    				
     	} else {
-	    	canTeleport = isValidLane(hero);
+	    	canTeleport = isValidLane(hero, laneTeleportTo);
     	}
     	return canTeleport;
     }
     
     /**
-     * check if hero picks a valid lane to teleport to
-     * @param hero
-     * @return
+     * check if hero can teleport to the passed in lane. Hero can only teleport to a different lane.
+     * @param hero the Hero in question
+     * @param lane index of the Lane to teleport to
+     * @return true if the lane exists and the hero is not already in it, false otherwise
      */
-    public boolean isValidLane(Hero hero) {
-    	String failure = "You can only teleport to a different lane.";
-    	String prompt = "which lane would you like to teleport to?";
-		List<String> options = new ArrayList<>(Arrays.asList("Top lane", "Mid lane", "Bot lane"));
-		int choice = new GetUserNumericInput(new Scanner(System.in), prompt, options).run();
-		int heroCol = heroPositions.get(hero).getCol();
-		int lane = choice +1;
-		if(heroCol == (lane*3 - 2) || heroCol == (lane*3 - 3)){
-			System.out.println(failure);
+    public boolean isValidLane(Hero hero, int lane) {
+		if(lane < 0 || lane >= numLanes) {
 			return false;
-		} else {
-			laneTeleportTo = choice;
-			return true;
 		}
+		int heroCol = heroPositions.get(hero).getCol();
+		return !lanes[lane].containsCol(heroCol);
+    }
+
+    /**
+     * choose the lane that the next teleport to a new lane goes to
+     * @param lane index of the Lane to teleport to
+     */
+    public void setTeleportLane(int lane) {
+    	laneTeleportTo = lane;
+    }
+
+    /**
+     * check if hero has teleported away from his lane, meaning his next teleport takes him back
+     * @param hero the Hero in question
+     * @return true if the hero's next teleport is a teleport back, false otherwise
+     */
+    public boolean hasTeleported(Hero hero) {
+    	return teleported.containsKey(hero);
+    }
+
+    /**
+     * @return the number of lanes in this world
+     */
+    public int getNumLanes() {
+    	return numLanes;
     }
     /**
      * Hero teleports to another lane
@@ -207,36 +286,33 @@ public class ValorWorld extends World {
      */
     public void teleportTo(Hero hero) {	
     	Position curPos = heroPositions.get(hero);
-		int targetCol = laneTeleportTo*3;
-		int smallestSeen = Integer.MAX_VALUE;
+		Lane targetLane = lanes[laneTeleportTo];
+		int targetCol = targetLane.getFirstCol();
 		int farthestCol = 0;
 		boolean found = false;
-		for(Integer col : farthestRow.keySet()) {//find the furtherest row of the lane
-			if(col == targetCol || col == targetCol +1 || col == targetCol -1) {
+		for(int col = targetLane.getFirstCol(); col <= targetLane.getLastCol() && !found; col++) {//find the furtherest row of the lane
+			if(exploredRow[col] >= 0) {
 				found = true;
-				if(col <= smallestSeen) {
-					smallestSeen = col;
-					farthestCol = col;
-				}
+				farthestCol = col;
 			}
 		}
 		if(found) {
-	    	int targetRow = farthestRow.get(farthestCol);
+	    	int targetRow = exploredRow[farthestCol];
 			Position monsterPos = getFarthestMonster(farthestCol, targetRow);
 			if(monsterPos!= null) {	
-				if(!isHeroInCell(getCellAt(monsterPos.getRow(),monsterPos.getCol())))//if the monster cell does not have a hero occupied already
+				if(!isHeroAt(monsterPos.getRow(),monsterPos.getCol()))//if the monster cell does not have a hero occupied already
 					this.setHeroLocation(hero, monsterPos.getRow(), monsterPos.getCol());
 				else
 					this.setHeroLocation(hero, monsterPos.getRow()+1, monsterPos.getCol());//back up
 			} else {
-				if(isHeroInCell(getCellAt(targetRow,farthestCol))) {
-					if(farthestCol%2 == 0) {
-						if(!isHeroInCell(getCellAt(targetRow, farthestCol+1)))
+				if(isHeroAt(targetRow,farthestCol)) {
+					if(farthestCol == targetLane.getFirstCol()) {
+						if(!isHeroAt(targetRow, farthestCol+1))
 							this.setHeroLocation(hero, targetRow, farthestCol+1);
 						else //both left cell and right cell have heroes occupied
 							this.setHeroLocation(hero, targetRow+1, farthestCol);//back up
 					} else {
-						if(!isHeroInCell(getCellAt(targetRow, farthestCol-1)))
+						if(!isHeroAt(targetRow, farthestCol-1))
 							this.setHeroLocation(hero, targetRow, farthestCol-1);
 						else //both left cell and right cell have heroes occupied
 							this.setHeroLocation(hero, targetRow+1, farthestCol);//back up
@@ -246,7 +322,7 @@ public class ValorWorld extends World {
 				}
 			}
 		} else {// if no further path has been explored, teleport to nexus of that lane.
-			if(isHeroInCell(getCellAt(this.numRows()-1, targetCol))) {
+			if(isHeroAt(this.numRows()-1, targetCol)) {
 				this.setHeroLocation(hero, this.numRows()-1, targetCol+1);
 			} else {
 				this.setHeroLocation(hero, this.numRows()-1, targetCol);
@@ -254,6 +330,7 @@ public class ValorWorld extends World {
 		}
 		teleportPositions.put(hero, curPos);
     	teleported.put(hero, true);
+    	laneTeleportTo = -1;
     }
     /**
      * Check if there's monster behind the target position. If so, return the farthest Monster position.
@@ -262,40 +339,47 @@ public class ValorWorld extends World {
      * @return
      */
     public Position getFarthestMonster(int targetCol, int targetRow) {
-		int largestSeen = Integer.MIN_VALUE;
-		boolean monsterBehind = false;
-		Position farthestPos = null;
-		for(Position pos : monsterPositions.values()) {
-			if(pos.getCol() == targetCol || pos.getCol() == targetCol+1 || pos.getCol() == targetCol-1) {
-				if(pos.getRow()>targetRow) {
-					monsterBehind = true;
-					if(largestSeen <= pos.getRow()) {
-						largestSeen = pos.getRow();
-						farthestPos = pos;
-					}
-				}
-			}
+		Lane lane = getLane(targetCol);
+		if(lane == null) {
+			return null;
 		}
-		if(monsterBehind) {
-			return farthestPos;
-		} else {
+		int row = monsterLanes.getFarthestRowBehind(lane.getIndex(), targetRow);
+		if(row < 0) {
 			return null;
 		}
+		for(int col = lane.getFirstCol(); col <= lane.getLastCol(); col++) {
+			if(isMonsterAt(row, col)) {
+				return new Position(row, col);
+			}
+		}
+		return null;
+    }
+
+    /**
+     * Returns the row of the Monster that has advanced the farthest (i.e. is lowest on the map) in the passed Lane
+     * @param lane the Lane in question
+     * @return the row of the farthest Monster, or -1 if there are no Monsters in the Lane
+     */
+    public int getFarthestMonsterRow(Lane lane) {
+        return monsterLanes.getFarthestRow(lane.getIndex());
     }
     
     /**
-     * Hero makes a move.
+     * Hero makes a move, if possible.
+     * @param hero the Hero to move
+     * @param direction the direction to move in
+     * @return MOVED if the Hero moved, or else the reason they could not
      */
     @Override
-    public void move(Hero hero, Direction direction) throws InvalidMoveDirection {
+    public MoveResult tryMove(Hero hero, Direction direction) {
     	Cell currCell = getCellAt(getHeroRow(hero), getHeroCol(hero));
         if (!canMove(hero,direction)) {
-            throw new InvalidMoveDirection("Cannot move in this direction!");
+            return MoveResult.BLOCKED;
         }
         switch (direction) {
             case UP:
                 this.setHeroLocation(hero,getHeroRow(hero) - 1, getHeroCol(hero));
-                farthestRow.put(getHeroCol(hero),getHeroRow(hero));
+                exploredRow[getHeroCol(hero)] = getHeroRow(hero);
                 break;
             case DOWN:
                 this.setHeroLocation(hero,getHeroRow(hero) + 1, getHeroCol(hero));
@@ -313,7 +397,7 @@ public class ValorWorld extends World {
             	respawnHero(hero);
             	break;
             default:
-                throw new InvalidMoveDirection("Unknown move direction!");
+                throw new IllegalArgumentException("Unknown move direction!");
     	}
 
         // Now, exit the old cell and enter the new Cell
@@ -321,10 +405,14 @@ public class ValorWorld extends World {
         List<Hero> heroList = new ArrayList<>();
         heroList.add(hero);
         if (!newCell.canEnter(heroList)) {
-            throw new InvalidMoveDirection("Unable to enter the cell!");
+            return MoveResult.CANNOT_ENTER;
         }
         currCell.exit(heroList); 
-        newCell.enter(heroList); // may cause certain events to occur, like entering a Market or starting a Fight.
+        // Visiting the Market in a Hero Nexus is optional, so that is left to whoever plays the Hero (see enterHeroToMarketIfPossible)
+        if(getTerrainAt(getHeroRow(hero), getHeroCol(hero)) != TerrainType.HERO_NEXUS) {
+            newCell.enter(heroList); // may cause certain events to occur, like starting a Fight.
+        }
+        return MoveResult.MOVED;
     }
     
     /**
@@ -334,12 +422,25 @@ public class ValorWorld extends World {
      * @throws InvalidMoveDirection
      */
     public void move(Monster monster, Direction direction) throws InvalidMoveDirection{
-    	if(!canMove(monster, direction)) {
-    		throw new InvalidMoveDirection("Cannot move in this direction!");
+    	MoveResult result = tryMove(monster, direction);
+    	if(!result.succeeded()) {
+    		throw new InvalidMoveDirection(result.getMessage());
     	}
-    	if(direction.equals(Direction.DOWN)) {
-    		setMonsterLocation(monster, getMonsterRow(monster)+1, getMonsterCol(monster));
+    }
+
+    /**
+     * Monster makes a move, if possible. Monster can only move down, and is
+     * blocked by a Monster in the Cell below.
+     * @param monster the Monster to move
+     * @param direction the direction to move in
+     * @return MOVED if the Monster moved, or BLOCKED otherwise
+     */
+    public MoveResult tryMove(Monster monster, Direction direction) {
+    	if(!canMove(monster, direction)) {
+    		return MoveResult.BLOCKED;
     	}
+    	setMonsterLocation(monster, getMonsterRow(monster)+1, getMonsterCol(monster));
+    	return MoveResult.MOVED;
     }
     
     public int getMonsterRow(Monster monster) {
@@ -353,10 +454,9 @@ public class ValorWorld extends World {
     }
     @Override
     protected void placeHero(Hero hero) {
-        int col = lanesInsertedHero * (laneWidth + 1); // plus one accounts for separator between lanes
+        int col = lanes[lanesInsertedHero].getFirstCol();
         int row = this.numRows() - 1;
-        Cell cell = getCellAt(row, col);
-        assert cell instanceof HeroNexusCell;
+        assert getTerrainAt(row, col) == TerrainType.HERO_NEXUS;
 
         // Insert this Hero to this Cell
         setHeroLocation(hero, row, col);
@@ -375,67 +475,92 @@ public class ValorWorld extends World {
      */
     @Override
     public String drawMiddleRow(Cell cell, String color) {
+        StringBuilder builder = new StringBuilder();
+        appendMiddleRow(builder, cell, color);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the middle row for the cell at (row/col) to builder, without allocating.
+     * The Hero is drawn on the left side, and the Monster on the right side.
+     * @param builder where to append the drawn row
+     * @param row the row of the cell to be drawn
+     * @param col the col of the cell to be drawn
+     * @param color the color of the cell
+     */
+    @Override
+    public void appendMiddleRow(StringBuilder builder, int row, int col, String color) {
+        builder.append(color).append('|');
+
         // Draw the Hero on the left side, or empty space if no Hero
-        String leftSide = "  "; // assume two spaces
-        if(isHeroInCell(cell)) {
-            Hero hero = getHeroInCell(cell);
-            leftSide = Colors.ANSI_GREEN + hero.getName().substring(0, 2);
+        Hero hero = getHeroAt(row, col);
+        if(hero != null) {
+            builder.append(Colors.ANSI_GREEN).append(hero.getName(), 0, 2);
+        } else {
+            builder.append("  ");
         }
+        builder.append(' ');
 
         // Draw the Monster on the right side, or empty space if no Monster
-        String rightSide = "  ";
-        if(this.isMonsterInCell(cell)) {
-            Monster monster = getMonsterInCell(cell);
-            if(monster != null) {
-                rightSide = Colors.ANSI_RED + monster.getName().substring(0, 2);
-            }
+        Monster monster = getMonsterAt(row, col);
+        if(monster != null) {
+            builder.append(Colors.ANSI_RED).append(monster.getName(), 0, 2);
+        } else {
+            builder.append("  ");
         }
 
-        return color + "|" +
-                leftSide +
-                " " +
-                rightSide +
-                color + "| "
-                + Colors.ANSI_RESET;
+        builder.append(color).append("| ").append(Colors.ANSI_RESET);
     }
 
 
     /**
      * Divides world into n lanes, with space between each lane
-     * @param cells - board of cells to divide into lanes
      * @param numLanes - number of lanes to divide world into
      * @param space - number of cells between each lane
      * @return array of lanes
      */
-    public Lane[] divideIntoLanes(Cell [][] cells,int numLanes,int space){
-        int laneColStart = 0;
+    public Lane[] divideIntoLanes(int numLanes,int space){
         Lane[] lanes = new Lane[numLanes];
         for(int i =0;i<lanes.length;i++){
-            lanes[i] = new Lane();
-            for(int row = 0; row<cells.length;row++){ //add each row of the cell board to the lane
-                for(int j = laneColStart;j<Math.min(laneColStart+laneWidth,cells[0].length);j++){
-                    lanes[i].addCell(cells[row][j]);
-                }
-            }
-
-            laneColStart+=laneWidth+space;
+            int laneColStart = i * (laneWidth + space);
+            int width = Math.max(0, Math.min(laneWidth, numCols() - laneColStart)); // the last lane may be cut off by the edge of the World
+            lanes[i] = new Lane(i, laneColStart, width, numRows());
         }
 
         return lanes;
     }
 
+    /**
+     * @return the lanes of this World, from left to right
+     */
+    public Lane[] getLanes() {
+        return lanes;
+    }
+
     /**
      * Returns lane that this cell belongs to
-     * @param cell
-     * @return
+     * @param cell the Cell in question
+     * @return the Lane containing the Cell, or null if it is between lanes
      */
-    private Lane getLane(Cell cell){
-        for(int i = 0; i<lanes.length;i++){
-            if(lanes[i].contains(cell)){
-                return lanes[i];
-            }
+    public Lane getLane(Cell cell){
+        return getLane(cell.getCol());
+    }
+
+    /**
+     * Returns the lane that the passed in col belongs to. Computed directly from the col,
+     * since every lane is laneWidth cols wide and separated by space cols.
+     * @param col the col in question
+     * @return the Lane containing the col, or null if the col is between lanes or outside of the World
+     */
+    public Lane getLane(int col){
+        if(col < 0) {
+            return null;
         }
-        return null;
+        int index = col / (laneWidth + space);
+        if(index >= lanes.length || !lanes[index].containsCol(col)) {
+            return null;
+        }
+        return lanes[index];
     }
     
     /**
@@ -445,7 +570,7 @@ public class ValorWorld extends World {
      */
     public boolean canGoBack(Hero hero) {
     	Position position = spawnPositions.get(hero);
-        if(isHeroInCell(getCellAt(position.getRow(),position.getCol()))) {
+        if(isHeroAt(position.getRow(),position.getCol())) {
         	return false;
         }
         return true;
@@ -457,7 +582,7 @@ public class ValorWorld extends World {
      */
     public void respawnHero(Hero hero){
         Position position = spawnPositions.get(hero);
-        heroPositions.put(hero, position);
+        setHeroLocation(hero, position.getRow(), position.getCol());
     }
     /**
      * Sets the Monster location
@@ -467,14 +592,60 @@ public class ValorWorld extends World {
      */
     public void setMonsterLocation(Monster monster,int row, int col) {
         checkValidity(row, col);
-        monsterPositions.put(monster,new Position(row,col));
+        Position previous = monsterPositions.put(monster,new Position(row,col));
+        if(previous != null) {
+            vacateMonsterCell(monster, previous);
+        }
+        monsterOccupancy.add(row, col, monster);
+        Lane lane = getLane(col);
+        if(lane != null) {
+            monsterLanes.add(lane.getIndex(), row);
+        }
+
+        // Keep track of Monsters reaching the Heroes' Nexus, so checking for a winner is constant time
+        if(previous != null && getTerrainAt(previous.getRow(), previous.getCol()) == TerrainType.HERO_NEXUS) {
+            monstersInHeroesNexus--;
+        }
+        if(getTerrainAt(row, col) == TerrainType.HERO_NEXUS) {
+            monstersInHeroesNexus++;
+            for(NexusListener listener : nexusListeners) {
+                listener.monsterReachedHeroesNexus(monster);
+            }
+        }
+        markDirty(row, col);
+    }
+
+    /**
+     * Helper function which removes the passed in Monster from the occupancy index
+     * at their previous Position. If another Monster shares that Cell, it takes over
+     * the Cell's slot.
+     * @param monster the Monster that is leaving
+     * @param previous the Position the Monster is leaving
+     */
+    private void vacateMonsterCell(Monster monster, Position previous) {
+        int row = previous.getRow();
+        int col = previous.getCol();
+        markDirty(row, col);
+        Lane lane = getLane(col);
+        if(lane != null) {
+            monsterLanes.remove(lane.getIndex(), row);
+        }
+        if(monsterOccupancy.remove(row, col, monster)) {
+            for (Map.Entry<Monster,Position> entry : monsterPositions.entrySet()) {
+                Position position = entry.getValue();
+                if(entry.getKey() != monster && position.getRow() == row && position.getCol() == col) {
+                    monsterOccupancy.refill(row, col, entry.getKey());
+                    break;
+                }
+            }
+        }
     }
     /**
      * Spawns new monsters in valor world
      * @return list of spawned monsters
      */
     public List<Monster> spawnNewMonsters(){
-        List<Monster > monsterList = LegendList.getInstance().getActiveMonsters();
+        List<Monster > monsterList = getContext().getRoster().getActiveMonsters();
         List<Monster> monsters = new ArrayList<>();
         for(int i = 0; i<monsterList.size();i++){
             int col = 0; // +1 accounts for separate between lanes
@@ -483,9 +654,12 @@ public class ValorWorld extends World {
             monster = monsterList.get(i);
             Cell emptyMonsterNexus=null;
             do{
-                col = lanesInsertedMonster * (laneWidth + space);
+                if(lanesInsertedMonster >= this.numLanes) {
+                    lanesInsertedMonster = 0;
+                }
+                col = lanes[lanesInsertedMonster].getFirstCol();
                 //spawn in one of the columns of the lane randomly
-                col+=new Random().nextInt(laneWidth);
+                col+=random.nextInt(lanes[lanesInsertedMonster].getWidth());
 
                 emptyMonsterNexus = getEmptyMonsterNexusCell(col);
                 lanesInsertedMonster++;
@@ -507,8 +681,8 @@ public class ValorWorld extends World {
 
         // spawn in one of the columns of the lane randomly
         int row = 0;
-        int col = lanesInsertedMonster * (laneWidth + space);
-        col += new Random().nextInt(laneWidth);
+        int col = lanes[lanesInsertedMonster].getFirstCol();
+        col += random.nextInt(lanes[lanesInsertedMonster].getWidth());
         setMonsterLocation(monster, row, col);
 
         lanesInsertedMonster++;
@@ -519,7 +693,13 @@ public class ValorWorld extends World {
      * @param monster the dead Monster
      */
     public void removeDeadMonster(Monster monster) {
-        monsterPositions.remove(monster);
+        Position position = monsterPositions.remove(monster);
+        if(position != null) {
+            vacateMonsterCell(monster, position);
+            if(getTerrainAt(position.getRow(), position.getCol()) == TerrainType.HERO_NEXUS) {
+                monstersInHeroesNexus--;
+            }
+        }
     }
 
 
@@ -529,12 +709,11 @@ public class ValorWorld extends World {
      * @return
      */
     private Cell getEmptyMonsterNexusCell(int col){
-        if(col<0||col>=getCells()[0].length)return null;
-        Cell[][] cells = getCells();
-        for(int i = 0; i<cells.length;i++){
-            if(cells[i][col] instanceof MonsterNexusCell) {
-                if (!isMonsterInCell(cells[i][col])) {
-                    return cells[i][col];
+        if(col<0||col>=numCols())return null;
+        for(int i = 0; i<numRows();i++){
+            if(getTerrainAt(i, col) == TerrainType.MONSTER_NEXUS) {
+                if (!isMonsterAt(i, col)) {
+                    return getCellAt(i, col);
                 }
             }
         }
@@ -550,27 +729,27 @@ public class ValorWorld extends World {
     private boolean isMonsterInRange(Position position,int range){
 
         //check up direction
-        for(int i = position.getRow(); i<=Math.min(position.getRow()+range,getCells().length-1);i++){
-            if(isMonsterInCell(getCellAt(i,position.getCol()))){
+        for(int i = position.getRow(); i<=Math.min(position.getRow()+range,numRows()-1);i++){
+            if(isMonsterAt(i,position.getCol())){
                 return true;
             }
         }
         //check down direction
         for(int i = position.getRow(); i>=Math.max(position.getRow()-range,0);i--){
-            if(isMonsterInCell(getCellAt(i,position.getCol()))){
+            if(isMonsterAt(i,position.getCol())){
                 return true;
             }
         }
 
         //check left
         for(int i = position.getCol(); i>=Math.max(position.getCol()-range,0);i--){
-            if(isMonsterInCell(getCellAt(position.getRow(),i))){
+            if(isMonsterAt(position.getRow(),i)){
                 return true;
             }
         }
         //check right
-        for(int i = position.getCol(); i<=Math.min(position.getCol()+range,getCells()[0].length-1);i++){
-            if(isMonsterInCell(getCellAt(position.getRow(),i))){
+        for(int i = position.getCol(); i<=Math.min(position.getCol()+range,numCols()-1);i++){
+            if(isMonsterAt(position.getRow(),i)){
                 return true;
             }
         }
@@ -586,13 +765,17 @@ public class ValorWorld extends World {
      * @return true if there is Monster present in the Cell, false otherwise
      */
     public boolean isMonsterInCell(Cell cell) {
-        for (Map.Entry<Monster,Position> entry : monsterPositions.entrySet()) {
-            Position position = entry.getValue();
-            if(cell.hasPosition(position)) {
-                return true;
-            }
-        }
-        return false;
+        return isMonsterAt(cell.getRow(), cell.getCol());
+    }
+
+    /**
+     * Indicates whether or not there is a Monster at the passed in location
+     * @param row the row in question
+     * @param col the col in question
+     * @return true if there is a Monster at (row/col), false otherwise
+     */
+    public boolean isMonsterAt(int row, int col) {
+        return monsterOccupancy.isOccupied(row, col);
     }
 
     /**
@@ -601,17 +784,17 @@ public class ValorWorld extends World {
      * @return Monster in the passed Cell, or null if none
      */
     public Monster getMonsterInCell(Cell cell) {
-        if(!isMonsterInCell(cell)) {
-            return null;
-        }
+        return getMonsterAt(cell.getRow(), cell.getCol());
+    }
 
-        for (Map.Entry<Monster,Position> entry : monsterPositions.entrySet()) {
-            Position position = entry.getValue();
-            if(cell.hasPosition(position)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+    /**
+     * Returns the Monster at the passed in location, or null if there are none
+     * @param row the row in question
+     * @param col the col in question
+     * @return a Monster at (row/col), or null if none
+     */
+    public Monster getMonsterAt(int row, int col) {
+        return monsterOccupancy.get(row, col);
     }
 
     /**
@@ -623,25 +806,7 @@ public class ValorWorld extends World {
      */
     public List<Hero> getHeroesInRange(Monster monster) {
         List<Hero> inRange = new ArrayList<>();
-        int monsterRow = getMonsterRow(monster);
-        int monsterCol = getMonsterCol(monster);
-
-        for(int row = -1; row <= 1; row++) {
-            for(int col = -1; col <= 1; col++) {
-                int relevantRow = monsterRow + row;
-                int relevantCol = monsterCol + col;
-                Position position = new Position(relevantRow, relevantCol);
-                if(isPositionValid(position)) {
-                    // Check if there is a Hero in this Cell
-                    Cell cell = getCellAt(relevantRow, relevantCol);
-                    Hero hero = getHeroInCell(cell);
-                    if(hero != null) {
-                        inRange.add(hero);
-                    }
-                }
-            }
-        }
-
+        forEachHeroInRange(monster, attackRange, inRange::add);
         return inRange;
     }
 
@@ -654,26 +819,158 @@ public class ValorWorld extends World {
      */
     public List<Monster> getMonstersInRange(Hero hero) {
         List<Monster> inRange = new ArrayList<>();
+        forEachMonsterInRange(hero, attackRange, inRange::add);
+        return inRange;
+    }
+
+    /**
+     * Calls the passed in visitor once for every Hero within radius Cells of the passed
+     * in Monster, in any direction (including diagonals). Heroes are visited row by row,
+     * starting from the top left of the neighbourhood. Nothing is allocated by this method.
+     * @param monster the Monster in question
+     * @param radius how many Cells away from the Monster to look
+     * @param visitor called with each Hero in range
+     */
+    public void forEachHeroInRange(Monster monster, int radius, Consumer<Hero> visitor) {
+        int monsterRow = getMonsterRow(monster);
+        int monsterCol = getMonsterCol(monster);
+        int firstRow = firstInRange(monsterRow, radius);
+        int lastRow = lastInRange(monsterRow, radius, numRows());
+        int firstCol = firstInRange(monsterCol, radius);
+        int lastCol = lastInRange(monsterCol, radius, numCols());
+        for(int row = firstRow; row <= lastRow; row++) {
+            for(int col = firstCol; col <= lastCol; col++) {
+                Hero hero = getHeroAt(row, col);
+                if(hero != null) {
+                    visitor.accept(hero);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the passed in visitor once for every Monster within radius Cells of the passed
+     * in Hero, in any direction (including diagonals). Monsters are visited row by row,
+     * starting from the top left of the neighbourhood. Nothing is allocated by this method.
+     * @param hero the Hero in question
+     * @param radius how many Cells away from the Hero to look
+     * @param visitor called with each Monster in range
+     */
+    public void forEachMonsterInRange(Hero hero, int radius, Consumer<Monster> visitor) {
         int heroRow = getHeroRow(hero);
         int heroCol = getHeroCol(hero);
+        int firstRow = firstInRange(heroRow, radius);
+        int lastRow = lastInRange(heroRow, radius, numRows());
+        int firstCol = firstInRange(heroCol, radius);
+        int lastCol = lastInRange(heroCol, radius, numCols());
+        for(int row = firstRow; row <= lastRow; row++) {
+            for(int col = firstCol; col <= lastCol; col++) {
+                Monster monster = getMonsterAt(row, col);
+                if(monster != null) {
+                    visitor.accept(monster);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first Hero within radius Cells of the passed in Monster, using the
+     * same visiting order as forEachHeroInRange. Nothing is allocated by this method.
+     * @param monster the Monster in question
+     * @param radius how many Cells away from the Monster to look
+     * @return the first Hero in range, or null if there are none
+     */
+    public Hero firstHeroInRange(Monster monster, int radius) {
+        int monsterRow = getMonsterRow(monster);
+        int monsterCol = getMonsterCol(monster);
+        int firstRow = firstInRange(monsterRow, radius);
+        int lastRow = lastInRange(monsterRow, radius, numRows());
+        int firstCol = firstInRange(monsterCol, radius);
+        int lastCol = lastInRange(monsterCol, radius, numCols());
+        for(int row = firstRow; row <= lastRow; row++) {
+            for(int col = firstCol; col <= lastCol; col++) {
+                Hero hero = getHeroAt(row, col);
+                if(hero != null) {
+                    return hero;
+                }
+            }
+        }
+        return null;
+    }
 
-        for(int row = -1; row <= 1; row++) {
-            for(int col = -1; col <= 1; col++) {
-                int relevantRow = heroRow + row;
-                int relevantCol = heroCol + col;
-                Position position = new Position(relevantRow, relevantCol);
-                if(isPositionValid(position)) {
-                    // Check if there is a Hero in this Cell
-                    Cell cell = getCellAt(relevantRow, relevantCol);
-                    Monster monster = getMonsterInCell(cell);
-                    if(monster != null) {
-                        inRange.add(monster);
-                    }
+    /**
+     * Counts the Heroes within radius Cells of the passed in Monster.
+     * Nothing is allocated by this method.
+     * @param monster the Monster in question
+     * @param radius how many Cells away from the Monster to look
+     * @return the number of Heroes in range
+     */
+    public int countHeroesInRange(Monster monster, int radius) {
+        int monsterRow = getMonsterRow(monster);
+        int monsterCol = getMonsterCol(monster);
+        int firstRow = firstInRange(monsterRow, radius);
+        int lastRow = lastInRange(monsterRow, radius, numRows());
+        int firstCol = firstInRange(monsterCol, radius);
+        int lastCol = lastInRange(monsterCol, radius, numCols());
+        int count = 0;
+        for(int row = firstRow; row <= lastRow; row++) {
+            for(int col = firstCol; col <= lastCol; col++) {
+                if(isHeroAt(row, col)) {
+                    count++;
                 }
             }
         }
+        return count;
+    }
 
-        return inRange;
+    /**
+     * Counts the Monsters within radius Cells of the passed in Hero.
+     * Nothing is allocated by this method.
+     * @param hero the Hero in question
+     * @param radius how many Cells away from the Hero to look
+     * @return the number of Monsters in range
+     */
+    public int countMonstersInRange(Hero hero, int radius) {
+        int heroRow = getHeroRow(hero);
+        int heroCol = getHeroCol(hero);
+        int firstRow = firstInRange(heroRow, radius);
+        int lastRow = lastInRange(heroRow, radius, numRows());
+        int firstCol = firstInRange(heroCol, radius);
+        int lastCol = lastInRange(heroCol, radius, numCols());
+        int count = 0;
+        for(int row = firstRow; row <= lastRow; row++) {
+            for(int col = firstCol; col <= lastCol; col++) {
+                if(isMonsterAt(row, col)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Helper function which returns the first row (or col) within radius of the passed in
+     * one, clamped to the edge of this World
+     * @param centre the row (or col) in question
+     * @param radius how many Cells away to look
+     * @return the first row (or col) in range
+     */
+    private static int firstInRange(int centre, int radius) {
+        Validations.nonNegative(radius, "radius");
+        return Math.max(centre - radius, 0);
+    }
+
+    /**
+     * Helper function which returns the last row (or col) within radius of the passed in
+     * one, clamped to the edge of this World
+     * @param centre the row (or col) in question
+     * @param radius how many Cells away to look
+     * @param size the number of rows (or cols) in this World
+     * @return the last row (or col) in range
+     */
+    private static int lastInRange(int centre, int radius, int size) {
+        Validations.nonNegative(radius, "radius");
+        return Math.min(centre + radius, size - 1);
     }
 
     /**
@@ -681,13 +978,7 @@ public class ValorWorld extends World {
      * @return true if a Hero made it to a Monster's nexus, false otherwise
      */
     public boolean heroInMonstersNexus() {
-        for(Map.Entry<Hero, Position> entry : heroPositions.entrySet()) {
-            Cell cell = getCellAt(entry.getValue().getRow(), entry.getValue().getCol());
-            if(cell instanceof MonsterNexusCell) {
-                return true;
-            }
-        }
-        return false;
+        return heroesInMonstersNexus > 0;
     }
 
     /**
@@ -695,13 +986,62 @@ public class ValorWorld extends World {
      * @return true if a Monster made it a Hero's nexus, false otherwise
      */
     public boolean monsterInHeroesNexus() {
-        for(Map.Entry<Monster, Position> entry : monsterPositions.entrySet()) {
-            Cell cell = getCellAt(entry.getValue().getRow(), entry.getValue().getCol());
-            if(cell instanceof HeroNexusCell) {
-                return true;
+        return monstersInHeroesNexus > 0;
+    }
+
+    /**
+     * Indicates whether or not the game played in this World is over, because either side
+     * has reached the other's Nexus. Kept up to date as Legends move, so this is constant time.
+     * @return true if a Hero is in the Monsters' Nexus or a Monster is in the Heroes' Nexus, false otherwise
+     */
+    public boolean isGameOver() {
+        return heroInMonstersNexus() || monsterInHeroesNexus();
+    }
+
+    /**
+     * Registers a listener that is notified as soon as a Legend reaches the opposing Nexus
+     * @param listener the NexusListener to notify
+     */
+    public void addNexusListener(NexusListener listener) {
+        nexusListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying the passed in listener
+     * @param listener the NexusListener to remove
+     */
+    public void removeNexusListener(NexusListener listener) {
+        nexusListeners.remove(listener);
+    }
+
+    /**
+     * Keeps track of Heroes reaching the Monsters' Nexus as they move
+     * @param hero the Hero that moved
+     * @param previous the Position the Hero came from, or null if they were just placed
+     * @param row the new row of the Hero
+     * @param col the new col of the Hero
+     */
+    @Override
+    protected void heroLocationChanged(Hero hero, Position previous, int row, int col) {
+        if(previous != null && getTerrainAt(previous.getRow(), previous.getCol()) == TerrainType.MONSTER_NEXUS) {
+            heroesInMonstersNexus--;
+        }
+        if(getTerrainAt(row, col) == TerrainType.MONSTER_NEXUS) {
+            heroesInMonstersNexus++;
+            for(NexusListener listener : nexusListeners) {
+                listener.heroReachedMonstersNexus(hero);
             }
         }
-        return false;
+    }
+
+    /**
+     * Indicates whether or not the passed in Hero is in their Nexus, where the Market is.
+     * @param hero the Hero in question
+     * @return true if the Hero is in a Hero Nexus cell, false otherwise
+     */
+    public boolean isHeroInNexus(Hero hero) {
+        Position position = heroPositions.get(hero);
+        return getTerrainAt(position.getRow(), position.getCol()) == TerrainType.HERO_NEXUS;
     }
 
     /**
@@ -715,4 +1055,124 @@ public class ValorWorld extends World {
             cell.enter(Collections.singletonList(hero));
         }
     }
+
+    /**
+     * Captures where every Legend is, and the rest of this World's changing state, so
+     * that the World can later be put back exactly as it is now with restoreState().
+     * @return the captured State
+     */
+    public State saveState() {
+        State state = new State();
+        int numHeroes = heroPositions.size();
+        state.heroes = new Hero[numHeroes];
+        state.heroCells = new int[numHeroes];
+        state.teleportCells = new int[numHeroes];
+        int i = 0;
+        for(Map.Entry<Hero,Position> entry : heroPositions.entrySet()) {
+            Hero hero = entry.getKey();
+            state.heroes[i] = hero;
+            state.heroCells[i] = cellIndex(entry.getValue());
+            Position teleportPosition = teleportPositions.get(hero);
+            state.teleportCells[i] = teleportPosition == null ? -1 : cellIndex(teleportPosition);
+            i++;
+        }
+
+        int numMonsters = monsterPositions.size();
+        state.monsters = new Monster[numMonsters];
+        state.monsterCells = new int[numMonsters];
+        i = 0;
+        for(Map.Entry<Monster,Position> entry : monsterPositions.entrySet()) {
+            state.monsters[i] = entry.getKey();
+            state.monsterCells[i] = cellIndex(entry.getValue());
+            i++;
+        }
+
+        state.exploredRow = exploredRow.clone();
+        state.laneTeleportTo = laneTeleportTo;
+        state.lanesInsertedMonster = lanesInsertedMonster;
+        return state;
+    }
+
+    /**
+     * Puts this World back to the passed in State. Monsters that were spawned since the
+     * State was saved are taken off the board, and Monsters that have died since are put back.
+     * Nothing really moves, so NexusListeners are not notified: positions, occupancy and
+     * the Lane index are written directly.
+     * @param state a State saved from this World
+     */
+    public void restoreState(State state) {
+        int[] heroRows = new int[state.heroes.length];
+        int[] heroCols = new int[state.heroes.length];
+        teleported.clear();
+        teleportPositions.clear();
+        heroesInMonstersNexus = 0;
+        for(int i = 0; i < state.heroes.length; i++) {
+            Hero hero = state.heroes[i];
+            int cell = state.heroCells[i];
+            heroRows[i] = cell / numCols();
+            heroCols[i] = cell % numCols();
+            if(getTerrainAt(heroRows[i], heroCols[i]) == TerrainType.MONSTER_NEXUS) {
+                heroesInMonstersNexus++;
+            }
+            int teleportCell = state.teleportCells[i];
+            if(teleportCell >= 0) {
+                teleportPositions.put(hero, new Position(teleportCell / numCols(), teleportCell % numCols()));
+                teleported.put(hero, true);
+            }
+        }
+        restoreHeroLocations(state.heroes, heroRows, heroCols);
+
+        monsterPositions.clear();
+        monsterOccupancy.clear();
+        monsterLanes.clear();
+        monstersInHeroesNexus = 0;
+        for(int i = 0; i < state.monsters.length; i++) {
+            Monster monster = state.monsters[i];
+            int row = state.monsterCells[i] / numCols();
+            int col = state.monsterCells[i] % numCols();
+            monsterPositions.put(monster, new Position(row, col));
+            monsterOccupancy.add(row, col, monster);
+            Lane lane = getLane(col);
+            if(lane != null) {
+                monsterLanes.add(lane.getIndex(), row);
+            }
+            if(getTerrainAt(row, col) == TerrainType.HERO_NEXUS) {
+                monstersInHeroesNexus++;
+            }
+        }
+        System.arraycopy(state.exploredRow, 0, exploredRow, 0, exploredRow.length);
+        laneTeleportTo = state.laneTeleportTo;
+        lanesInsertedMonster = state.lanesInsertedMonster;
+    }
+
+    /**
+     * Helper function which flattens a Position into a single index
+     * @param position the Position in question
+     * @return row * numCols + col
+     */
+    private int cellIndex(Position position) {
+        return position.getRow() * numCols() + position.getCol();
+    }
+
+    /**
+     * Class State is the changing part of a ValorWorld at some point in a game. Positions are
+     * kept as flat cell indices in parallel arrays, so a State is cheap to save and to restore.
+     * A State can only be restored to the World it was saved from.
+     */
+    public static class State {
+        private Hero[] heroes;
+        private int[] heroCells;
+        private int[] teleportCells; // cell each Hero teleported from, or -1 if they have not teleported
+        private Monster[] monsters;
+        private int[] monsterCells;
+        private int[] exploredRow;
+        private int laneTeleportTo;
+        private int lanesInsertedMonster;
+
+        /**
+         * Only a ValorWorld creates a State
+         */
+        private State() {
+        }
+    }
 }
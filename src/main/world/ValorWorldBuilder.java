@@ -5,10 +5,9 @@ package main.world;
  * and inaccessible cells every blockIndex-th column
  */
 
+import main.utils.RandomSource;
 import main.utils.Validations;
 
-import java.util.Random;
-
 public class ValorWorldBuilder extends WorldBuilder{
     private final int blockIndex = 3;//tracks the columns of inaccessible cells. Every blockIndex-th column is all inaccessible cells
 
@@ -47,70 +46,63 @@ public class ValorWorldBuilder extends WorldBuilder{
         }
     }
     private ValorWorldDistribution valorWorldDistribution;
+    private RandomSource random;
     public ValorWorldBuilder(int numRows, int numCols,ValorWorldDistribution valorWorldDistribution) {
+        this(numRows, numCols, valorWorldDistribution, RandomSource.getDefault().split());
+    }
+    public ValorWorldBuilder(int numRows, int numCols,ValorWorldDistribution valorWorldDistribution,RandomSource random) {
         super(numRows, numCols);
         this.valorWorldDistribution = valorWorldDistribution;
+        this.random = random;
     }
 
     @Override
-    public Cell[][] build() {
+    public TerrainGrid build() {
         //generate board of random valor cells
-        Cell[][] cells = new Cell[this.getNumRows()][this.getNumCols()];
+        TerrainGrid terrain = new TerrainGrid(this.getNumRows(), this.getNumCols(), TerrainType.PLAIN);
         for(int i = 0; i < this.getNumRows(); i++) {
             for(int j = 0; j < this.getNumCols(); j++) {
-
-                cells[i][j] = generateRandomValorCell(i,j);
+                terrain.set(i, j, generateRandomValorTerrain());
             }
         }
         //replace first row with monster nexus cells
-        int row = 0;
-        for(int i = 0; i<cells[0].length;i++){
-            cells[row][i] = new MonsterNexusCell(row,i);
-        }
+        terrain.fillRow(0, TerrainType.MONSTER_NEXUS);
         //replace last row with hero nexus cells
-        row = cells.length - 1;
-        for(int i = 0; i<cells[0].length;i++){
-            cells[row][i] = new HeroNexusCell(row,i);
-        }
+        terrain.fillRow(this.getNumRows() - 1, TerrainType.HERO_NEXUS);
         //create columns of inaccessible cells
-        for(int r = 0; r<cells.length;r++) {
-            for (int i = blockIndex - 1; i < cells[0].length; i += blockIndex) {//nonaccess for every blockIndex-th cell of row
-                cells[r][i] = new NonAccessibleCell(r, i);
-            }
+        for (int i = blockIndex - 1; i < this.getNumCols(); i += blockIndex) {//nonaccess for every blockIndex-th cell of row
+            terrain.fillCol(i, TerrainType.NON_ACCESSIBLE);
         }
 
-        return cells;
+        return terrain;
     }
 
     /**
-     * generates random valor cell at position (i,j)
-     * @param i - row to generate cell in
-     * @param j - col to generate cell in
-     * @return generated cell
+     * generates a random valor terrain type
+     * @return generated terrain type
      */
-    private Cell generateRandomValorCell(int i, int j){
-        Random random = new Random();
+    private TerrainType generateRandomValorTerrain(){
         int bushCellCutoff = valorWorldDistribution.getchanceOfBushCells();
         int plainCellCutoff = valorWorldDistribution.getchanceOfPlainCells()+bushCellCutoff;
         int caveCellCutoff = valorWorldDistribution.getchanceOfCaveCells()+plainCellCutoff;
         int chance = random.nextInt(101);
-        Cell cell;
+        TerrainType type;
         if(chance <= bushCellCutoff) {
-            cell = new BushCell(i, j);
+            type = TerrainType.BUSH;
         }
         else if (chance <= plainCellCutoff) {
-            cell = new PlainCell(i, j);
+            type = TerrainType.PLAIN;
         }
         else if (chance <= caveCellCutoff) {
-            cell = new CaveCell(i, j);
+            type = TerrainType.CAVE;
         } else {
-            cell = new KoulouCell(i, j);
+            type = TerrainType.KOULOU;
         }
-        return cell;
+        return type;
     }
 
     @Override
-    public boolean builtSuccessfulWorld(Cell[][] cells) {
+    public boolean builtSuccessfulWorld(TerrainGrid terrain) {
         return true;
     }
 }
@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.Scanner;
 import main.attributes.Position;
 import main.legends.Hero;
-import main.legends.LegendList;
 import main.utils.GetUserCommand;
 import main.utils.GetUserListNumericalInput;
 import main.utils.GetUserNumericInput;
@@ -20,7 +19,7 @@ public class ValorWorldInteraction extends WorldInteraction{
 		// TODO Auto-generated constructor stub
 		super(valorWorld);
 		this.valorWorld = valorWorld;
-		chosenHeroes = LegendList.getInstance().getChosenHeroes();
+		chosenHeroes = valorWorld.getContext().getRoster().getChosenHeroes();
 	}
 	
 	public void run() {
@@ -31,7 +30,7 @@ public class ValorWorldInteraction extends WorldInteraction{
 	            UserCommand command = new GetUserCommand().run();
 	            switch (command) {
 	                case INFO:
-	                    Output.displayNominalInformation(LegendList.getInstance().getChosenHeroes());
+	                    Output.displayNominalInformation(valorWorld.getContext().getRoster().getChosenHeroes());
 	                case UP:
 	                    attemptMove(hero, Direction.UP);
 	                    break;
@@ -63,13 +62,7 @@ public class ValorWorldInteraction extends WorldInteraction{
 	
 	 private void attemptMove(Hero hero, Direction direction) {//same as super() except for adding Hero hero as parameter;
 	        String failure = "Unable to move " + direction + "! Please enter a different move.";
-	        if(valorWorld.canMove(hero, direction)) {
-	            try {
-	                valorWorld.move(hero, direction);
-	            } catch (InvalidMoveDirection e) {
-	                System.out.println(failure);
-	            }
-	        } else {
+	        if(!valorWorld.tryMove(hero, direction).succeeded()) {
 	            System.out.println(failure);
 	        }
 	 }
@@ -1,9 +1,9 @@
 package main.world;
 
+import main.GameContext;
 import main.attributes.Position;
 import main.fight.Fight;
 import main.legends.Hero;
-import main.legends.LegendList;
 import main.utils.Colors;
 import main.utils.Validations;
 
@@ -14,7 +14,8 @@ import java.util.Map;
 
 /**
  * Class World represents the world. It is composed of a series of Cells, and allows
- * Heroes to move throughout.
+ * Heroes to move throughout. The layout of the Cells is stored compactly in a TerrainGrid,
+ * and a Cell is only created when one is asked for.
  *
  * @author: Nathan Lauer
  * @email: lauern@bu.edu
@@ -23,51 +24,112 @@ import java.util.Map;
  * Please feel free to ask me any questions. I hope you're having a nice day!
  */
 public abstract class World implements Drawable {
-    private final Cell[][] cells;
+    private final GameContext context;
+    private final TerrainGrid terrain;
     protected HashMap<Hero, Position> heroPositions;
+    private final OccupancyGrid<Hero> heroOccupancy;
+    private final DirtyCells dirtyCells;
     private Fight fight;
 
     /**
      * Standard constructor, builds a World of the passed in size.
      *
      * @param worldBuilder class which builds this World
+     * @param context the game this World belongs to
      */
-    public World(WorldBuilder worldBuilder) {
-        this.cells = worldBuilder.run();
+    public World(WorldBuilder worldBuilder, GameContext context) {
+        this.context = context;
+        this.terrain = worldBuilder.run();
         heroPositions = new HashMap<>();
+        heroOccupancy = new OccupancyGrid<>(numRows(), numCols());
+        dirtyCells = new DirtyCells(numRows(), numCols());
+    }
+
+    /**
+     * Copy constructor, which builds an empty World on the same terrain as the passed in World.
+     * The terrain never changes once built, so it is shared rather than copied. Subclasses
+     * are responsible for placing copies of the other World's Legends.
+     *
+     * @param other the World to copy the terrain of
+     * @param context the game the copy belongs to
+     */
+    protected World(World other, GameContext context) {
+        this.context = context;
+        this.terrain = other.terrain;
+        heroPositions = new HashMap<>();
+        heroOccupancy = new OccupancyGrid<>(numRows(), numCols());
+        dirtyCells = new DirtyCells(numRows(), numCols());
+    }
+
+    /**
+     * @return the game this World belongs to
+     */
+    public GameContext getContext() {
+        return context;
     }
 
     /**
      * @return the number of rows in this World.
      */
     protected int numRows() {
-        return this.cells.length;
+        return this.terrain.getNumRows();
     }
 
     /**
      * @return the number of columns in this World.
      */
     protected int numCols() {
-        return this.cells[0].length;
+        return this.terrain.getNumCols();
     }
 
     /**
-     * @return the Cells composing this World
+     * @return the layout of the Cells composing this World
      */
-    protected Cell[][] getCells() {
-        return cells;
+    protected TerrainGrid getTerrain() {
+        return terrain;
     }
 
     /**
-     * Returns the Cell corresponding to the passed in row and col
+     * Returns the Cell corresponding to the passed in row and col. The World does not store
+     * Cells, so the returned Cell is a freshly created view of that location.
      *
      * @param row the requested row
      * @param col requested col
      * @return Cell at the (row/col) location
      */
     public Cell getCellAt(int row, int col) {
+        Cell cell = getTerrainAt(row, col).cellAt(row, col);
+        cell.setWorld(this);
+        return cell;
+    }
+
+    /**
+     * Returns the type of the Cell at the passed in row and col, without creating the Cell
+     *
+     * @param row the requested row
+     * @param col requested col
+     * @return TerrainType at the (row/col) location
+     */
+    public TerrainType getTerrainAt(int row, int col) {
         checkValidity(row, col);
-        return this.cells[row][col];
+        return this.terrain.get(row, col);
+    }
+
+    /**
+     * @return the Cells that have changed since the World was last drawn
+     */
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
+    }
+
+    /**
+     * Records that the Cell at (row/col) looks different than when it was last drawn,
+     * for example because a Legend entered or left it.
+     * @param row the row of the changed Cell
+     * @param col the col of the changed Cell
+     */
+    protected void markDirty(int row, int col) {
+        dirtyCells.mark(row, col);
     }
 
     /**
@@ -121,20 +183,79 @@ public abstract class World implements Drawable {
      */
     public void setHeroLocation(Hero hero,int row, int col) {
         checkValidity(row, col);
-        heroPositions.put(hero,new Position(row,col));
+        Position previous = heroPositions.put(hero,new Position(row,col));
+        if(previous != null) {
+            vacateHeroCell(hero, previous);
+        }
+        heroOccupancy.add(row, col, hero);
+        markDirty(row, col);
+        heroLocationChanged(hero, previous, row, col);
+    }
+
+    /**
+     * Puts every Hero back at a saved location, without telling anyone that they moved:
+     * used to restore a saved state, where nothing really moves. Heroes that are not passed
+     * in are taken off the board. Since any Cell may look different afterwards, the next
+     * frame is drawn in full.
+     * @param heroes the Heroes to put back
+     * @param rows the row of each Hero
+     * @param cols the col of each Hero
+     */
+    protected void restoreHeroLocations(Hero[] heroes, int[] rows, int[] cols) {
+        heroPositions.clear();
+        heroOccupancy.clear();
+        for(int i = 0; i < heroes.length; i++) {
+            heroPositions.put(heroes[i], new Position(rows[i], cols[i]));
+            heroOccupancy.add(rows[i], cols[i], heroes[i]);
+        }
+        dirtyCells.markAll();
+    }
+
+    /**
+     * Called whenever a Hero is placed or moved, after their location has been updated.
+     * Subclasses can override this to keep track of where Heroes are.
+     * @param hero the Hero that moved
+     * @param previous the Position the Hero came from, or null if they were just placed
+     * @param row the new row of the Hero
+     * @param col the new col of the Hero
+     */
+    protected void heroLocationChanged(Hero hero, Position previous, int row, int col) {
+        // nothing to do by default
+    }
+
+    /**
+     * Helper function which removes the passed in Hero from the occupancy index
+     * at their previous Position. If another Hero shares that Cell, they take over
+     * the Cell's slot.
+     * @param hero the Hero that is leaving
+     * @param previous the Position the Hero is leaving
+     */
+    private void vacateHeroCell(Hero hero, Position previous) {
+        int row = previous.getRow();
+        int col = previous.getCol();
+        markDirty(row, col);
+        if(heroOccupancy.remove(row, col, hero)) {
+            for (Map.Entry<Hero,Position> entry : heroPositions.entrySet()) {
+                Position position = entry.getValue();
+                if(entry.getKey() != hero && position.getRow() == row && position.getCol() == col) {
+                    heroOccupancy.refill(row, col, entry.getKey());
+                    break;
+                }
+            }
+        }
     }
 
     /**
      * @return the row of the Heroes
      */
-    protected int getHeroRow(Hero hero) {
+    public int getHeroRow(Hero hero) {
         return heroPositions.get(hero).getRow();
     }
 
     /**
      * @return the col of the Heroes
      */
-    protected int getHeroCol(Hero hero) {
+    public int getHeroCol(Hero hero) {
         return heroPositions.get(hero).getCol();
     }
 
@@ -147,27 +268,27 @@ public abstract class World implements Drawable {
     protected boolean isHeroInRange(Position position,int range){
 
         //check up direction
-        for(int i = position.getRow(); i<=Math.min(position.getRow()+range,getCells().length-1);i++){
-            if(isHeroInCell(getCellAt(i,position.getCol()))){
+        for(int i = position.getRow(); i<=Math.min(position.getRow()+range,numRows()-1);i++){
+            if(isHeroAt(i,position.getCol())){
                 return true;
             }
         }
         //check down direction
         for(int i = position.getRow(); i>=Math.max(position.getRow()-range,0);i--){
-            if(isHeroInCell(getCellAt(i,position.getCol()))){
+            if(isHeroAt(i,position.getCol())){
                 return true;
             }
         }
 
         //check left
         for(int i = position.getCol(); i>=Math.max(position.getCol()-range,0);i--){
-            if(isHeroInCell(getCellAt(position.getRow(),i))){
+            if(isHeroAt(position.getRow(),i)){
                 return true;
             }
         }
         //check right
-        for(int i = position.getCol(); i<=Math.min(position.getCol()+range,getCells()[0].length-1);i++){
-            if(isHeroInCell(getCellAt(position.getRow(),i))){
+        for(int i = position.getCol(); i<=Math.min(position.getCol()+range,numCols()-1);i++){
+            if(isHeroAt(position.getRow(),i)){
                 return true;
             }
         }
@@ -180,13 +301,17 @@ public abstract class World implements Drawable {
      * @return true if the Hero is in the cell, false otherwise
      */
     public boolean isHeroInCell(Cell cell) {
-        for (Map.Entry<Hero,Position> entry : heroPositions.entrySet()) {
-            Position position = entry.getValue();
-            if(cell.hasPosition(position)) {
-                return true;
-            }
-        }
-        return false;
+        return isHeroAt(cell.getRow(), cell.getCol());
+    }
+
+    /**
+     * Indicates whether or not there is a Hero at the passed in location
+     * @param row the row in question
+     * @param col the col in question
+     * @return true if a Hero is at (row/col), false otherwise
+     */
+    public boolean isHeroAt(int row, int col) {
+        return heroOccupancy.isOccupied(row, col);
     }
 
     /**
@@ -195,17 +320,17 @@ public abstract class World implements Drawable {
      * @return a contained Hero in the passed Cell, or null if none
      */
     public Hero getHeroInCell(Cell cell) {
-        if(!isHeroInCell(cell)) {
-            return null;
-        }
+        return getHeroAt(cell.getRow(), cell.getCol());
+    }
 
-        for (Map.Entry<Hero,Position> entry : heroPositions.entrySet()) {
-            Position position = entry.getValue();
-            if(cell.hasPosition(position)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+    /**
+     * Returns the Hero at the passed in location, or null if none
+     * @param row the row in question
+     * @param col the col in question
+     * @return a Hero at (row/col), or null if none
+     */
+    public Hero getHeroAt(int row, int col) {
+        return heroOccupancy.get(row, col);
     }
 
 
@@ -236,7 +361,7 @@ public abstract class World implements Drawable {
      * @return
      */
     public boolean canMove(Direction direction){
-        for(Hero hero:LegendList.getInstance().getChosenHeroes()){
+        for(Hero hero:context.getRoster().getChosenHeroes()){
             if(!canMove(hero,direction)){
                 return false;
             }
@@ -252,8 +377,7 @@ public abstract class World implements Drawable {
      * @return true if this cell is NonAccessible, false otherwise
      */
     public boolean cellIsNonAccessible(int row, int col) {
-        Cell cell = this.getCellAt(row, col);
-        return cell instanceof NonAccessibleCell;
+        return !this.getTerrainAt(row, col).isAccessible();
     }
 
     /**
@@ -264,8 +388,23 @@ public abstract class World implements Drawable {
      * @throws InvalidMoveDirection if unable to move in the desired direction.
      */
     public void move(Hero hero,Direction direction) throws InvalidMoveDirection {
+        MoveResult result = tryMove(hero, direction);
+        if(!result.succeeded()) {
+            throw new InvalidMoveDirection(result.getMessage());
+        }
+    }
+
+    /**
+     * Moves the Hero to their new location, if possible.
+     * Enters the Cell at the new location, which may cause certain events to occur.
+     *
+     * @param hero the Hero to move
+     * @param direction the direction to move in
+     * @return MOVED if the Hero moved, or else the reason they could not
+     */
+    public MoveResult tryMove(Hero hero, Direction direction) {
         if (!canMove(hero,direction)) {
-            throw new InvalidMoveDirection("Cannot move in this direction!");
+            return MoveResult.BLOCKED;
         }
 
         switch (direction) {
@@ -282,7 +421,7 @@ public abstract class World implements Drawable {
                 this.setHeroLocation(hero,getHeroRow(hero), getHeroCol(hero) + 1);
                 break;
             default:
-                throw new InvalidMoveDirection("Unknown move direction!");
+                throw new IllegalArgumentException("Unknown move direction!");
         }
 
         // Now, enter the new Cell
@@ -290,9 +429,10 @@ public abstract class World implements Drawable {
         List<Hero> heroList = new ArrayList<>();
         heroList.add(hero);
         if (!cell.canEnter(heroList)) {
-            throw new InvalidMoveDirection("Unable to enter the cell!");
+            return MoveResult.CANNOT_ENTER;
         }
         cell.enter(heroList); // may cause certain events to occur, like entering a Market or starting a Fight.
+        return MoveResult.MOVED;
     }
 
     /**
@@ -301,7 +441,7 @@ public abstract class World implements Drawable {
      * @throws InvalidMoveDirection
      */
     public void move(Direction direction) throws InvalidMoveDirection{
-        for(Hero hero: LegendList.getInstance().getChosenHeroes()){
+        for(Hero hero: context.getRoster().getChosenHeroes()){
             move(hero,direction);
         }
     }
@@ -314,6 +454,30 @@ public abstract class World implements Drawable {
      */
     public abstract String drawMiddleRow(Cell cell, String color);
 
+    /**
+     * Appends the middle row for the passed in cell to builder. By default, this appends
+     * the result of drawMiddleRow; Worlds that draw often should override this so that
+     * drawing does not allocate.
+     * @param builder where to append the drawn row
+     * @param cell The cell to be drawn
+     * @param color the color of the cell
+     */
+    public void appendMiddleRow(StringBuilder builder, Cell cell, String color) {
+        appendMiddleRow(builder, cell.getRow(), cell.getCol(), color);
+    }
+
+    /**
+     * Appends the middle row for the cell at (row/col) to builder. Same as the Cell
+     * version, but usable without creating the Cell.
+     * @param builder where to append the drawn row
+     * @param row the row of the cell to be drawn
+     * @param col the col of the cell to be drawn
+     * @param color the color of the cell
+     */
+    public void appendMiddleRow(StringBuilder builder, int row, int col, String color) {
+        builder.append(drawMiddleRow(getCellAt(row, col), color));
+    }
+
     /**
      * Each entry in the returned String is a single line to output.
      *
@@ -40,30 +40,30 @@ public abstract class WorldBuilder {
     }
 
     /**
-     * Builds a world composed of Cells, and returns it. The returned world will have at least
+     * Builds the layout of a world, and returns it. The returned world will have at least
      * one CommonCell and at least one MarketCell.
-     * @return the list of Cells composing this world
+     * @return the TerrainGrid describing this world
      */
-    public Cell[][] run() {
+    public TerrainGrid run() {
         boolean succeeded = false;
-        Cell[][] cells = null;
+        TerrainGrid terrain = null;
         while(!succeeded) {
-            cells = build();
-            succeeded = this.builtSuccessfulWorld(cells);
+            terrain = build();
+            succeeded = this.builtSuccessfulWorld(terrain);
         }
-        return cells;
+        return terrain;
     }
 
     /**
      * Helper method which actually performs the building
-     * @return a two dimensional array of generated Cells
+     * @return the generated TerrainGrid
      */
-    public abstract Cell[][] build();
+    public abstract TerrainGrid build();
 
     /**
      * Abstract method which allows subclasses to check if the specific kind of World built was successfuly.
-     * @param cells the Cells constructed
+     * @param terrain the TerrainGrid constructed
      * @return true if the World was successfully built, false otherwise.
      */
-    public abstract boolean builtSuccessfulWorld(Cell[][] cells);
+    public abstract boolean builtSuccessfulWorld(TerrainGrid terrain);
 }
@@ -1,7 +1,6 @@
 package main.world;
 
 import main.legends.Hero;
-import main.legends.LegendList;
 import main.utils.GetUserCommand;
 import main.utils.Output;
 import main.utils.UserCommand;
@@ -34,7 +33,7 @@ public class WorldInteraction {
             UserCommand command = new GetUserCommand().run();
             switch (command) {
                 case INFO:
-                    Output.displayNominalInformation(LegendList.getInstance().getChosenHeroes());
+                    Output.displayNominalInformation(world.getContext().getRoster().getChosenHeroes());
                 case UP:
                     attemptMove(Direction.UP);
                     break;
@@ -0,0 +1,155 @@
+package test;
+
+import main.CatalogSnapshot;
+import main.GameCatalog;
+import main.legends.Hero;
+import main.legends.MonsterTemplate;
+import main.market_and_gear.GearItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestCatalogSnapshot
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestCatalogSnapshot {
+    /**
+     * Writes the catalog read from the data files to a temporary snapshot
+     * @return the snapshot file
+     */
+    private File snapshot() throws IOException {
+        File file = File.createTempFile("catalog", ".bin");
+        file.deleteOnExit();
+        CatalogSnapshot.write(GameCatalog.loadText(), file);
+        return file;
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        GameCatalog text = GameCatalog.loadText();
+        GameCatalog loaded = CatalogSnapshot.read(snapshot(), GameCatalog.sourceFiles());
+        assertNotNull(loaded);
+
+        List<Hero> expectedHeroes = text.newHeroes();
+        List<Hero> heroes = loaded.newHeroes();
+        assertEquals(expectedHeroes.size(), heroes.size());
+        for(int i = 0; i < heroes.size(); i++) {
+            Hero expected = expectedHeroes.get(i);
+            Hero hero = heroes.get(i);
+            assertEquals(expected.getClass(), hero.getClass());
+            assertEquals(expected.getName(), hero.getName());
+            assertEquals(expected.getMana().getFullAmount(), hero.getMana().getFullAmount());
+            assertEquals(expected.getStrength().getAbilityValue(), hero.getStrength().getAbilityValue());
+            assertEquals(expected.getAgility().getAbilityValue(), hero.getAgility().getAbilityValue());
+            assertEquals(expected.getDexterity().getAbilityValue(), hero.getDexterity().getAbilityValue());
+            assertEquals(expected.getCoffer().getNumCoins(), hero.getCoffer().getNumCoins());
+            assertEquals(expected.getExperience().getExperience(), hero.getExperience().getExperience());
+        }
+
+        List<MonsterTemplate> expectedTemplates = text.getMonsterTemplates();
+        List<MonsterTemplate> templates = loaded.getMonsterTemplates();
+        assertEquals(expectedTemplates.size(), templates.size());
+        for(int i = 0; i < templates.size(); i++) {
+            assertEquals(expectedTemplates.get(i).getType(), templates.get(i).getType());
+            assertEquals(expectedTemplates.get(i).getName(), templates.get(i).getName());
+            assertEquals(expectedTemplates.get(i).getLevel(), templates.get(i).getLevel());
+            assertEquals(expectedTemplates.get(i).getDefense(), templates.get(i).getDefense());
+        }
+
+        assertEquals(text.getGearItems().size(), loaded.getGearItems().size());
+        for(int i = 0; i < loaded.getGearItems().size(); i++) {
+            assertEquals(text.getGearItems().get(i), loaded.getGearItems().get(i));
+        }
+    }
+
+    @Test
+    public void recordsDecodedOnce() throws IOException {
+        GameCatalog loaded = CatalogSnapshot.read(snapshot(), GameCatalog.sourceFiles());
+        assertNotNull(loaded);
+        assertSame(loaded.getGearItems().get(3), loaded.getGearItems().get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> loaded.getMonsterTemplates().get(-1));
+    }
+
+    @Test
+    public void recordsDecodedOnceAcrossThreads() throws IOException, InterruptedException {
+        GameCatalog loaded = CatalogSnapshot.read(snapshot(), GameCatalog.sourceFiles());
+        assertNotNull(loaded);
+        List<GearItem> items = loaded.getGearItems();
+        GearItem[][] seen = new GearItem[4][items.size()];
+        Thread[] threads = new Thread[seen.length];
+        for(int t = 0; t < threads.length; t++) {
+            GearItem[] seenByThread = seen[t];
+            threads[t] = new Thread(() -> {
+                for(int i = 0; i < seenByThread.length; i++) {
+                    seenByThread[i] = items.get(i);
+                }
+            });
+            threads[t].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        for(GearItem[] seenByThread : seen) {
+            for(int i = 0; i < seenByThread.length; i++) {
+                assertSame(items.get(i), seenByThread[i]);
+            }
+        }
+    }
+
+    @Test
+    public void staleSnapshotIgnored() throws IOException {
+        File file = snapshot();
+        File source = File.createTempFile("source", ".txt");
+        source.deleteOnExit();
+        assertTrue(source.setLastModified(file.lastModified() + 10000));
+        assertNull(CatalogSnapshot.read(file, Collections.singletonList(source)));
+    }
+
+    @Test
+    public void snapshotWithMissingSourceIgnored() throws IOException {
+        File file = snapshot();
+        List<File> sources = new ArrayList<>(GameCatalog.sourceFiles());
+        sources.add(new File("data/no_such_file.txt"));
+        assertNull(CatalogSnapshot.read(file, sources));
+    }
+
+    @Test
+    public void compilingReadsEveryFile() throws IOException {
+        GameCatalog text = GameCatalog.loadText();
+        GameCatalog strict = GameCatalog.loadTextOrThrow();
+        assertFalse(strict.newHeroes().isEmpty());
+        assertEquals(text.newHeroes().size(), strict.newHeroes().size());
+        assertEquals(text.getMonsterTemplates().size(), strict.getMonsterTemplates().size());
+        assertEquals(text.getGearItems().size(), strict.getGearItems().size());
+    }
+
+    @Test
+    public void corruptSnapshotIgnored() throws IOException {
+        File file = snapshot();
+        try(RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0xff);
+        }
+        assertNull(CatalogSnapshot.read(file, GameCatalog.sourceFiles()));
+    }
+
+    @Test
+    public void missingSnapshotIgnored() {
+        assertNull(CatalogSnapshot.read(new File("no/such/catalog.bin"), GameCatalog.sourceFiles()));
+    }
+}
@@ -0,0 +1,50 @@
+package test;
+
+import main.GameCatalog;
+import main.legends.Hero;
+import main.legends.LegendList;
+import main.market_and_gear.MarketInventory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestGameCatalog
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestGameCatalog {
+    @Test
+    public void loadsEveryFile() {
+        GameCatalog catalog = GameCatalog.load();
+        assertEquals(18, catalog.newHeroes().size());
+        assertEquals(11 + 12 + 12, catalog.getMonsterTemplates().size());
+        assertEquals(MarketInventory.getInstance().getAllGearItems().size(), catalog.getGearItems().size());
+        assertFalse(catalog.getGearItems().isEmpty());
+    }
+
+    @Test
+    public void filesKeepTheirOrder() {
+        GameCatalog catalog = GameCatalog.load();
+        List<Hero> heroes = catalog.newHeroes();
+        assertEquals("Solonor_Thelandira", heroes.get(0).getName()); // first Paladin
+        assertEquals("Sword", catalog.getGearItems().get(0).getName()); // first Weapon
+        assertEquals(LegendList.getMonsterTemplates().get(0).getName(), catalog.getMonsterTemplates().get(0).getName());
+    }
+
+    @Test
+    public void newHeroesAreCopies() {
+        GameCatalog catalog = GameCatalog.getInstance();
+        Hero first = catalog.newHeroes().get(0);
+        Hero second = catalog.newHeroes().get(0);
+        assertFalse(first == second);
+        first.getHealthPower().reduceHealthPowerBy(50);
+        assertEquals(100, second.getHealthPower().getHealthPower());
+    }
+}
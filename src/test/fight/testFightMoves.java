@@ -256,4 +256,33 @@ public class testFightMoves {
             }
         }
     }
+
+    @Test
+    public void testUsedPotionIsRejected() {
+        Hero hero = LegendBuilder.exampleHero();
+        Market market = new Market();
+        Potion potion = (Potion)market.getPotions().get(0);
+        try {
+            potion.buy(market, hero);
+        } catch (NotEnoughCoinsException | BeneathLevelException e) {
+            e.printStackTrace();
+            fail();
+        }
+
+        assertEquals(FightResult.SUCCESS, new UsePotion(hero, potion).tryExecute());
+        assertEquals(FightResult.POTION_USED, new UsePotion(hero, potion).tryExecute());
+        assertThrows(InvalidFightMoveException.class, () -> new UsePotion(hero, potion).execute());
+    }
+
+    @Test
+    public void testAttackByFaintedLegendIsRejected() {
+        Hero hero = LegendBuilder.exampleHero();
+        Monster monster = LegendBuilder.exampleMonster();
+        monster.getHealthPower().setHealthPower(0);
+        double prevHeroHp = hero.getHealthPower().getHealthPower();
+
+        Attack attack = new Attack(monster, new ArrayList<>(Collections.singletonList(hero)));
+        assertEquals(FightResult.EXECUTOR_FAINTED, attack.tryExecute());
+        assertEquals(prevHeroHp, hero.getHealthPower().getHealthPower());
+    }
 }
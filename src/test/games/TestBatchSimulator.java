@@ -0,0 +1,51 @@
+package test.games;
+
+import main.games.BatchSimulator;
+import main.games.SimulationReport;
+import main.utils.Output;
+import main.utils.RenderMode;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestBatchSimulator
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestBatchSimulator {
+    @Test
+    public void batchPrintsNothingAndLeavesOutputAlone() {
+        BatchSimulator simulator = new BatchSimulator(4, 2, GameBuilder.exampleHeroes);
+        simulator.setSeed(1);
+        simulator.setRoundLimit(20);
+
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        PrintStream capture = new PrintStream(printed);
+        RenderMode renderMode = Output.getRenderMode();
+        Output.setRenderMode(RenderMode.FULL);
+        System.setOut(capture);
+        SimulationReport report;
+        try {
+            report = simulator.run();
+            assertSame(capture, System.out);
+            assertSame(capture, Output.out());
+            assertEquals(RenderMode.FULL, Output.getRenderMode());
+        } finally {
+            System.setOut(stdout);
+            Output.setRenderMode(renderMode);
+        }
+
+        assertEquals(4, report.getGames());
+        assertEquals(0, printed.size());
+    }
+}
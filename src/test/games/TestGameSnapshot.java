@@ -0,0 +1,136 @@
+package test.games;
+
+import main.GameContext;
+import main.games.AdvancingMonsterController;
+import main.games.GameSnapshot;
+import main.games.RandomHeroController;
+import main.games.ValorGame;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.market_and_gear.GearItem;
+import main.utils.Output;
+import main.utils.RandomSource;
+import main.utils.RenderMode;
+import main.world.NexusListener;
+import main.world.ValorWorld;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestGameSnapshot
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestGameSnapshot {
+    private final GameContext context = GameBuilder.exampleGame();
+    private final ValorWorld world = (ValorWorld)context.getWorld();
+    private final List<Hero> heroes = context.getRoster().getChosenHeroes();
+
+    /**
+     * Describes everything about the game that a snapshot should put back
+     * @return one line per Hero, per active Monster and per occupied Cell
+     */
+    private List<String> describeGame() {
+        List<String> lines = new ArrayList<>();
+        for(Hero hero : heroes) {
+            lines.add(hero.getName() + " hp=" + hero.getHealthPower().getHealthPower() + "/" + hero.getHealthPower().getFullAmount()
+                    + " mana=" + hero.getMana().getManaAmount() + "/" + hero.getMana().getFullAmount()
+                    + " str=" + hero.getStrength().getAbilityValue() + " agi=" + hero.getAgility().getAbilityValue()
+                    + " dex=" + hero.getDexterity().getAbilityValue() + " level=" + hero.getLevel().getLevel()
+                    + " exp=" + hero.getExperience().getExperience() + " coins=" + hero.getCoffer().getNumCoins()
+                    + " items=" + hero.getGearItemList().getGearItems()
+                    + " weapon=" + hero.getActiveGearItems().getWeapon() + " armor=" + hero.getActiveGearItems().getArmor()
+                    + " at " + world.getHeroRow(hero) + "," + world.getHeroCol(hero));
+        }
+        for(Monster monster : context.getRoster().getActiveMonsters()) {
+            lines.add(System.identityHashCode(monster) + " " + monster.getName() + " hp=" + monster.getHealthPower().getHealthPower()
+                    + " at " + world.getMonsterRow(monster) + "," + world.getMonsterCol(monster));
+        }
+        for(int row = 0; row < GameContext.valorWorldSize; row++) {
+            for(int col = 0; col < GameContext.valorWorldSize; col++) {
+                Hero hero = world.getHeroAt(row, col);
+                Monster monster = world.getMonsterAt(row, col);
+                if(hero != null || monster != null) {
+                    lines.add(row + "," + col + " hero=" + (hero == null ? null : hero.getName())
+                            + " monster=" + System.identityHashCode(monster));
+                }
+            }
+        }
+        for(int lane = 0; lane < world.getNumLanes(); lane++) {
+            lines.add("lane " + lane + " farthest=" + world.getFarthestMonsterRow(world.getLanes()[lane]));
+        }
+        lines.add("heroes won=" + world.heroInMonstersNexus() + " monsters won=" + world.monsterInHeroesNexus());
+        return lines;
+    }
+
+    @Test
+    public void restoreAfterPlaying() {
+        ValorGame game = new ValorGame(context, new RandomHeroController(new RandomSource(3)), new AdvancingMonsterController());
+        GameSnapshot snapshot = game.snapshot();
+        List<String> before = describeGame();
+
+        RenderMode renderMode = Output.getRenderMode();
+        Output.setRenderMode(RenderMode.NONE);
+        try {
+            game.setRoundLimit(6);
+            game.play();
+        } finally {
+            Output.setRenderMode(renderMode);
+        }
+        // Change what the random Heroes may not have
+        Hero hero = heroes.get(0);
+        GearItem item = context.getMarketInventory().getAllGearItems().get(0);
+        hero.getGearItemList().addGearItem(item);
+        hero.getCoffer().setNumCoins(1);
+        hero.getExperience().increaseExperience(100);
+        world.setHeroLocation(hero, 3, 0);
+        assertNotEquals(before, describeGame());
+
+        game.restore(snapshot);
+        assertEquals(before, describeGame());
+        assertEquals(0, game.getResult().getRounds());
+    }
+
+    @Test
+    public void restoreDoesNotNotifyNexusListeners() {
+        List<Monster> monsters = GameBuilder.clearMonsters(context);
+        world.setHeroLocation(heroes.get(0), 0, 0);
+        world.setMonsterLocation(monsters.get(0), 7, 4);
+        ValorWorld.State state = world.saveState();
+
+        world.setHeroLocation(heroes.get(0), 3, 0);
+        world.setMonsterLocation(monsters.get(0), 3, 4);
+        assertFalse(world.isGameOver());
+
+        int[] notified = {0};
+        world.addNexusListener(new NexusListener() {
+            @Override
+            public void heroReachedMonstersNexus(Hero hero) {
+                notified[0]++;
+            }
+
+            @Override
+            public void monsterReachedHeroesNexus(Monster monster) {
+                notified[0]++;
+            }
+        });
+        world.getDirtyCells().clear();
+        world.restoreState(state);
+        assertEquals(0, notified[0]);
+        assertTrue(world.heroInMonstersNexus());
+        assertTrue(world.monsterInHeroesNexus());
+        assertSame(heroes.get(0), world.getHeroAt(0, 0));
+        assertSame(monsters.get(0), world.getMonsterAt(7, 4));
+        assertNull(world.getMonsterAt(3, 4));
+        assertTrue(world.getDirtyCells().isAllDirty());
+    }
+}
@@ -0,0 +1,233 @@
+package test.games;
+
+import main.GameContext;
+import main.games.LegalActions;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.market_and_gear.GearItem;
+import main.market_and_gear.Potion;
+import main.market_and_gear.Spell;
+import main.world.Direction;
+import main.world.ValorWorld;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestLegalActions
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestLegalActions {
+    private final GameContext context = GameBuilder.exampleGame();
+    private final ValorWorld world = (ValorWorld)context.getWorld();
+    private final List<Hero> heroes = context.getRoster().getChosenHeroes();
+    private final List<Monster> monsters = GameBuilder.clearMonsters(context);
+    private final LegalActions actions = new LegalActions();
+
+    @Test
+    public void encoding() {
+        int action = LegalActions.encode(LegalActions.castSpell, 3, 2);
+        assertEquals(LegalActions.castSpell, LegalActions.kindOf(action));
+        assertEquals(3, LegalActions.firstOf(action));
+        assertEquals(2, LegalActions.secondOf(action));
+    }
+
+    @Test
+    public void encodingLimits() {
+        int action = LegalActions.encode(LegalActions.pass, 255, 255);
+        assertEquals(LegalActions.pass, LegalActions.kindOf(action));
+        assertEquals(255, LegalActions.firstOf(action));
+        assertEquals(255, LegalActions.secondOf(action));
+    }
+
+    @Test
+    public void kindsAreDistinct() {
+        int[] kinds = {LegalActions.attack, LegalActions.castSpell, LegalActions.usePotion, LegalActions.move,
+                LegalActions.teleport, LegalActions.teleportBack, LegalActions.pass};
+        for(int i = 0; i < kinds.length; i++) {
+            for(int j = i + 1; j < kinds.length; j++) {
+                assertNotEquals(LegalActions.encode(kinds[i], 0, 0), LegalActions.encode(kinds[j], 0, 0));
+            }
+        }
+    }
+
+    @Test
+    public void emptyBeforeGenerating() {
+        LegalActions actions = new LegalActions();
+        assertEquals(0, actions.size());
+        assertFalse(actions.contains(LegalActions.encode(LegalActions.pass, 0, 0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> actions.get(0));
+    }
+
+    @Test
+    public void heroMovesAndTeleports() {
+        Hero hero = heroes.get(0); // starts in the bottom left corner, in the first Lane
+        assertEquals(4, actions.generate(hero, world));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.move, Direction.UP.ordinal(), 0)));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.move, Direction.RIGHT.ordinal(), 0)));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.teleport, 1, 0)));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.teleport, 2, 0)));
+
+        // A Hero next to a Monster can't move up past it
+        world.setMonsterLocation(monsters.get(0), 7, 1);
+        actions.generate(hero, world);
+        assertFalse(actions.contains(LegalActions.encode(LegalActions.move, Direction.UP.ordinal(), 0)));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.attack, 0, 0)));
+    }
+
+    @Test
+    public void teleportBack() {
+        Hero hero = heroes.get(0);
+        world.setTeleportLane(1);
+        world.teleport(hero);
+        assertTrue(world.hasTeleported(hero));
+
+        actions.generate(hero, world);
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.teleportBack, 0, 0)));
+        for(int i = 0; i < actions.size(); i++) {
+            assertNotEquals(LegalActions.teleport, LegalActions.kindOf(actions.get(i)));
+        }
+
+        // Not while someone else stands where the Hero left from
+        world.setHeroLocation(heroes.get(2), 7, 0);
+        actions.generate(hero, world);
+        assertFalse(actions.contains(LegalActions.encode(LegalActions.teleportBack, 0, 0)));
+    }
+
+    @Test
+    public void fightActionsWithMonsterInRange() {
+        Hero hero = heroes.get(0);
+        hero.getGearItemList().addGearItem(usableSpell(hero));
+        hero.getGearItemList().addGearItem(new Potion());
+        int numSpells = hero.getGearItemList().countUsableSpells(hero);
+        int numPotions = hero.getGearItemList().countUsablePotions();
+        assertTrue(numSpells > 0);
+        assertTrue(numPotions > 0);
+
+        actions.generate(hero, world);
+        for(int i = 0; i < actions.size(); i++) {
+            assertTrue(LegalActions.kindOf(actions.get(i)) > LegalActions.usePotion);
+        }
+
+        world.setMonsterLocation(monsters.get(0), 6, 1);
+        world.setMonsterLocation(monsters.get(1), 6, 0);
+        actions.generate(hero, world);
+        for(int m = 0; m < 2; m++) {
+            assertTrue(actions.contains(LegalActions.encode(LegalActions.attack, m, 0)));
+            for(int s = 0; s < numSpells; s++) {
+                assertTrue(actions.contains(LegalActions.encode(LegalActions.castSpell, s, m)));
+            }
+        }
+        assertFalse(actions.contains(LegalActions.encode(LegalActions.attack, 2, 0)));
+        for(int p = 0; p < numPotions; p++) {
+            assertTrue(actions.contains(LegalActions.encode(LegalActions.usePotion, p, 0)));
+        }
+        assertFalse(actions.contains(LegalActions.encode(LegalActions.usePotion, numPotions, 0)));
+    }
+
+    @Test
+    public void heroPassesWhenNothingElseIsPossible() {
+        Hero hero = heroes.get(0);
+        world.setTeleportLane(1);
+        world.teleport(hero);
+        // Back where they started, so they can neither go back nor teleport back, and boxed in
+        world.setHeroLocation(hero, 7, 0);
+        world.setHeroLocation(heroes.get(1), 6, 0);
+        world.setHeroLocation(heroes.get(2), 7, 1);
+
+        assertEquals(1, actions.generate(hero, world));
+        assertEquals(LegalActions.encode(LegalActions.pass, 0, 0), actions.get(0));
+    }
+
+    @Test
+    public void monsterActions() {
+        Monster monster = monsters.get(0);
+        world.setMonsterLocation(monster, 5, 3);
+        world.setHeroLocation(heroes.get(1), 6, 4);
+        assertEquals(2, actions.generate(monster, world));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.attack, 0, 0)));
+        assertTrue(actions.contains(LegalActions.encode(LegalActions.move, Direction.DOWN.ordinal(), 0)));
+
+        // At the bottom of the map with no Hero in range, a Monster can only pass
+        world.setHeroLocation(heroes.get(2), 3, 6);
+        world.setMonsterLocation(monster, 7, 7);
+        assertEquals(1, actions.generate(monster, world));
+        assertEquals(LegalActions.encode(LegalActions.pass, 0, 0), actions.get(0));
+    }
+
+    @Test
+    public void generatingChangesNothing() {
+        Hero hero = heroes.get(0);
+        hero.getGearItemList().addGearItem(usableSpell(hero));
+        hero.getGearItemList().addGearItem(new Potion());
+        world.setMonsterLocation(monsters.get(0), 6, 1);
+        List<String> before = describe();
+        double healthPower = hero.getHealthPower().getHealthPower();
+        double mana = hero.getMana().getManaAmount();
+        int numItems = hero.getGearItemList().getGearItems().size();
+
+        InputStream stdin = System.in;
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setIn(new ByteArrayInputStream(new byte[0])); // a prompt would find no input, and throw
+        System.setOut(new PrintStream(printed));
+        try {
+            actions.generate(hero, world);
+            actions.generate(monsters.get(0), world);
+        } finally {
+            System.setIn(stdin);
+            System.setOut(stdout);
+        }
+
+        assertEquals(0, printed.size());
+        assertEquals(before, describe());
+        assertEquals(healthPower, hero.getHealthPower().getHealthPower(), 1e-9);
+        assertEquals(mana, hero.getMana().getManaAmount(), 1e-9);
+        assertEquals(numItems, hero.getGearItemList().getGearItems().size());
+        assertFalse(world.hasTeleported(hero));
+        assertEquals(0, context.getResult().getRounds());
+    }
+
+    /**
+     * @param hero the Hero in question
+     * @return a Spell in the Market that the Hero has enough Mana to cast
+     */
+    private Spell usableSpell(Hero hero) {
+        for(GearItem item : context.getMarketInventory().getAllSpells()) {
+            if(((Spell)item).heroHasEnoughMana(hero)) {
+                return (Spell)item;
+            }
+        }
+        fail("No Spell the Hero can cast");
+        return null;
+    }
+
+    /**
+     * @return where the Heroes and the placed Monster are, and what each Monster's health is
+     */
+    private List<String> describe() {
+        List<String> description = new ArrayList<>();
+        for(Hero hero : heroes) {
+            description.add(hero.getName() + " " + world.getHeroRow(hero) + "," + world.getHeroCol(hero));
+        }
+        Monster placed = monsters.get(0);
+        description.add(placed.getName() + " " + world.getMonsterRow(placed) + "," + world.getMonsterCol(placed));
+        for(Monster monster : monsters) {
+            description.add(monster.getName() + " " + monster.getHealthPower().getHealthPower());
+        }
+        return description;
+    }
+}
@@ -0,0 +1,125 @@
+package test.games;
+
+import main.GameContext;
+import main.fight.FightMove;
+import main.games.AdvancingMonsterController;
+import main.games.HeroController;
+import main.games.LegendsOfValorTurn;
+import main.games.InvalidNextTurnException;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.Direction;
+import main.world.ValorWorld;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestLegendsOfValorTurn
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestLegendsOfValorTurn {
+    private final GameContext context = GameBuilder.exampleGame();
+    private final ValorWorld world = (ValorWorld)context.getWorld();
+    private final Hero hero = context.getRoster().getChosenHeroes().get(0); // starts at (7, 0)
+
+    /**
+     * A HeroController which always moves in the same Direction, and counts how often
+     * it is asked about the Market
+     */
+    private static class MovingController implements HeroController {
+        private final Direction direction;
+        private int marketQuestions = 0;
+
+        MovingController(Direction direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public boolean enterMarket(Hero hero) {
+            marketQuestions++;
+            return false;
+        }
+
+        @Override
+        public Monster chooseMonsterToAttack(Hero hero, List<Monster> monstersInRange) {
+            return null;
+        }
+
+        @Override
+        public FightMove chooseFightMove(Hero hero, Monster monster) {
+            throw new AssertionError("No Monster is in range");
+        }
+
+        @Override
+        public Direction chooseDirection(Hero hero, ValorWorld world) {
+            return direction;
+        }
+
+        @Override
+        public int chooseTeleportLane(Hero hero, ValorWorld world) {
+            return 0;
+        }
+
+        @Override
+        public void moveRejected(Hero hero, Direction direction) {
+            throw new AssertionError("The move should succeed");
+        }
+    }
+
+    /**
+     * Plays the Hero's turn, with no Monster on the board
+     * @param firstRound whether or not the turn is in the first round
+     * @param controller decides what the Hero does
+     */
+    private void playHeroTurn(boolean firstRound, HeroController controller) throws InvalidNextTurnException {
+        GameBuilder.clearMonsters(context);
+        LegendsOfValorTurn turn = new LegendsOfValorTurn(context, Collections.singletonList(hero),
+                Collections.emptyList(), firstRound, controller, new AdvancingMonsterController());
+        turn.setupNextTurn();
+        turn.playNextTurn();
+    }
+
+    @Test
+    public void askedOnceWhenMovingAlongTheNexus() throws InvalidNextTurnException {
+        MovingController controller = new MovingController(Direction.RIGHT);
+        playHeroTurn(true, controller);
+        assertEquals(1, world.getHeroCol(hero));
+        assertTrue(world.isHeroInNexus(hero));
+        assertEquals(1, controller.marketQuestions);
+    }
+
+    @Test
+    public void notAskedAfterTheFirstRoundWhileStayingInTheNexus() throws InvalidNextTurnException {
+        MovingController controller = new MovingController(Direction.RIGHT);
+        playHeroTurn(false, controller);
+        assertEquals(1, world.getHeroCol(hero));
+        assertEquals(0, controller.marketQuestions);
+    }
+
+    @Test
+    public void askedWhenArrivingInTheNexus() throws InvalidNextTurnException {
+        world.setHeroLocation(hero, 6, 0);
+        MovingController controller = new MovingController(Direction.DOWN);
+        playHeroTurn(false, controller);
+        assertTrue(world.isHeroInNexus(hero));
+        assertEquals(1, controller.marketQuestions);
+    }
+
+    @Test
+    public void notAskedWhenLeavingTheNexus() throws InvalidNextTurnException {
+        MovingController controller = new MovingController(Direction.UP);
+        playHeroTurn(true, controller);
+        assertFalse(world.isHeroInNexus(hero));
+        assertEquals(1, controller.marketQuestions); // only at the start of the first round
+    }
+}
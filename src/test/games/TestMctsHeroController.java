@@ -0,0 +1,57 @@
+package test.games;
+
+import main.GameContext;
+import main.games.MctsHeroController;
+import main.legends.Hero;
+import main.utils.Output;
+import main.utils.RenderMode;
+import main.world.Direction;
+import main.world.ValorWorld;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestMctsHeroController
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestMctsHeroController {
+    @Test
+    public void searchPrintsNothing() {
+        GameContext context = GameBuilder.exampleGame();
+        ValorWorld world = (ValorWorld)context.getWorld();
+        Hero hero = context.getRoster().getChosenHeroes().get(0);
+        MctsHeroController controller = new MctsHeroController(context, 2);
+        controller.setTimeBudgetMillis(20);
+
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        PrintStream capture = new PrintStream(printed);
+        RenderMode renderMode = Output.getRenderMode();
+        Output.setRenderMode(RenderMode.FULL);
+        System.setOut(capture);
+        Direction direction;
+        try {
+            direction = controller.chooseDirection(hero, world);
+            assertSame(capture, System.out);
+            assertEquals(RenderMode.FULL, Output.getRenderMode());
+        } finally {
+            System.setOut(stdout);
+            Output.setRenderMode(renderMode);
+        }
+
+        assertNotNull(direction);
+        assertEquals(0, printed.size());
+        assertTrue(controller.getLastSearch().getRollouts() > 0);
+        assertFalse(Output.isQuiet());
+    }
+}
@@ -0,0 +1,76 @@
+package test.games;
+
+import main.games.GameResult;
+import main.games.LegalActions;
+import main.games.SearchStatistics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestSearchStatistics
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestSearchStatistics {
+    @Test
+    public void tallies() {
+        SearchStatistics statistics = new SearchStatistics();
+        statistics.recordRollout(10, GameResult.Winner.HEROES);
+        statistics.recordRollout(20, GameResult.Winner.MONSTERS);
+        statistics.recordRollout(30, GameResult.Winner.NONE);
+        statistics.recordNode();
+        statistics.recordNode();
+        statistics.recordSearch(2000000000L);
+        assertEquals(1, statistics.getSearches());
+        assertEquals(3, statistics.getRollouts());
+        assertEquals(2, statistics.getNodes());
+        assertEquals(1, statistics.getHeroWins());
+        assertEquals(1, statistics.getMonsterWins());
+        assertEquals(20.0, statistics.getAverageRolloutRounds(), 1e-9);
+        assertEquals(1.0, statistics.getNodesPerSecond(), 1e-9);
+        assertEquals(1.5, statistics.getRolloutsPerSecond(), 1e-9);
+    }
+
+    @Test
+    public void merge() {
+        SearchStatistics first = new SearchStatistics();
+        SearchStatistics second = new SearchStatistics();
+        first.recordRollout(4, GameResult.Winner.HEROES);
+        first.recordSearch(1000);
+        second.recordRollout(8, GameResult.Winner.HEROES);
+        second.recordRollout(12, GameResult.Winner.NONE);
+        second.recordSearch(3000);
+        first.merge(second);
+        assertEquals(2, first.getSearches());
+        assertEquals(3, first.getRollouts());
+        assertEquals(2, first.getHeroWins());
+        assertEquals(4000, first.getElapsedNanos());
+        assertEquals(1.5, first.getAverageRolloutsPerSearch(), 1e-9);
+    }
+
+    @Test
+    public void emptyStatistics() {
+        SearchStatistics statistics = new SearchStatistics();
+        assertEquals(0.0, statistics.getAverageRolloutRounds(), 1e-9);
+        assertEquals(0.0, statistics.getNodesPerSecond(), 1e-9);
+    }
+
+    @Test
+    public void actionEncoding() {
+        int action = LegalActions.encode(LegalActions.castSpell, 3, 2);
+        assertEquals(LegalActions.castSpell, LegalActions.kindOf(action));
+        assertEquals(3, LegalActions.firstOf(action));
+        assertEquals(2, LegalActions.secondOf(action));
+
+        // Going back from a teleport is not the same action as teleporting to the first Lane
+        int teleportBack = LegalActions.encode(LegalActions.teleportBack, 0, 0);
+        int teleportToFirstLane = LegalActions.encode(LegalActions.teleport, 0, 0);
+        assertNotEquals(teleportToFirstLane, teleportBack);
+        assertEquals(LegalActions.teleportBack, LegalActions.kindOf(teleportBack));
+    }
+}
@@ -0,0 +1,67 @@
+package test.games;
+
+import main.games.GameResult;
+import main.games.SimulationReport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestSimulationReport
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestSimulationReport {
+    private GameResult result(GameResult.Winner winner, int rounds, int... coins) {
+        GameResult result = new GameResult();
+        result.setWinner(winner);
+        result.setRounds(rounds);
+        for(int coin : coins) {
+            result.recordKill(coin);
+        }
+        return result;
+    }
+
+    @Test
+    public void tallies() {
+        SimulationReport report = new SimulationReport();
+        report.add(result(GameResult.Winner.HEROES, 10, 100, 200));
+        report.add(result(GameResult.Winner.MONSTERS, 20));
+        report.add(result(GameResult.Winner.NONE, 30, 300));
+        assertEquals(3, report.getGames());
+        assertEquals(1, report.getHeroWins());
+        assertEquals(1, report.getMonsterWins());
+        assertEquals(1, report.getUnfinished());
+        assertEquals(20.0, report.getAverageRounds(), 1e-9);
+        assertEquals(1.0, report.getAverageKills(), 1e-9);
+        assertEquals(200.0, report.getAverageCoins(), 1e-9);
+    }
+
+    @Test
+    public void mergeMatchesAdd() {
+        SimulationReport all = new SimulationReport();
+        SimulationReport first = new SimulationReport();
+        SimulationReport second = new SimulationReport();
+        for(int i = 0; i < 10; i++) {
+            GameResult result = result(i % 3 == 0 ? GameResult.Winner.MONSTERS : GameResult.Winner.HEROES, i, i * 10);
+            all.add(result);
+            (i < 4 ? first : second).add(result);
+        }
+        first.merge(second);
+        assertEquals(all.getGames(), first.getGames());
+        assertEquals(all.getHeroWins(), first.getHeroWins());
+        assertEquals(all.getHeroWinRate(), first.getHeroWinRate(), 1e-9);
+        assertEquals(all.getAverageCoins(), first.getAverageCoins(), 1e-9);
+    }
+
+    @Test
+    public void emptyReport() {
+        SimulationReport report = new SimulationReport();
+        assertEquals(0, report.getGames());
+        assertEquals(0.0, report.getHeroWinRate(), 1e-9);
+    }
+}
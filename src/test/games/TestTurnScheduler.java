@@ -0,0 +1,122 @@
+package test.games;
+
+import main.games.TurnOrder;
+import main.games.TurnScheduler;
+import main.legends.Hero;
+import main.legends.Legend;
+import main.legends.Monster;
+import org.junit.jupiter.api.Test;
+import test.utils.LegendBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestTurnScheduler
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestTurnScheduler {
+    @Test
+    public void alternates() {
+        Hero first = LegendBuilder.exampleHero();
+        Hero second = LegendBuilder.exampleHero();
+        Monster monster = LegendBuilder.exampleMonster();
+        Monster other = LegendBuilder.exampleMonster();
+        Monster third = LegendBuilder.exampleMonster();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.add(first);
+        scheduler.add(second);
+        scheduler.add(monster);
+        scheduler.add(other);
+        scheduler.add(third);
+        scheduler.startRound();
+
+        // Once the Heroes have all gone, the remaining Monsters finish the round
+        assertSame(first, scheduler.next());
+        assertSame(monster, scheduler.next());
+        assertSame(second, scheduler.next());
+        assertSame(other, scheduler.next());
+        assertSame(third, scheduler.next());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    public void reusedAcrossRounds() {
+        Hero hero = LegendBuilder.exampleHero();
+        Monster monster = LegendBuilder.exampleMonster();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.add(hero);
+        scheduler.add(monster);
+        for(int round = 0; round < 3; round++) {
+            scheduler.startRound();
+            assertSame(hero, scheduler.next());
+            assertSame(monster, scheduler.next());
+            assertNull(scheduler.next());
+        }
+    }
+
+    @Test
+    public void removedAndSkipped() {
+        Hero hero = LegendBuilder.exampleHero();
+        Hero fainted = LegendBuilder.exampleHero();
+        Monster dead = LegendBuilder.exampleMonster();
+        Monster monster = LegendBuilder.exampleMonster();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.add(hero);
+        scheduler.add(fainted);
+        scheduler.add(dead);
+        scheduler.add(monster);
+        scheduler.startRound();
+
+        scheduler.remove(dead);
+        scheduler.skipRound(fainted);
+        assertFalse(scheduler.contains(dead));
+        assertEquals(2, scheduler.remainingThisRound());
+        assertSame(hero, scheduler.next());
+        assertSame(monster, scheduler.next());
+        assertNull(scheduler.next());
+
+        // The Hero that sat out takes their turns again from the next round on
+        scheduler.startRound();
+        assertEquals(3, scheduler.remainingThisRound());
+    }
+
+    @Test
+    public void deadMonstersDroppedAtStartOfRound() {
+        Hero hero = LegendBuilder.exampleHero();
+        Monster monster = LegendBuilder.exampleMonster();
+        TurnScheduler scheduler = new TurnScheduler();
+        scheduler.add(hero);
+        scheduler.add(monster);
+        monster.getHealthPower().setHealthPower(0);
+        scheduler.startRound();
+        assertFalse(scheduler.contains(monster));
+        assertSame(hero, scheduler.next());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    public void initiative() {
+        Hero slow = LegendBuilder.exampleHero();
+        Monster fast = LegendBuilder.exampleMonster();
+        Monster fastest = LegendBuilder.exampleMonster();
+        slow.getAgility().setAbilityValue(100);
+        fast.getAgility().setAbilityValue(500);
+        fastest.getAgility().setAbilityValue(900);
+        TurnScheduler scheduler = new TurnScheduler(TurnOrder.INITIATIVE);
+        scheduler.add(slow);
+        scheduler.add(fast);
+        scheduler.add(fastest);
+        scheduler.startRound();
+
+        Legend[] expected = {fastest, fast, slow};
+        for(Legend legend : expected) {
+            assertSame(legend, scheduler.next());
+        }
+        assertNull(scheduler.next());
+    }
+}
@@ -127,4 +127,27 @@ public class TestHeroes {
         hero.setFainted(true);
         assertTrue(hero.hasFainted());
     }
+
+    @Test
+    public void cloneIsDeep() throws CloneNotSupportedException {
+        Hero hero = new Warrior("Gimli", new Level(34), new UncappedHealthPower(100), new Mana(300), new Coffer(50),
+                new Ability(AbilityType.STRENGTH, 200), new Ability(AbilityType.AGILITY, 1000), new Ability(AbilityType.DEXTERITY, 900));
+        Hero cloned = (Hero)hero.clone();
+        assertEquals(hero, cloned);
+
+        cloned.getHealthPower().reduceHealthPowerBy(40);
+        cloned.getStrength().increaseAbilityBy(10);
+        cloned.getLevel().incrementLevel();
+        cloned.getCoffer().addCoins(25);
+        cloned.getExperience().setExperience(7);
+        assertEquals(100, hero.getHealthPower().getHealthPower());
+        assertEquals(200, hero.getStrength().getAbilityValue());
+        assertEquals(34, hero.getLevel().getLevel());
+        assertEquals(50, hero.getCoffer().getNumCoins());
+        assertEquals(0, hero.getExperience().getExperience());
+
+        // Special Abilities are the same objects as the copy's own Abilities
+        assertSame(cloned.getStrength(), cloned.getSpecialAbilities().get(0));
+        assertTrue(cloned.getAbilities().contains(cloned.getMana()));
+    }
 }
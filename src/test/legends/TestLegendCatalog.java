@@ -0,0 +1,111 @@
+package test.legends;
+
+import main.GameCatalog;
+import main.attributes.AbilityType;
+import main.attributes.Ability;
+import main.attributes.Level;
+import main.attributes.UncappedHealthPower;
+import main.legends.Dragon;
+import main.legends.Hero;
+import main.legends.Legend;
+import main.legends.LegendCatalog;
+import main.legends.LegendList;
+import main.legends.Monster;
+import main.legends.Spirit;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+import test.utils.LegendBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestLegendCatalog
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestLegendCatalog {
+    private static final int syntheticSize = 100000;
+
+    /**
+     * Builds a Monster for the synthetic catalog
+     * @param i the index of the Monster
+     * @return a Dragon on even indices, a Spirit on odd ones, with Levels 1 to 10
+     */
+    private static Monster syntheticMonster(int i) {
+        int level = 1 + (i * 7) % 10;
+        Ability strength = new Ability(AbilityType.STRENGTH, 100);
+        Ability defense = new Ability(AbilityType.DEFENSE, 100);
+        Ability agility = new Ability(AbilityType.AGILITY, 100);
+        if(i % 2 == 0) {
+            return new Dragon("Dragon_" + i, new Level(level), new UncappedHealthPower(100 * level), strength, defense, agility);
+        }
+        return new Spirit("Spirit_" + i, new Level(level), new UncappedHealthPower(100 * level), strength, defense, agility);
+    }
+
+    private LegendCatalog syntheticCatalog() {
+        List<Legend> legends = new ArrayList<>();
+        legends.add(LegendBuilder.exampleHero());
+        for(int i = 0; i < syntheticSize; i++) {
+            legends.add(syntheticMonster(i));
+        }
+        return new LegendCatalog(legends);
+    }
+
+    @Test
+    public void classViews() {
+        LegendCatalog catalog = syntheticCatalog();
+        assertEquals(syntheticSize + 1, catalog.size());
+        assertEquals(1, catalog.getHeroes().size());
+        assertEquals(syntheticSize, catalog.getMonsters().size());
+        assertEquals(syntheticSize / 2, catalog.getDragons().size());
+        assertEquals(syntheticSize / 2, catalog.getSpirits().size());
+        assertTrue(catalog.getExoskeletons().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getMonsters().remove(0));
+    }
+
+    @Test
+    public void lookupsDoNotAllocate() {
+        LegendCatalog catalog = syntheticCatalog();
+        assertSame(catalog.getMonsters(), catalog.getMonsters());
+        assertSame(catalog.getHeroes(), catalog.getHeroes());
+
+        Monster monster = catalog.findMonster("Spirit_99999");
+        assertNotNull(monster);
+        assertSame(monster, catalog.getMonsters().get(99999));
+        assertNull(catalog.findMonster("Spirit_100000"));
+        Hero hero = catalog.getHeroes().get(0);
+        assertSame(hero, catalog.findHero(hero.getName()));
+    }
+
+    @Test
+    public void sharedByEveryLegendList() {
+        LegendList roster = new LegendList(GameBuilder.exampleHeroes);
+        Map<Legend, Legend> copies = new HashMap<>();
+        LegendList copy = roster.copy(copies);
+        assertSame(roster.getCatalog(), copy.getCatalog());
+        assertSame(GameCatalog.getInstance().getLegendCatalog(), roster.getCatalog());
+        assertSame(roster.getCatalog(), new LegendList(GameBuilder.exampleHeroes).getCatalog());
+
+        // The chosen Heroes are played with, so they are not the catalog's Heroes
+        Hero chosen = roster.getChosenHeroes().get(0);
+        Hero copied = copy.getChosenHeroes().get(0);
+        assertSame(copied, copies.get(chosen));
+        assertNotSame(chosen, copied);
+        for(Hero hero : roster.getCatalog().getHeroes()) {
+            assertNotSame(chosen, hero);
+            assertNotSame(copied, hero);
+        }
+        double healthPower = roster.findHeroByName(chosen.getName()).getHealthPower().getHealthPower();
+        copied.getHealthPower().setHealthPower(1);
+        assertEquals(healthPower, roster.findHeroByName(chosen.getName()).getHealthPower().getHealthPower(), 1e-9);
+    }
+}
@@ -0,0 +1,98 @@
+package test.legends;
+
+import main.legends.Monster;
+import main.legends.MonsterArena;
+import org.junit.jupiter.api.Test;
+import test.utils.LegendBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestMonsterArena
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestMonsterArena {
+    @Test
+    public void spawnAndResolve() {
+        MonsterArena arena = new MonsterArena();
+        Monster first = LegendBuilder.exampleMonster();
+        Monster second = LegendBuilder.exampleMonster();
+        long firstHandle = arena.spawn(first);
+        long secondHandle = arena.spawn(second);
+        assertEquals(2, arena.size());
+        assertSame(first, arena.resolve(firstHandle));
+        assertSame(second, arena.resolve(secondHandle));
+        assertEquals(firstHandle, arena.spawn(first)); // already in play
+        assertEquals(2, arena.size());
+    }
+
+    @Test
+    public void removalKeepsStorageDense() {
+        MonsterArena arena = new MonsterArena();
+        Monster first = LegendBuilder.exampleMonster();
+        Monster second = LegendBuilder.exampleMonster();
+        Monster third = LegendBuilder.exampleMonster();
+        arena.spawn(first);
+        long secondHandle = arena.spawn(second);
+        arena.spawn(third);
+
+        assertTrue(arena.remove(first));
+        assertEquals(2, arena.size());
+        assertFalse(arena.contains(first));
+        assertTrue(arena.contains(third));
+        assertSame(second, arena.resolve(secondHandle));
+        for(Monster monster : arena) {
+            assertFalse(first == monster);
+        }
+        assertFalse(arena.remove(first));
+    }
+
+    @Test
+    public void reusedSlotsHaveNewGeneration() {
+        MonsterArena arena = new MonsterArena();
+        Monster dead = LegendBuilder.exampleMonster();
+        Monster spawned = LegendBuilder.exampleMonster();
+        long deadHandle = arena.spawn(dead);
+        assertTrue(arena.release(deadHandle));
+        assertFalse(arena.isLive(deadHandle));
+
+        long spawnedHandle = arena.spawn(spawned);
+        assertEquals(1, arena.capacity()); // the slot was reused
+        assertNotEquals(deadHandle, spawnedHandle);
+        assertNull(arena.resolve(deadHandle));
+        assertFalse(arena.release(deadHandle));
+        assertSame(spawned, arena.resolve(spawnedHandle));
+    }
+
+    @Test
+    public void capacityBoundedByLiveMonsters() {
+        MonsterArena arena = new MonsterArena();
+        for(int wave = 0; wave < 100; wave++) {
+            Monster[] monsters = {LegendBuilder.exampleMonster(), LegendBuilder.exampleMonster(), LegendBuilder.exampleMonster()};
+            for(Monster monster : monsters) {
+                arena.spawn(monster);
+            }
+            for(Monster monster : monsters) {
+                arena.remove(monster);
+            }
+        }
+        assertEquals(0, arena.size());
+        assertEquals(3, arena.capacity());
+    }
+
+    @Test
+    public void clear() {
+        MonsterArena arena = new MonsterArena();
+        long handle = arena.spawn(LegendBuilder.exampleMonster());
+        arena.add(LegendBuilder.exampleMonster());
+        arena.clear();
+        assertEquals(0, arena.size());
+        assertFalse(arena.isLive(handle));
+        assertThrows(UnsupportedOperationException.class, () -> arena.add(5, LegendBuilder.exampleMonster()));
+    }
+}
@@ -0,0 +1,71 @@
+package test.legends;
+
+import main.legends.Dragon;
+import main.legends.LegendList;
+import main.legends.Monster;
+import main.legends.MonsterTemplate;
+import main.legends.MonsterType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestMonsterTemplate
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestMonsterTemplate {
+    @Test
+    public void spawn() {
+        MonsterTemplate template = new MonsterTemplate(MonsterType.DRAGON, "Chrysophylax", 2, 200, 500, 20);
+        Monster monster = template.spawn();
+        assertTrue(monster instanceof Dragon);
+        assertSame(template, monster.getTemplate());
+        assertEquals("Chrysophylax", monster.getName());
+        assertEquals(2, monster.getLevel().getLevel());
+        assertEquals(200, monster.getHealthPower().getHealthPower());
+        assertEquals(200, monster.getDamageAmount());
+        assertEquals(500, monster.getDefenseAmount());
+        assertEquals(20, monster.getAgility().getAbilityValue());
+    }
+
+    @Test
+    public void spawnedMonstersAreIndependent() {
+        MonsterTemplate template = new MonsterTemplate(MonsterType.SPIRIT, "Casper", 1, 100, 100, 100);
+        Monster first = template.spawn();
+        Monster second = template.spawn();
+        assertFalse(first.equals(second));
+        assertTrue(first.equals(first));
+
+        first.getHealthPower().reduceHealthPowerBy(50);
+        first.getDefense().setAbilityValue(10);
+        assertEquals(100, second.getHealthPower().getHealthPower());
+        assertEquals(100, second.getDefense().getAbilityValue());
+        assertEquals(100, template.getDefense());
+    }
+
+    @Test
+    public void unlimitedSpawns() {
+        LegendList roster = new LegendList(Arrays.asList("Undefeated_Yoj"));
+        List<MonsterTemplate> templates = LegendList.getMonsterTemplates();
+        assertEquals(11 + 12 + 12, templates.size());
+
+        for(int i = 0; i < 2 * templates.size(); i++) {
+            assertNotNull(roster.spawnNewMonster());
+        }
+        assertEquals(1 + 2 * templates.size(), roster.getActiveMonsters().size());
+        for(int count : roster.getSpawnCounts()) {
+            assertTrue(count == 2 || count == 3);
+        }
+        for(Monster monster : roster.getActiveMonsters()) {
+            assertFalse(roster.getMonsters().contains(monster)); // never a catalog Monster
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package test.legends;
+
+import main.legends.Hero;
+import main.legends.LegendList;
+import main.legends.Monster;
+import main.legends.MonsterTemplate;
+import main.legends.MonsterType;
+import main.legends.SpawnIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestSpawnIndex
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestSpawnIndex {
+    private static final MonsterTemplate high = new MonsterTemplate(MonsterType.DRAGON, "High", 3, 0, 0, 0);
+    private static final MonsterTemplate low = new MonsterTemplate(MonsterType.SPIRIT, "Low", 1, 0, 0, 0);
+    private static final MonsterTemplate middle = new MonsterTemplate(MonsterType.EXOSKELETON, "Middle", 2, 0, 0, 0);
+    private static final MonsterTemplate otherLow = new MonsterTemplate(MonsterType.DRAGON, "OtherLow", 1, 0, 0, 0);
+
+    private SpawnIndex exampleIndex() {
+        return new SpawnIndex(Arrays.asList(high, low, middle, otherLow));
+    }
+
+    @Test
+    public void candidates() {
+        SpawnIndex index = exampleIndex();
+        assertEquals(0, index.countAtOrBelow(0));
+        assertEquals(2, index.countAtOrBelow(1));
+        assertEquals(3, index.countAtOrBelow(2));
+        assertEquals(4, index.countAtOrBelow(10));
+
+        // Lowest Level first, catalog order within a Level
+        assertEquals(Arrays.asList(low, otherLow, middle), index.candidates(2, 5));
+        assertEquals(Arrays.asList(low), index.candidates(3, 1));
+        assertTrue(index.candidates(0, 3).isEmpty());
+    }
+
+    @Test
+    public void spawnOrder() {
+        SpawnIndex index = exampleIndex();
+        MonsterTemplate[] expected = {low, otherLow, middle, high, low, otherLow};
+        for(MonsterTemplate template : expected) {
+            assertSame(template, index.peekNext());
+            index.recordSpawn(template);
+        }
+        assertEquals(2, index.getCount(low));
+        assertEquals(1, index.getCount(high));
+    }
+
+    @Test
+    public void countsRestoredAndCopied() {
+        SpawnIndex index = exampleIndex();
+        index.recordSpawn(low);
+        index.recordSpawn(otherLow);
+        int[] counts = index.getCounts();
+        SpawnIndex copy = new SpawnIndex(index);
+
+        index.recordSpawn(middle);
+        assertSame(high, index.peekNext());
+        assertSame(middle, copy.peekNext());
+
+        index.setCounts(counts);
+        assertSame(middle, index.peekNext());
+    }
+
+    @Test
+    public void maxHeroLevelFollowsLevelUps() {
+        LegendList roster = new LegendList(Arrays.asList("Undefeated_Yoj", "Garl_Glittergold"));
+        assertEquals(1, roster.getMaxHeroLevel());
+
+        Hero hero = roster.getChosenHeroes().get(1);
+        while(hero.getLevel().getLevel() < 3) {
+            hero.getExperience().increaseExperience(10);
+        }
+        assertEquals(3, roster.getMaxHeroLevel());
+
+        List<Monster> monsters = roster.getCorrespondingMonsters();
+        assertEquals(2, monsters.size());
+        for(Monster monster : monsters) {
+            assertTrue(monster.getLevel().getLevel() <= 3);
+        }
+    }
+}
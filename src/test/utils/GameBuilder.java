@@ -0,0 +1,60 @@
+package test.utils;
+
+import main.GameContext;
+import main.legends.Monster;
+import main.legends.LegendList;
+import main.utils.RandomSource;
+import main.world.TerrainGrid;
+import main.world.TerrainType;
+import main.world.ValorWorld;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class GameBuilder
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class GameBuilder {
+    public static final List<String> exampleHeroes = Arrays.asList("Gaerdal_Ironhand", "Sehanine_Monnbow", "Muamman_Duathall");
+
+    /**
+     *
+     * @return an 8x8 map of plain Cells, with the Nexus rows and the walls between lanes
+     */
+    public static TerrainGrid exampleTerrain() {
+        TerrainGrid terrain = new TerrainGrid(GameContext.valorWorldSize, GameContext.valorWorldSize, TerrainType.PLAIN);
+        terrain.fillRow(0, TerrainType.MONSTER_NEXUS);
+        terrain.fillRow(GameContext.valorWorldSize - 1, TerrainType.HERO_NEXUS);
+        terrain.fillCol(2, TerrainType.NON_ACCESSIBLE);
+        terrain.fillCol(5, TerrainType.NON_ACCESSIBLE);
+        return terrain;
+    }
+
+    /**
+     *
+     * @return an example game of Legends of Valor, played by the example Heroes on the example map
+     */
+    public static GameContext exampleGame() {
+        return GameContext.newValorGame(new LegendList(exampleHeroes), exampleTerrain(), new RandomSource(1));
+    }
+
+    /**
+     * Takes every Monster of the passed in game off the board, so a test can put them where it wants
+     * @param context the game in question
+     * @return the Monsters taken off the board
+     */
+    public static List<Monster> clearMonsters(GameContext context) {
+        List<Monster> monsters = new ArrayList<>(context.getRoster().getActiveMonsters());
+        for(Monster monster : monsters) {
+            ((ValorWorld)context.getWorld()).removeDeadMonster(monster);
+        }
+        return monsters;
+    }
+}
@@ -0,0 +1,128 @@
+package test.utils;
+
+import main.utils.CatalogReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestCatalogReader
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestCatalogReader {
+    private static final String[] abilities = {"Health", "Mana", "Strength"};
+
+    /**
+     * Writes the passed in text to a temporary data file
+     * @param text the contents of the file
+     * @return the file
+     */
+    private File dataFile(String text) throws IOException {
+        File file = File.createTempFile("catalog", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void records() throws IOException {
+        File file = dataFile("Name/cost/level\r\nSword   500\t 1\r\n\r\n  Bow 300 -2");
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine();
+            assertTrue(reader.nextRecord());
+            assertEquals("Sword", reader.nextString());
+            assertEquals(500, reader.nextInt());
+            assertEquals(1, reader.nextInt());
+            assertFalse(reader.hasField());
+
+            assertTrue(reader.nextRecord());
+            assertEquals(4, reader.getLineNumber());
+            assertEquals("Bow", reader.nextString());
+            assertEquals(300, reader.nextInt());
+            assertEquals(-2, reader.nextInt());
+            assertFalse(reader.nextRecord());
+        }
+    }
+
+    @Test
+    public void unreadFieldsSkipped() throws IOException {
+        File file = dataFile("header\nfirst 1 2 3\nsecond 4\n");
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine();
+            assertTrue(reader.nextRecord());
+            assertEquals("first", reader.nextString());
+            assertTrue(reader.nextRecord());
+            assertEquals("second", reader.nextString());
+            assertEquals(4, reader.nextInt());
+            assertFalse(reader.nextRecord());
+        }
+    }
+
+    @Test
+    public void parts() throws IOException {
+        File file = dataFile("header\nElixir 100\t\tAll health/Mana/Luck\nTonic 50 Strength\n");
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine();
+            assertTrue(reader.nextRecord());
+            assertEquals("Elixir", reader.nextString());
+            assertFalse(reader.skipIf("100x"));
+            assertEquals(100, reader.nextInt());
+            assertTrue(reader.skipIf("All"));
+            assertEquals(0, reader.nextPart(abilities));
+            assertTrue(reader.hasMoreParts());
+            assertEquals(1, reader.nextPart(abilities));
+            assertEquals(-1, reader.nextPart(abilities));
+            assertFalse(reader.hasMoreParts());
+
+            assertTrue(reader.nextRecord());
+            assertEquals("Tonic", reader.nextString());
+            assertEquals(50, reader.nextInt());
+            assertFalse(reader.skipIf("All"));
+            assertEquals(2, reader.nextPart(abilities));
+            assertFalse(reader.hasMoreParts());
+        }
+    }
+
+    @Test
+    public void largeFile() throws IOException {
+        // Much bigger than the buffer, so fields straddle refills
+        StringBuilder text = new StringBuilder("header\n");
+        for(int i = 0; i < 50000; i++) {
+            text.append("Name_").append(i).append("   ").append(i).append("\tAll Mana/Health\n");
+        }
+        try(CatalogReader reader = new CatalogReader(dataFile(text.toString()))) {
+            reader.skipLine();
+            int count = 0;
+            while(reader.nextRecord()) {
+                assertEquals("Name_" + count, reader.nextString());
+                assertEquals(count, reader.nextInt());
+                assertTrue(reader.skipIf("All"));
+                assertEquals(1, reader.nextPart(abilities));
+                assertEquals(0, reader.nextPart(abilities));
+                count++;
+            }
+            assertEquals(50000, count);
+        }
+    }
+
+    @Test
+    public void badNumber() throws IOException {
+        File file = dataFile("header\nSword 5x0\n");
+        try(CatalogReader reader = new CatalogReader(file)) {
+            reader.skipLine();
+            reader.nextRecord();
+            reader.nextString();
+            assertThrows(NumberFormatException.class, reader::nextInt);
+        }
+    }
+}
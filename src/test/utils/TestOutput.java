@@ -0,0 +1,120 @@
+package test.utils;
+
+import main.GameContext;
+import main.utils.Output;
+import main.utils.RenderMode;
+import main.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestOutput
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestOutput {
+    @Test
+    public void quietOnlyOnItsThread() throws InterruptedException {
+        RenderMode renderMode = Output.getRenderMode();
+        Output.setRenderMode(RenderMode.FULL);
+        try {
+            boolean[] seenByOtherThread = new boolean[3];
+            Output.setQuiet(true);
+            try {
+                assertNotSame(System.out, Output.out());
+                assertEquals(RenderMode.NONE, Output.getRenderMode());
+
+                Thread other = new Thread(() -> {
+                    seenByOtherThread[0] = Output.isQuiet();
+                    seenByOtherThread[1] = Output.out() == System.out;
+                    seenByOtherThread[2] = Output.getRenderMode() == RenderMode.FULL;
+                });
+                other.start();
+                other.join();
+            } finally {
+                Output.setQuiet(false);
+            }
+            assertFalse(seenByOtherThread[0]);
+            assertTrue(seenByOtherThread[1]);
+            assertTrue(seenByOtherThread[2]);
+
+            assertSame(System.out, Output.out());
+            assertEquals(RenderMode.FULL, Output.getRenderMode());
+        } finally {
+            Output.setRenderMode(renderMode);
+        }
+    }
+
+    @Test
+    public void framesFromSeveralThreadsStayWhole() throws InterruptedException {
+        World full = GameBuilder.exampleGame().getWorld();
+        GameContext cleared = GameBuilder.exampleGame();
+        GameBuilder.clearMonsters(cleared);
+        World empty = cleared.getWorld();
+
+        RenderMode renderMode = Output.getRenderMode();
+        PrintStream stdout = System.out;
+        Output.setRenderMode(RenderMode.FULL);
+        try {
+            String fullFrame = capture(() -> Output.drawWorld(full));
+            String emptyFrame = capture(() -> Output.drawWorld(empty));
+            assertNotEquals(fullFrame, emptyFrame);
+
+            int frames = 50;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(bytes, true));
+            Thread first = new Thread(() -> { for(int i = 0; i < frames; i++) Output.drawWorld(full); });
+            Thread second = new Thread(() -> { for(int i = 0; i < frames; i++) Output.drawWorld(empty); });
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+            System.setOut(stdout);
+
+            String drawn = bytes.toString();
+            int fullCount = 0;
+            int emptyCount = 0;
+            for(int at = 0; at < drawn.length(); ) {
+                if(drawn.startsWith(fullFrame, at)) {
+                    fullCount++;
+                    at += fullFrame.length();
+                } else if(drawn.startsWith(emptyFrame, at)) {
+                    emptyCount++;
+                    at += emptyFrame.length();
+                } else {
+                    fail("Frames were interleaved at offset " + at);
+                }
+            }
+            assertEquals(frames, fullCount);
+            assertEquals(frames, emptyCount);
+        } finally {
+            System.setOut(stdout);
+            Output.setRenderMode(renderMode);
+        }
+    }
+
+    /**
+     * Helper function which captures whatever the passed in drawing writes to System.out
+     * @param draw the drawing to be captured
+     * @return what was drawn
+     */
+    private static String capture(Runnable draw) {
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            draw.run();
+        } finally {
+            System.setOut(stdout);
+        }
+        return bytes.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package test.utils;
+
+import main.utils.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestRandomSource
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestRandomSource {
+    @Test
+    public void sameSeedSameSequence() {
+        RandomSource first = new RandomSource(42);
+        RandomSource second = new RandomSource(42);
+        for(int i = 0; i < 100; i++) {
+            assertEquals(first.nextInt(1000), second.nextInt(1000));
+        }
+    }
+
+    @Test
+    public void splitIsReproducible() {
+        RandomSource first = new RandomSource(42).split();
+        RandomSource second = new RandomSource(42).split();
+        for(int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble());
+        }
+    }
+
+    @Test
+    public void splitIsIndependent() {
+        RandomSource parent = new RandomSource(42);
+        RandomSource child = parent.split();
+        boolean differs = false;
+        for(int i = 0; i < 100; i++) {
+            if(parent.nextInt(1000) != child.nextInt(1000)) {
+                differs = true;
+            }
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    public void bounds() {
+        RandomSource random = new RandomSource(7);
+        for(int i = 0; i < 1000; i++) {
+            int value = random.nextInt(5);
+            assertTrue(value >= 0 && value < 5);
+            double fraction = random.nextDouble();
+            assertTrue(fraction >= 0.0 && fraction < 1.0);
+        }
+    }
+
+    @Test
+    public void shuffleKeepsElements() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+        new RandomSource(3).shuffle(list);
+        assertEquals(6, list.size());
+        for(int i = 1; i <= 6; i++) {
+            assertTrue(list.contains(i));
+        }
+    }
+
+    @Test
+    public void seededDefault() {
+        RandomSource.setSeed(11);
+        int first = RandomSource.getDefault().nextInt(1000000);
+        RandomSource.setSeed(11);
+        assertEquals(first, RandomSource.getDefault().nextInt(1000000));
+    }
+
+    @Test
+    public void invalidBound() {
+        try {
+            new RandomSource().nextInt(0);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+    }
+}
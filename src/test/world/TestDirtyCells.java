@@ -0,0 +1,73 @@
+package test.world;
+
+import main.world.DirtyCells;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestDirtyCells
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestDirtyCells {
+    @Test
+    public void startsAllDirty() {
+        DirtyCells dirtyCells = new DirtyCells(8, 8);
+        assertTrue(dirtyCells.isAllDirty());
+        assertTrue(dirtyCells.isDirty(5, 5));
+
+        dirtyCells.clear();
+        assertFalse(dirtyCells.isAllDirty());
+        assertFalse(dirtyCells.isDirty(5, 5));
+    }
+
+    @Test
+    public void mark() {
+        DirtyCells dirtyCells = new DirtyCells(8, 8);
+        dirtyCells.clear();
+        dirtyCells.mark(2, 3);
+        dirtyCells.mark(7, 0);
+        dirtyCells.mark(2, 3); // marking twice only records the Cell once
+
+        assertEquals(2, dirtyCells.size());
+        assertEquals(2, dirtyCells.getRow(0));
+        assertEquals(3, dirtyCells.getCol(0));
+        assertEquals(7, dirtyCells.getRow(1));
+        assertEquals(0, dirtyCells.getCol(1));
+        assertTrue(dirtyCells.isDirty(2, 3));
+        assertFalse(dirtyCells.isDirty(3, 2));
+
+        dirtyCells.clear();
+        assertEquals(0, dirtyCells.size());
+        assertFalse(dirtyCells.isDirty(2, 3));
+    }
+
+    @Test
+    public void markAll() {
+        DirtyCells dirtyCells = new DirtyCells(4, 4);
+        dirtyCells.clear();
+        dirtyCells.mark(1, 1);
+        dirtyCells.markAll();
+        assertTrue(dirtyCells.isAllDirty());
+        assertEquals(0, dirtyCells.size());
+    }
+
+    @Test
+    public void manyMarks() {
+        DirtyCells dirtyCells = new DirtyCells(10, 10);
+        dirtyCells.clear();
+        for(int row = 0; row < 10; row++) {
+            for(int col = 0; col < 10; col++) {
+                dirtyCells.mark(row, col);
+            }
+        }
+        assertEquals(100, dirtyCells.size());
+        assertEquals(9, dirtyCells.getRow(99));
+        assertEquals(9, dirtyCells.getCol(99));
+    }
+}
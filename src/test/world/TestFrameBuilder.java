@@ -0,0 +1,67 @@
+package test.world;
+
+import main.world.FrameBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestFrameBuilder
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestFrameBuilder {
+    @Test
+    public void writeTo() {
+        FrameBuilder frameBuilder = new FrameBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes);
+
+        frameBuilder.reset().append("\u001B[32m+-----+ ").append('\n');
+        frameBuilder.writeTo(out);
+        assertEquals("\u001B[32m+-----+ \n", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void reset() {
+        FrameBuilder frameBuilder = new FrameBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes);
+
+        frameBuilder.reset().append("first frame");
+        frameBuilder.writeTo(out);
+        bytes.reset();
+
+        frameBuilder.reset().append("second");
+        frameBuilder.writeTo(out);
+        assertEquals("second", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        assertSame(frameBuilder.getFrame(), frameBuilder.reset());
+    }
+
+    @Test
+    public void largeAndNonAsciiFrames() {
+        FrameBuilder frameBuilder = new FrameBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes);
+
+        StringBuilder frame = frameBuilder.reset();
+        for(int i = 0; i < 10000; i++) {
+            frame.append('x');
+        }
+        frameBuilder.writeTo(out);
+        assertEquals(10000, bytes.size());
+
+        bytes.reset();
+        frameBuilder.reset().append("café");
+        frameBuilder.writeTo(out);
+        assertEquals("café", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package test.world;
+
+import main.world.Lane;
+import main.world.PlainCell;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestLane
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestLane {
+    @Test
+    public void contains() {
+        Lane lane = new Lane(1, 3, 2, 8);
+        assertEquals(1, lane.getIndex());
+        assertEquals(3, lane.getFirstCol());
+        assertEquals(4, lane.getLastCol());
+        assertFalse(lane.containsCol(2));
+        assertTrue(lane.containsCol(3));
+        assertTrue(lane.containsCol(4));
+        assertFalse(lane.containsCol(5));
+
+        assertTrue(lane.contains(new PlainCell(7, 4)));
+        assertFalse(lane.contains(new PlainCell(7, 5)));
+        assertFalse(lane.contains(new PlainCell(8, 4)));
+    }
+
+    @Test
+    public void forEachLocation() {
+        Lane lane = new Lane(0, 0, 2, 8);
+        List<String> visited = new ArrayList<>();
+        lane.forEachLocation(6, 10, (row, col) -> visited.add(row + "," + col));
+        assertEquals(Arrays.asList("6,0", "6,1", "7,0", "7,1"), visited);
+    }
+
+    @Test
+    public void cellHashCode() {
+        assertEquals(new PlainCell(2, 3).hashCode(), new PlainCell(2, 3).hashCode());
+        assertEquals(new PlainCell(2, 3), new PlainCell(2, 3));
+    }
+
+    @Test
+    public void invalidLane() {
+        try {
+            new Lane(0, -1, 2, 8);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package test.world;
+
+import main.world.MonsterLaneIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestMonsterLaneIndex
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestMonsterLaneIndex {
+    @Test
+    public void emptyLanes() {
+        MonsterLaneIndex index = new MonsterLaneIndex(3);
+        assertEquals(-1, index.getFarthestRow(0));
+        assertEquals(-1, index.getNearestRow(2));
+        assertEquals(-1, index.getFarthestRowBehind(1, 0));
+        assertFalse(index.anyInRow(7));
+    }
+
+    @Test
+    public void farthestAndNearest() {
+        MonsterLaneIndex index = new MonsterLaneIndex(3);
+        index.add(1, 0);
+        index.add(1, 4);
+        index.add(1, 2);
+        index.add(2, 6);
+
+        assertEquals(4, index.getFarthestRow(1));
+        assertEquals(0, index.getNearestRow(1));
+        assertEquals(4, index.getFarthestRowBehind(1, 3));
+        assertEquals(-1, index.getFarthestRowBehind(1, 4));
+        assertEquals(-1, index.getFarthestRow(0));
+        assertTrue(index.anyInRow(6));
+        assertFalse(index.anyInRow(5));
+    }
+
+    @Test
+    public void sharedRows() {
+        MonsterLaneIndex index = new MonsterLaneIndex(1);
+        index.add(0, 7);
+        index.add(0, 7);
+        assertEquals(2, index.countInRow(0, 7));
+
+        index.remove(0, 7);
+        assertEquals(7, index.getFarthestRow(0));
+        assertTrue(index.anyInRow(7));
+
+        index.remove(0, 7);
+        assertEquals(-1, index.getFarthestRow(0));
+        assertFalse(index.anyInRow(7));
+
+        // Removing a Monster that isn't there does nothing
+        index.remove(0, 3);
+        assertEquals(0, index.countInRow(0, 3));
+    }
+
+    @Test
+    public void invalidSize() {
+        try {
+            new MonsterLaneIndex(-1);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+    }
+}
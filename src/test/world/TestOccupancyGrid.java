@@ -0,0 +1,116 @@
+package test.world;
+
+import main.world.OccupancyGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestOccupancyGrid
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestOccupancyGrid {
+    @Test
+    public void addAndGet() {
+        OccupancyGrid<String> grid = new OccupancyGrid<>(8, 8);
+        assertFalse(grid.isOccupied(3, 4));
+        assertNull(grid.get(3, 4));
+
+        grid.add(3, 4, "hero");
+        assertTrue(grid.isOccupied(3, 4));
+        assertEquals("hero", grid.get(3, 4));
+        assertFalse(grid.isOccupied(4, 3));
+    }
+
+    @Test
+    public void remove() {
+        OccupancyGrid<String> grid = new OccupancyGrid<>(8, 8);
+        grid.add(0, 0, "monster");
+        assertFalse(grid.remove(0, 0, "monster"));
+        assertFalse(grid.isOccupied(0, 0));
+        assertNull(grid.get(0, 0));
+
+        // Removing from an empty Cell does nothing
+        assertFalse(grid.remove(0, 0, "monster"));
+        assertFalse(grid.isOccupied(0, 0));
+    }
+
+    @Test
+    public void sharedCell() {
+        OccupancyGrid<String> grid = new OccupancyGrid<>(8, 8);
+        grid.add(0, 1, "first");
+        grid.add(0, 1, "second");
+        assertEquals("first", grid.get(0, 1));
+
+        // The slot holder leaves, so the caller is asked to refill the slot
+        assertTrue(grid.remove(0, 1, "first"));
+        assertTrue(grid.isOccupied(0, 1));
+        grid.refill(0, 1, "second");
+        assertEquals("second", grid.get(0, 1));
+
+        assertFalse(grid.remove(0, 1, "second"));
+        assertFalse(grid.isOccupied(0, 1));
+    }
+
+    @Test
+    public void largeWorld() {
+        // Only occupied Cells take up space, so a 10,000 x 10,000 grid is cheap
+        OccupancyGrid<String> grid = new OccupancyGrid<>(10000, 10000);
+        grid.add(9999, 9999, "far corner");
+        grid.add(0, 0, "origin");
+        assertEquals("far corner", grid.get(9999, 9999));
+        assertEquals("origin", grid.get(0, 0));
+        assertFalse(grid.isOccupied(5000, 5000));
+    }
+
+    @Test
+    public void manyMovingOccupants() {
+        OccupancyGrid<Integer> grid = new OccupancyGrid<>(20, 20);
+        Map<Integer, Integer> locations = new HashMap<>();
+        Random random = new Random(7);
+        for(int step = 0; step < 5000; step++) {
+            int occupant = random.nextInt(80);
+            Integer previous = locations.remove(occupant);
+            if(previous != null) {
+                assertFalse(grid.remove(previous / 20, previous % 20, occupant));
+            }
+            int location = occupant * 5 + random.nextInt(5); // each occupant has its own five Cells, so none are shared
+            if(random.nextBoolean()) {
+                grid.add(location / 20, location % 20, occupant);
+                locations.put(occupant, location);
+            }
+
+            for(int row = 0; row < 20; row++) {
+                for(int col = 0; col < 20; col++) {
+                    Integer expected = null;
+                    for(Map.Entry<Integer, Integer> entry : locations.entrySet()) {
+                        if(entry.getValue() == row * 20 + col) {
+                            expected = entry.getKey();
+                        }
+                    }
+                    assertEquals(expected, grid.get(row, col));
+                    assertEquals(expected != null, grid.isOccupied(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void invalidSize() {
+        try {
+            new OccupancyGrid<String>(-1, 8);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package test.world;
+
+import main.GameContext;
+import main.utils.RandomSource;
+import main.world.PrebuiltWorldBuilder;
+import main.world.TerrainGrid;
+import main.world.TerrainType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestPrebuiltWorldBuilder
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestPrebuiltWorldBuilder {
+    @Test
+    public void buildsTheGivenTerrain() {
+        TerrainGrid terrain = new TerrainGrid(4, 6, TerrainType.CAVE);
+        PrebuiltWorldBuilder builder = new PrebuiltWorldBuilder(terrain);
+        assertEquals(4, builder.getNumRows());
+        assertEquals(6, builder.getNumCols());
+        assertSame(terrain, builder.run());
+    }
+
+    @Test
+    public void valorTerrainDependsOnlyOnSeed() {
+        TerrainGrid first = GameContext.newValorTerrain(new RandomSource(42));
+        TerrainGrid second = GameContext.newValorTerrain(new RandomSource(42));
+        assertEquals(GameContext.valorWorldSize, first.getNumRows());
+        for(int i = 0; i < first.getNumRows(); i++) {
+            for(int j = 0; j < first.getNumCols(); j++) {
+                assertEquals(first.get(i, j), second.get(i, j));
+            }
+        }
+        assertEquals(TerrainType.MONSTER_NEXUS, first.get(0, 0));
+        assertEquals(TerrainType.HERO_NEXUS, first.get(first.getNumRows() - 1, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package test.world;
+
+import main.world.TerrainGrid;
+import main.world.TerrainType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestTerrainGrid
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestTerrainGrid {
+    @Test
+    public void setAndGet() {
+        TerrainGrid terrain = new TerrainGrid(8, 8, TerrainType.PLAIN);
+        assertEquals(TerrainType.PLAIN, terrain.get(3, 3));
+        assertFalse(terrain.contains(TerrainType.CAVE));
+
+        terrain.set(3, 4, TerrainType.CAVE);
+        assertEquals(TerrainType.CAVE, terrain.get(3, 4));
+        assertEquals(TerrainType.PLAIN, terrain.get(4, 3));
+        assertTrue(terrain.contains(TerrainType.CAVE));
+    }
+
+    @Test
+    public void fillRowAndCol() {
+        TerrainGrid terrain = new TerrainGrid(8, 8, TerrainType.PLAIN);
+        terrain.fillRow(0, TerrainType.MONSTER_NEXUS);
+        terrain.fillCol(2, TerrainType.NON_ACCESSIBLE);
+        for(int i = 0; i < 8; i++) {
+            assertEquals(TerrainType.NON_ACCESSIBLE, terrain.get(i, 2));
+            if(i != 2) {
+                assertEquals(TerrainType.MONSTER_NEXUS, terrain.get(0, i));
+                assertEquals(TerrainType.PLAIN, terrain.get(1, i));
+            }
+        }
+    }
+
+    @Test
+    public void cellViews() {
+        TerrainGrid terrain = new TerrainGrid(4, 4, TerrainType.BUSH);
+        assertEquals(TerrainType.BUSH.cellAt(1, 2), TerrainType.BUSH.cellAt(1, 2));
+        assertEquals(1, TerrainType.BUSH.cellAt(1, 2).getRow());
+        assertEquals(2, TerrainType.BUSH.cellAt(1, 2).getCol());
+        assertFalse(TerrainType.NON_ACCESSIBLE.isAccessible());
+        assertTrue(terrain.get(0, 0).isAccessible());
+        for(TerrainType type : TerrainType.values()) {
+            assertEquals(type, TerrainType.fromCode(type.getCode()));
+        }
+    }
+
+    @Test
+    public void largeWorld() {
+        TerrainGrid terrain = new TerrainGrid(10000, 10000, TerrainType.PLAIN);
+        terrain.set(9999, 9999, TerrainType.KOULOU);
+        assertEquals(TerrainType.KOULOU, terrain.get(9999, 9999));
+    }
+
+    @Test
+    public void invalidSize() {
+        try {
+            new TerrainGrid(-1, 8, TerrainType.PLAIN);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+
+        try {
+            new TerrainGrid(100000, 100000, TerrainType.PLAIN);
+            fail("Should have thrown an IllegalArgumentException!");
+        } catch (IllegalArgumentException e) {
+            // passed
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package test.world;
+
+import main.GameContext;
+import main.legends.Hero;
+import main.legends.Monster;
+import main.world.ValorWorld;
+import org.junit.jupiter.api.Test;
+import test.utils.GameBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class TestValorWorldRange
+ *
+ * @author: Nathan Lauer
+ * @email: lauern@bu.edu
+ * Creation Date: 11/21/20
+ * <p>
+ * Please feel free to ask me any questions. I hope you're having a nice day!
+ */
+public class TestValorWorldRange {
+    private final GameContext context = GameBuilder.exampleGame();
+    private final ValorWorld world = (ValorWorld)context.getWorld();
+    private final List<Hero> heroes = context.getRoster().getChosenHeroes();
+    private final List<Monster> monsters = GameBuilder.clearMonsters(context);
+
+    @Test
+    public void corner() {
+        Hero hero = heroes.get(0); // starts in the bottom left corner
+        assertEquals(7, world.getHeroRow(hero));
+        assertEquals(0, world.getHeroCol(hero));
+        assertEquals(0, world.countMonstersInRange(hero, 1));
+
+        world.setMonsterLocation(monsters.get(0), 6, 1);
+        world.setMonsterLocation(monsters.get(1), 5, 0);
+        assertEquals(1, world.countMonstersInRange(hero, 1));
+        assertEquals(monsters.get(0), world.getMonstersInRange(hero).get(0));
+        assertEquals(2, world.countMonstersInRange(hero, 2));
+
+        world.setHeroLocation(hero, 0, 0);
+        world.setMonsterLocation(monsters.get(0), 1, 1);
+        assertSame(hero, world.firstHeroInRange(monsters.get(0), 1));
+        assertEquals(1, world.countHeroesInRange(monsters.get(0), 1));
+    }
+
+    @Test
+    public void edge() {
+        Hero hero = heroes.get(1); // starts on the bottom edge
+        assertEquals(7, world.getHeroRow(hero));
+        assertEquals(3, world.getHeroCol(hero));
+
+        world.setMonsterLocation(monsters.get(0), 6, 4);
+        world.setMonsterLocation(monsters.get(1), 7, 4);
+        world.setMonsterLocation(monsters.get(2), 6, 3);
+        assertEquals(3, world.countMonstersInRange(hero, 1));
+        assertEquals(3, world.getMonstersInRange(hero).size());
+
+        // The radius reaches past every edge
+        assertEquals(3, world.countMonstersInRange(hero, 10));
+        assertEquals(3, world.countHeroesInRange(monsters.get(0), 10));
+    }
+
+    @Test
+    public void laneWalls() {
+        Hero hero = heroes.get(0);
+        world.setHeroLocation(hero, 4, 1);
+        world.setMonsterLocation(monsters.get(0), 4, 3); // the wall is in col 2
+        assertEquals(0, world.countMonstersInRange(hero, 1));
+        assertNull(world.firstHeroInRange(monsters.get(0), 1));
+        assertTrue(world.getHeroesInRange(monsters.get(0)).isEmpty());
+
+        assertEquals(1, world.countMonstersInRange(hero, 2));
+        assertSame(hero, world.firstHeroInRange(monsters.get(0), 2));
+    }
+
+    @Test
+    public void visitingOrder() {
+        world.setMonsterLocation(monsters.get(0), 4, 4);
+        world.setHeroLocation(heroes.get(0), 5, 3);
+        world.setHeroLocation(heroes.get(1), 3, 4);
+        List<Hero> visited = new ArrayList<>();
+        world.forEachHeroInRange(monsters.get(0), 1, visited::add);
+        assertEquals(2, visited.size());
+        assertSame(heroes.get(1), visited.get(0)); // top row first
+        assertSame(heroes.get(1), world.firstHeroInRange(monsters.get(0), 1));
+        assertThrows(IllegalArgumentException.class, () -> world.countHeroesInRange(monsters.get(0), -1));
+    }
+}